@@ -0,0 +1,67 @@
+package me.bang9.api.global.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.bang9.api.user.dto.res.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 유저 목록 응답(Bang9Response) JSON 직렬화 비용 측정
+ * Spring MVC 기본 설정과 동일한 ObjectMapper(Jackson2ObjectMapperBuilder)를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Bang9ResponseSerializationBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int userCount;
+
+    private ObjectMapper objectMapper;
+    private Bang9Response<List<UserResponse>> listResponse;
+    private Bang9Response<CursorPageResponse<UserResponse>> pageResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<UserResponse> users = IntStream.range(0, userCount)
+                .mapToObj(i -> new UserResponse(
+                        UUID.randomUUID(),
+                        "user" + i + "@example.com",
+                        "user" + i,
+                        "USER",
+                        "EMAIL",
+                        Set.of("기관 A", "기관 B")
+                ))
+                .toList();
+
+        listResponse = Bang9Response.onSuccess("COMMON-200", "Request was successful", users);
+        pageResponse = Bang9Response.onSuccess("COMMON-200", "Request was successful",
+                new CursorPageResponse<>(users, "bmV4dC1jdXJzb3I", true));
+    }
+
+    @Benchmark
+    public byte[] userList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listResponse);
+    }
+
+    @Benchmark
+    public byte[] userPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+}
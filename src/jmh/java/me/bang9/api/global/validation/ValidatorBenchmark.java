@@ -0,0 +1,80 @@
+package me.bang9.api.global.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 회원가입/수정 요청마다 실행되는 비밀번호/닉네임 검증 비용 측정
+ * 기존 정규식 방식(String.matches, 사전 컴파일 Pattern)과 현재 스캐너 방식을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+
+    private static final String PASSWORD_REGEX =
+            "^(?=.*[a-zA-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$";
+    private static final String NICKNAME_REGEX = "^[a-zA-Z][a-zA-Z0-9._]{0,19}$";
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile(PASSWORD_REGEX);
+    private static final Pattern NICKNAME_PATTERN = Pattern.compile(NICKNAME_REGEX);
+
+    @Param({"valid", "invalid"})
+    private String input;
+
+    private final ValidPasswordValidator passwordValidator = new ValidPasswordValidator();
+    private final ValidNicknameValidator nicknameValidator = new ValidNicknameValidator();
+
+    private String password;
+    private String nickname;
+
+    @Setup
+    public void setUp() {
+        if ("valid".equals(input)) {
+            password = "password123!";
+            nickname = "Poby_the.great";
+        } else {
+            // 마지막 문자에서 실패하는 최악의 경우
+            password = "passwordpassword1234#";
+            nickname = "Poby_the.great_name-";
+        }
+    }
+
+    @Benchmark
+    public boolean password() {
+        return passwordValidator.isValid(password, null);
+    }
+
+    @Benchmark
+    public boolean nickname() {
+        return nicknameValidator.isValid(nickname, null);
+    }
+
+    @Benchmark
+    public boolean passwordStringMatches() {
+        return password.matches(PASSWORD_REGEX);
+    }
+
+    @Benchmark
+    public boolean passwordPrecompiledPattern() {
+        return PASSWORD_PATTERN.matcher(password).matches();
+    }
+
+    @Benchmark
+    public boolean nicknameStringMatches() {
+        return nickname.matches(NICKNAME_REGEX);
+    }
+
+    @Benchmark
+    public boolean nicknamePrecompiledPattern() {
+        return NICKNAME_PATTERN.matcher(nickname).matches();
+    }
+}
@@ -0,0 +1,66 @@
+package me.bang9.api.user.dto.res;
+
+import me.bang9.api.user.entity.AgencyEntity;
+import me.bang9.api.user.entity.UserEntity;
+import me.bang9.api.user.model.Provider;
+import me.bang9.api.user.model.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * UserEntity -> UserResponse 변환 비용 측정 (소속 기관 수별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserResponseBenchmark {
+
+    @Param({"0", "3", "10"})
+    private int agencyCount;
+
+    private UserEntity user;
+    private Set<String> agencyNames;
+
+    @Setup
+    public void setUp() {
+        user = new UserEntity();
+        user.setId(UUID.randomUUID());
+        user.setEmail("user@example.com");
+        user.setPassword("encodedPassword");
+        user.setNickname("Poby");
+        user.setRole(UserRole.USER);
+        user.setProvider(Provider.EMAIL);
+
+        for (int i = 0; i < agencyCount; i++) {
+            AgencyEntity agency = new AgencyEntity();
+            agency.setId(UUID.randomUUID());
+            agency.setName("기관 " + i);
+            user.getMemberAgencyList().add(agency);
+        }
+
+        agencyNames = user.getMemberAgencyList().stream()
+                .map(AgencyEntity::getName)
+                .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public UserResponse ofEntity() {
+        return UserResponse.of(user);
+    }
+
+    @Benchmark
+    public UserResponse ofEntityWithAgencyNames() {
+        return UserResponse.of(user, agencyNames);
+    }
+}
@@ -0,0 +1,16 @@
+package me.bang9.api.global.api;
+
+import java.util.List;
+
+/**
+ * 커서 기반(keyset) 페이지 응답
+ * @param content 현재 페이지 데이터
+ * @param nextCursor 다음 페이지 조회용 커서 (마지막 페이지인 경우 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -1,6 +1,5 @@
 package me.bang9.api.global.api.code.status;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import me.bang9.api.global.api.code.BaseErrorCode;
 import me.bang9.api.global.api.code.ErrorReasonDto;
@@ -11,34 +10,40 @@ import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @Getter
-@AllArgsConstructor
 public enum AgencyErrorStatus implements BaseErrorCode {
 
     AGENCY_NOT_FOUND(NOT_FOUND, "AGENCY-404", "Agency not found"),
     INVALID_REPRESENTATIVE(BAD_REQUEST, "AGENCY-400-01", "Invalid representative user"),
     DUPLICATE_AGENCY_EMAIL(CONFLICT, "AGENCY-409", "Agency email already exists"),
-    AGENCY_CREATION_FAILED(BAD_REQUEST, "AGENCY-400-02", "Agency creation failed");
+    AGENCY_CREATION_FAILED(BAD_REQUEST, "AGENCY-400-02", "Agency creation failed"),
+    INVALID_COORDINATES(BAD_REQUEST, "AGENCY-400-03", "Invalid coordinates"),
+    INVALID_VIEWPORT(BAD_REQUEST, "AGENCY-400-04", "Invalid viewport"),
+    INVALID_SEARCH_QUERY(BAD_REQUEST, "AGENCY-400-05", "Invalid search query"),
+    INVALID_SEARCH_CURSOR(BAD_REQUEST, "AGENCY-400-06", "Invalid search cursor");
 
     private final HttpStatus httpStatus;
     private final String code;
     private final String message;
 
+    // 불변 응답 사유는 상수마다 한 번만 생성하여 재사용
+    private final ErrorReasonDto reason;
+    private final ErrorReasonDto reasonHttpStatus;
+
+    AgencyErrorStatus(HttpStatus httpStatus, String code, String message) {
+        this.httpStatus = httpStatus;
+        this.code = code;
+        this.message = message;
+        this.reason = new ErrorReasonDto(false, code, message);
+        this.reasonHttpStatus = new ErrorReasonDto(httpStatus, false, code, message);
+    }
+
     @Override
     public ErrorReasonDto getReason() {
-        return new ErrorReasonDto(
-                false,
-                code,
-                message
-        );
+        return reason;
     }
 
     @Override
     public ErrorReasonDto getReasonHttpStatus() {
-        return new ErrorReasonDto(
-                httpStatus,
-                false,
-                code,
-                message
-        );
+        return reasonHttpStatus;
     }
 }
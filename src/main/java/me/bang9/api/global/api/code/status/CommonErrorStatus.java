@@ -1,26 +1,28 @@
 package me.bang9.api.global.api.code.status;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import me.bang9.api.global.api.code.BaseErrorCode;
 import me.bang9.api.global.api.code.ErrorReasonDto;
 import org.springframework.http.HttpStatus;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 @Getter
-@AllArgsConstructor
 public enum CommonErrorStatus implements BaseErrorCode {
 
     _BAD_REQUEST(BAD_REQUEST, "COMMON-400", "Bad Request"),
     _UNAUTHORIZED(UNAUTHORIZED, "COMMON-401", "Unauthorized"),
     _FORBIDDEN(FORBIDDEN, "COMMON-403", "Forbidden"),
     _NOT_FOUND(NOT_FOUND, "COMMON-404", "Not Found"),
+    _CONFLICT(CONFLICT, "COMMON-409", "Conflict"),
+    _TOO_MANY_REQUESTS(TOO_MANY_REQUESTS, "COMMON-429", "Too Many Requests"),
     _INTERNAL_SERVER_ERROR(INTERNAL_SERVER_ERROR, "COMMON-500", "Internal Server Error"),
     _SERVICE_UNAVAILABLE(SERVICE_UNAVAILABLE, "COMMON-503", "Service Unavailable"),
 
@@ -30,22 +32,25 @@ public enum CommonErrorStatus implements BaseErrorCode {
     private final String code;
     private final String message;
 
+    // 불변 응답 사유는 상수마다 한 번만 생성하여 재사용
+    private final ErrorReasonDto reason;
+    private final ErrorReasonDto reasonHttpStatus;
+
+    CommonErrorStatus(HttpStatus httpStatus, String code, String message) {
+        this.httpStatus = httpStatus;
+        this.code = code;
+        this.message = message;
+        this.reason = new ErrorReasonDto(false, code, message);
+        this.reasonHttpStatus = new ErrorReasonDto(httpStatus, false, code, message);
+    }
+
     @Override
     public ErrorReasonDto getReason() {
-        return new ErrorReasonDto(
-                false,
-                code,
-                message
-        );
+        return reason;
     }
 
     @Override
     public ErrorReasonDto getReasonHttpStatus() {
-        return new ErrorReasonDto(
-                httpStatus,
-                false,
-                code,
-                message
-        );
+        return reasonHttpStatus;
     }
 }
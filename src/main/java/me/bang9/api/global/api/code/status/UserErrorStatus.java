@@ -1,6 +1,5 @@
 package me.bang9.api.global.api.code.status;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import me.bang9.api.global.api.code.BaseErrorCode;
 import me.bang9.api.global.api.code.ErrorReasonDto;
@@ -11,35 +10,40 @@ import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @Getter
-@AllArgsConstructor
 public enum UserErrorStatus implements BaseErrorCode {
 
     USER_NOT_FOUND(NOT_FOUND, "USER-404", "User not found"),
     DUPLICATE_EMAIL(CONFLICT, "USER-409-01", "Email already exists"),
     DUPLICATE_NICKNAME(CONFLICT, "USER-409-02", "Nickname already exists"),
     INVALID_PASSWORD(BAD_REQUEST, "USER-400-01", "Invalid password format"),
-    INVALID_USER_ROLE(BAD_REQUEST, "USER-400-02", "Invalid user role");
+    INVALID_USER_ROLE(BAD_REQUEST, "USER-400-02", "Invalid user role"),
+    INVALID_CURSOR(BAD_REQUEST, "USER-400-03", "Invalid cursor"),
+    INVALID_IMPORT_ROW(BAD_REQUEST, "USER-400-04", "Invalid import row"),
+    INVALID_NICKNAME(BAD_REQUEST, "USER-400-05", "Invalid nickname");
 
     private final HttpStatus httpStatus;
     private final String code;
     private final String message;
 
+    // 불변 응답 사유는 상수마다 한 번만 생성하여 재사용
+    private final ErrorReasonDto reason;
+    private final ErrorReasonDto reasonHttpStatus;
+
+    UserErrorStatus(HttpStatus httpStatus, String code, String message) {
+        this.httpStatus = httpStatus;
+        this.code = code;
+        this.message = message;
+        this.reason = new ErrorReasonDto(false, code, message);
+        this.reasonHttpStatus = new ErrorReasonDto(httpStatus, false, code, message);
+    }
+
     @Override
     public ErrorReasonDto getReason() {
-        return new ErrorReasonDto(
-                false,
-                code,
-                message
-        );
+        return reason;
     }
 
     @Override
     public ErrorReasonDto getReasonHttpStatus() {
-        return new ErrorReasonDto(
-                httpStatus,
-                false,
-                code,
-                message
-        );
+        return reasonHttpStatus;
     }
 }
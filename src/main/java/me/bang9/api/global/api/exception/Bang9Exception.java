@@ -3,14 +3,34 @@ package me.bang9.api.global.api.exception;
 import me.bang9.api.global.api.code.BaseErrorCode;
 import me.bang9.api.global.api.code.ErrorReasonDto;
 
+/**
+ * 도메인 예외 (BaseErrorCode 로 응답 코드/메시지 결정)
+ * 4xx는 존재하지 않는 ID 조회처럼 예상 가능한 실패이므로 기본적으로 스택 트레이스를 수집하지 않는다.
+ * 5xx는 원인 추적이 필요하므로 항상 수집하며, 디버깅 시 bang9.exception.stack-trace=true 로 4xx도 수집할 수 있다.
+ */
 public class Bang9Exception extends RuntimeException {
 
+    private static volatile boolean stackTraceEnabled = false;
+
     private final BaseErrorCode code;
 
     public Bang9Exception(BaseErrorCode code) {
+        super(code.getReason().getMessage(), null, false,
+                stackTraceEnabled || code.getReasonHttpStatus().getHttpStatus().is5xxServerError());
         this.code = code;
     }
 
+    /**
+     * 4xx 예외의 스택 트레이스 수집 여부 (ExceptionConfig가 bang9.exception.stack-trace 값으로 설정)
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    public BaseErrorCode getCode() {
+        return this.code;
+    }
+
     public ErrorReasonDto getErrorReasonHttpStatus() {
         return this.code.getReasonHttpStatus();
     }
@@ -0,0 +1,59 @@
+package me.bang9.api.global.api.exception;
+
+import me.bang9.api.global.api.code.BaseErrorCode;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._CONFLICT;
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._INTERNAL_SERVER_ERROR;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_EMAIL;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_NICKNAME;
+
+/**
+ * DB 제약 조건 위반을 도메인 에러 코드로 변환
+ * 중복 검사를 별도 SELECT 없이 unique 제약 조건(V2__user-agency.sql)에 맡기기 위해 사용한다.
+ * 클라이언트가 해결할 수 있는 unique 위반(SQLState 23505)만 409로 변환하고,
+ * NOT NULL/FK/CHECK 위반처럼 서버 버그를 뜻하는 위반은 500으로 응답한다.
+ */
+public final class ConstraintViolationTranslator {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private static final Map<String, BaseErrorCode> CONSTRAINT_ERROR_CODES = Map.of(
+            "uc_user_email", DUPLICATE_EMAIL,
+            "uc_user_nickname", DUPLICATE_NICKNAME
+    );
+
+    private ConstraintViolationTranslator() {
+    }
+
+    public static BaseErrorCode translate(DataIntegrityViolationException exception) {
+        if (!isUniqueViolation(exception)) {
+            return _INTERNAL_SERVER_ERROR;
+        }
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String constraintName = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                return CONSTRAINT_ERROR_CODES.entrySet().stream()
+                        .filter(entry -> constraintName.contains(entry.getKey()))
+                        .map(Map.Entry::getValue)
+                        .findFirst()
+                        .orElse(_CONFLICT);
+            }
+        }
+        return _CONFLICT;
+    }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
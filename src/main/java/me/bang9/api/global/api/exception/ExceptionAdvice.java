@@ -1,12 +1,22 @@
 package me.bang9.api.global.api.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.bang9.api.global.api.Bang9Response;
+import me.bang9.api.global.api.code.BaseErrorCode;
 import me.bang9.api.global.api.code.ErrorReasonDto;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
@@ -14,22 +24,73 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.io.UncheckedIOException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static me.bang9.api.global.api.code.status.CommonErrorStatus.VALIDATION_ERROR;
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._SERVICE_UNAVAILABLE;
 
 @Slf4j
+@RequiredArgsConstructor
 @RestControllerAdvice(annotations = {RestController.class})
 public class ExceptionAdvice extends ResponseEntityExceptionHandler {
 
+    private static final String ERROR_METRIC_NAME = "bang9.errors";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final ObjectMapper objectMapper;
+
+    // BaseErrorCode 별 실패 응답 본문 (코드/메시지가 고정이므로 한 번만 직렬화)
+    private final Map<BaseErrorCode, byte[]> failureBodies = new ConcurrentHashMap<>();
+
     @ExceptionHandler(Bang9Exception.class)
-    public ResponseEntity<Bang9Response<Void>> onThrowException(Bang9Exception bang9Exception, HttpServletRequest request) {
+    public ResponseEntity<byte[]> onThrowException(Bang9Exception bang9Exception, HttpServletRequest request) {
 
         ErrorReasonDto e = bang9Exception.getErrorReasonHttpStatus();
 
-        log.error("Bang9Exception[{}] occurred: {}", e.getCode(), e.getMessage());
+        // 존재하지 않는 ID 조회 등 예상 가능한 4xx 는 debug, 5xx 만 error
+        if (e.getHttpStatus().is5xxServerError()) {
+            log.error("Bang9Exception[{}] occurred: {}", e.getCode(), e.getMessage(), bang9Exception);
+        } else {
+            log.debug("Bang9Exception[{}] occurred: {}", e.getCode(), e.getMessage());
+        }
+        countError(e.getCode(), e.getHttpStatus());
+
+        return failureResponse(bang9Exception.getCode());
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<byte[]> onDataIntegrityViolation(DataIntegrityViolationException exception, HttpServletRequest request) {
+
+        BaseErrorCode errorCode = ConstraintViolationTranslator.translate(exception);
+        ErrorReasonDto e = errorCode.getReasonHttpStatus();
+
+        if (e.getHttpStatus().is5xxServerError()) {
+            log.error("Constraint violation[{}] occurred: {}", e.getCode(), exception.getMostSpecificCause().getMessage(), exception);
+        } else {
+            log.warn("Constraint violation[{}] occurred: {}", e.getCode(), exception.getMostSpecificCause().getMessage());
+        }
+        countError(e.getCode(), e.getHttpStatus());
+
+        return failureResponse(errorCode);
+    }
+
+    /**
+     * 커넥션 풀 대기 시간 초과 (가상 스레드 모드에서 풀이 동시성 제한에 도달한 경우)
+     * SQLTransientConnectionException 은 checked 예외이므로 원인(cause)으로 감싸진 경우에 매칭된다.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, SQLTransientConnectionException.class})
+    public ResponseEntity<byte[]> onConnectionUnavailable(Exception exception, HttpServletRequest request) {
+
+        ErrorReasonDto e = _SERVICE_UNAVAILABLE.getReasonHttpStatus();
 
-        return Bang9Response.onFailure(e.getCode(), e.getMessage(), e.getHttpStatus()).toResponseEntity();
+        log.warn("Database connection unavailable[{}]: {}", e.getCode(), exception.getMessage());
+        countError(e.getCode(), e.getHttpStatus());
+
+        return failureResponse(_SERVICE_UNAVAILABLE);
     }
 
     @Override
@@ -41,10 +102,40 @@ public class ExceptionAdvice extends ResponseEntityExceptionHandler {
                 .collect(Collectors.joining(", "));
 
         log.warn("Validation failed: {}", errorMessage);
+        countError(VALIDATION_ERROR.getCode(), VALIDATION_ERROR.getHttpStatus());
 
         ResponseEntity<Bang9Response<Void>> apiResponse = Bang9Response.onFailure(VALIDATION_ERROR.getCode(), errorMessage, VALIDATION_ERROR.getHttpStatus()).toResponseEntity();
         return ResponseEntity.status(apiResponse.getStatusCode())
                 .headers(headers)
                 .body(apiResponse.getBody());
     }
+
+    /**
+     * 미리 직렬화한 Bang9Response 실패 본문으로 응답 (Bang9Response.onFailure 와 같은 JSON)
+     */
+    private ResponseEntity<byte[]> failureResponse(BaseErrorCode errorCode) {
+        ErrorReasonDto e = errorCode.getReasonHttpStatus();
+        byte[] body = failureBodies.computeIfAbsent(errorCode, code -> {
+            try {
+                return objectMapper.writeValueAsBytes(Bang9Response.onFailure(e.getCode(), e.getMessage(), e.getHttpStatus()));
+            } catch (JsonProcessingException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+
+        return ResponseEntity.status(e.getHttpStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * BaseErrorCode별 에러 응답 수 (bang9.errors{code, status})
+     */
+    private void countError(String code, HttpStatus httpStatus) {
+        meterRegistryProvider.ifAvailable(meterRegistry -> meterRegistry.counter(
+                ERROR_METRIC_NAME,
+                "code", code,
+                "status", String.valueOf(httpStatus.value())
+        ).increment());
+    }
 }
@@ -0,0 +1,66 @@
+package me.bang9.api.global.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine AsyncCache 공통 조회/제거 방식 (UserResponseCache, AgencyTileCache)
+ * <p>
+ * 로더(JDBC 조회)는 ConcurrentHashMap.compute의 락(synchronized) 밖에서 호출 스레드가 직접 실행한다.
+ * Cache.get(key, loader)처럼 락 안에서 블로킹 I/O를 수행하면 가상 스레드가 캐리어 스레드에 고정(pinning)되기 때문이다.
+ * 같은 키의 동시 요청은 먼저 등록된 future를 기다린다.
+ */
+public final class AsyncLoadingSupport {
+
+    private AsyncLoadingSupport() {
+    }
+
+    /**
+     * 캐시에 값이 없으면 호출 스레드에서 loader를 실행하여 채운 뒤 반환
+     * 로더 예외는 그대로 던지며, 실패한 future는 캐시에서 자동으로 제거된다.
+     */
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+
+        if (future == created) {
+            try {
+                created.complete(loader.get());
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 즉시 제거하고, 트랜잭션 안에서 호출된 경우 커밋 이후에 한 번 더 제거
+     * 커밋 전에 다른 요청이 이전 상태의 값을 다시 캐싱하는 경우를 방지한다.
+     */
+    public static void invalidateNowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package me.bang9.api.global.config;
+
+import me.bang9.api.global.api.exception.Bang9Exception;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bang9Exception 스택 트레이스 수집 설정
+ * 예외는 스프링 빈이 아니므로 기동 시 bang9.exception.stack-trace 값을 정적 설정으로 전달한다.
+ */
+@Configuration
+public class ExceptionConfig {
+
+    public ExceptionConfig(@Value("${bang9.exception.stack-trace:false}") boolean stackTraceEnabled) {
+        Bang9Exception.setStackTraceEnabled(stackTraceEnabled);
+    }
+}
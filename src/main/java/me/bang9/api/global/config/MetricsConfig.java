@@ -0,0 +1,37 @@
+package me.bang9.api.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import me.bang9.api.global.metrics.StatementCountInspector;
+import me.bang9.api.global.metrics.StatementCountInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 단위 SQL 실행 횟수 메트릭 설정
+ * Hikari 커넥션 풀, Hibernate 통계, HTTP 요청, @Timed 메트릭은 Spring Boot Actuator 자동 설정으로 등록된다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountInspector());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // MeterRegistry가 없는 슬라이스 테스트(@WebMvcTest)에서는 등록하지 않음
+        meterRegistryProvider.ifAvailable(meterRegistry ->
+                registry.addInterceptor(new StatementCountInterceptor(meterRegistry))
+                        .addPathPatterns("/v1/**"));
+    }
+}
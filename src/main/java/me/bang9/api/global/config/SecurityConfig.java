@@ -1,21 +1,47 @@
 package me.bang9.api.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+
+    /**
+     * 새 비밀번호는 bang9.security.password.algorithm(bcrypt | argon2)으로 해싱하고,
+     * 저장된 해시는 {id} prefix로 알고리즘을 판별하여 검증한다.
+     * prefix가 없는 기존 해시는 BCrypt로 간주한다.
+     * Argon2 비용(메모리 KiB, 반복 횟수, 병렬도)의 기본값은 Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8()과 같다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${bang9.security.password.algorithm:bcrypt}") String algorithm,
+            @Value("${bang9.security.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${bang9.security.password.argon2-memory:16384}") int argon2Memory,
+            @Value("${bang9.security.password.argon2-iterations:2}") int argon2Iterations,
+            @Value("${bang9.security.password.argon2-parallelism:1}") int argon2Parallelism) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(algorithm, Map.of(
+                "bcrypt", bcrypt,
+                "argon2", new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, argon2Parallelism, argon2Memory, argon2Iterations)
+        ));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
     }
 
     @Bean
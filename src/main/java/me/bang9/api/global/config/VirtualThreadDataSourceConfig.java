@@ -0,0 +1,36 @@
+package me.bang9.api.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true) 전용 커넥션 풀 설정
+ * 요청 동시성이 Tomcat 스레드 수로 제한되지 않아 커넥션 풀이 사실상의 동시성 제한이 되므로,
+ * 풀 대기(connection-timeout)를 짧게 두고 초과 요청은 빠르게 503(COMMON-503)으로 실패시킨다.
+ * 플랫폼 스레드 모드에서는 Tomcat 스레드 수가 동시성을 제한하므로 Hikari 기본값(30초)을 그대로 둔다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadDataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor virtualThreadConnectionTimeoutPostProcessor(
+            @Value("${bang9.datasource.virtual-threads.connection-timeout:3s}") Duration connectionTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+                }
+                return bean;
+            }
+        };
+    }
+}
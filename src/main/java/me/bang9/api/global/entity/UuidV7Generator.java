@@ -0,0 +1,47 @@
+package me.bang9.api.global.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 생성기 ({@link UuidV7})
+ * <pre>
+ * | unix_ts_ms (48) | ver=7 (4) | counter (12) | var=10 (2) | random (62) |
+ * </pre>
+ * 같은 밀리초 안에서는 12비트 카운터를 증가시키고(RFC 9562 6.2 Method 1), 카운터가 넘치거나 시계가 뒤로 가면
+ * 타임스탬프를 1ms 앞당겨 한 JVM 안에서 생성 순서와 값의 순서가 항상 일치한다.
+ * 하위 62비트는 v4 와 같은 SecureRandom 으로 채워 추측할 수 없다. (생성 시각은 ID 에 드러난다)
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // 마지막으로 발급한 (unix_ts_ms << 12 | counter)
+    private static final AtomicLong LAST = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long sequence = LAST.updateAndGet(last -> Math.max(now, last + 1));
+
+        long mostSigBits = (sequence >>> 12) << 16 | 0x7000L | (sequence & 0xFFFL);
+        long leastSigBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,32 @@
+package me.bang9.api.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 단위 SQL 실행 횟수 집계
+ * Hibernate가 준비(prepare)하는 SQL 수를 현재 스레드에 누적한다.
+ * 집계 구간은 StatementCountInterceptor가 요청 시작/종료 시점에 start()/stop()으로 지정한다.
+ */
+public class StatementCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+}
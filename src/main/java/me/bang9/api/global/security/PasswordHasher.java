@@ -0,0 +1,151 @@
+package me.bang9.api.global.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import me.bang9.api.global.api.exception.Bang9Exception;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._INTERNAL_SERVER_ERROR;
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._SERVICE_UNAVAILABLE;
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._TOO_MANY_REQUESTS;
+
+/**
+ * 비밀번호 해싱 전용 스레드 풀
+ * 해싱(CPU 작업)을 요청 스레드 및 DB 트랜잭션과 분리하고 동시 해싱 수를 제한한다.
+ * 풀과 대기열이 모두 찬 경우 즉시 429(COMMON-429)로 거절한다.
+ * <p>
+ * 제한 시간(timeout)을 넘기면 503(COMMON-503)으로 응답하고 작업을 취소하지만, BCrypt/Argon2 계산은 인터럽트를 확인하지 않으므로
+ * 이미 실행 중인 해싱은 끝까지 CPU를 사용한다. 대기열에서 제한 시간을 넘긴 작업은 시작 전에 마감 시각을 확인하여 해싱하지 않는다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서도 플랫폼 스레드 풀을 유지하여 동시 해싱 수 제한을 보장한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+    private final int poolSize;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${bang9.security.password.hashing.pool-size:4}") int poolSize,
+            @Value("${bang9.security.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${bang9.security.password.hashing.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.poolSize = poolSize;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "passwordHash");
+    }
+
+    public String hash(String rawPassword) {
+        Future<String> future;
+        try {
+            future = executor.submit(encodeTask(rawPassword));
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing pool is saturated");
+            throw new Bang9Exception(_TOO_MANY_REQUESTS);
+        }
+
+        return await(future);
+    }
+
+    /**
+     * 여러 비밀번호를 병렬로 해싱 (입력 순서대로 반환)
+     * 동시에 제출하는 작업을 풀 크기로 제한하여 대기열을 점유하지 않으므로 일반 회원가입 요청이 429로 밀려나지 않는다.
+     * 풀이 포화되어 거절된 작업은 호출 스레드에서 직접 해싱한다 (caller-runs).
+     * 하나라도 실패(타임아웃 등)하면 남은 작업을 취소하고 예외를 그대로 던진다.
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        String[] hashes = new String[rawPasswords.size()];
+        Deque<Map.Entry<Integer, Future<String>>> inFlight = new ArrayDeque<>();
+
+        try {
+            for (int i = 0; i < rawPasswords.size(); i++) {
+                if (inFlight.size() >= poolSize) {
+                    Map.Entry<Integer, Future<String>> oldest = inFlight.poll();
+                    hashes[oldest.getKey()] = await(oldest.getValue());
+                }
+
+                String rawPassword = rawPasswords.get(i);
+                try {
+                    inFlight.add(Map.entry(i, executor.submit(encodeTask(rawPassword))));
+                } catch (RejectedExecutionException e) {
+                    hashes[i] = passwordEncoder.encode(rawPassword);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                Map.Entry<Integer, Future<String>> oldest = inFlight.poll();
+                hashes[oldest.getKey()] = await(oldest.getValue());
+            }
+        } catch (RuntimeException e) {
+            // 결과를 쓰지 않을 나머지 작업이 풀을 계속 점유하지 않도록 취소 (아직 시작하지 않은 작업만 실행되지 않음)
+            inFlight.forEach(entry -> entry.getValue().cancel(true));
+            throw e;
+        }
+
+        return Arrays.asList(hashes);
+    }
+
+    // 제출 시각 + timeout 을 넘겨 시작된 작업은 호출자가 이미 포기했거나 곧 포기하므로 해싱하지 않음
+    private Callable<String> encodeTask(String rawPassword) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        return () -> {
+            if (System.nanoTime() - deadline > 0) {
+                throw new TimeoutException("Password hashing was not started before the deadline");
+            }
+            return passwordEncoder.encode(rawPassword);
+        };
+    }
+
+    private String await(Future<String> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Password hashing timed out after {}", timeout);
+            throw new Bang9Exception(_SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Bang9Exception(_INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn("Password hashing was not started within {}", timeout);
+                throw new Bang9Exception(_SERVICE_UNAVAILABLE);
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -3,10 +3,13 @@ package me.bang9.api.global.validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+/**
+ * 닉네임 검증
+ * 기존 정규식 ^[a-zA-Z][a-zA-Z0-9._]{0,19}$ 와 동일한 규칙을 한 번의 문자 순회로 검사한다.
+ */
 public class ValidNicknameValidator implements ConstraintValidator<ValidNickname, String> {
 
-    private static final String NICKNAME_PATTERN = 
-        "^[a-zA-Z][a-zA-Z0-9._]{0,19}$";
+    private static final int MAX_LENGTH = 20;
 
     @Override
     public void initialize(ValidNickname constraintAnnotation) {
@@ -15,10 +18,29 @@ public class ValidNicknameValidator implements ConstraintValidator<ValidNickname
 
     @Override
     public boolean isValid(String nickname, ConstraintValidatorContext context) {
-        if (nickname == null) {
+        return isValidNickname(nickname);
+    }
+
+    public static boolean isValidNickname(String nickname) {
+        if (nickname == null || nickname.isEmpty() || nickname.length() > MAX_LENGTH) {
+            return false;
+        }
+
+        if (!isAsciiLetter(nickname.charAt(0))) {
             return false;
         }
-        
-        return nickname.matches(NICKNAME_PATTERN);
+
+        for (int i = 1; i < nickname.length(); i++) {
+            char c = nickname.charAt(i);
+            if (!isAsciiLetter(c) && !(c >= '0' && c <= '9') && c != '.' && c != '_') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,14 @@ package me.bang9.api.global.validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+/**
+ * 비밀번호 검증
+ * 기존 정규식 ^(?=.*[a-zA-Z])(?=.*\d)(?=.*[@$!%*?&])[A-Za-z\d@$!%*?&]{8,}$ 와 동일한 규칙을
+ * 정규식 컴파일/백트래킹 없이 한 번의 문자 순회로 검사한다.
+ */
 public class ValidPasswordValidator implements ConstraintValidator<ValidPassword, String> {
 
-    private static final String PASSWORD_PATTERN = 
-        "^(?=.*[a-zA-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$";
+    private static final int MIN_LENGTH = 8;
 
     @Override
     public void initialize(ValidPassword constraintAnnotation) {
@@ -15,10 +19,42 @@ public class ValidPasswordValidator implements ConstraintValidator<ValidPassword
 
     @Override
     public boolean isValid(String password, ConstraintValidatorContext context) {
-        if (password == null) {
+        return isValidPassword(password);
+    }
+
+    public static boolean isValidPassword(String password) {
+        if (password == null || password.length() < MIN_LENGTH) {
             return false;
         }
-        
-        return password.matches(PASSWORD_PATTERN);
+
+        boolean hasLetter = false;
+        boolean hasDigit = false;
+        boolean hasSpecial = false;
+
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (isAsciiLetter(c)) {
+                hasLetter = true;
+            } else if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else if (isSpecial(c)) {
+                hasSpecial = true;
+            } else {
+                return false;
+            }
+        }
+
+        return hasLetter && hasDigit && hasSpecial;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isSpecial(char c) {
+        return switch (c) {
+            case '@', '$', '!', '%', '*', '?', '&' -> true;
+            default -> false;
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,331 @@
+package me.bang9.api.user.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import me.bang9.api.global.api.Bang9Response;
+import me.bang9.api.global.api.CursorPageResponse;
+import me.bang9.api.user.dto.req.AgencyCreateRequest;
+import me.bang9.api.user.dto.req.AgencyMembersRequest;
+import me.bang9.api.user.dto.req.AgencyUpdateRequest;
+import me.bang9.api.user.dto.res.AgencyClusterResponse;
+import me.bang9.api.user.dto.res.AgencyMembersResponse;
+import me.bang9.api.user.dto.res.AgencyResponse;
+import me.bang9.api.user.dto.res.AgencySearchResponse;
+import me.bang9.api.user.dto.res.NearbyAgencyResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AgencyApiDocs {
+    @Operation(
+            summary = "기관 생성",
+            description = "기관 정보를 생성합니다. 위도/경도는 함께 지정하거나 함께 생략해야 합니다.",
+            requestBody = @RequestBody(
+                    description = "생성 정보",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AgencyCreateRequest.class),
+                            examples = @ExampleObject(
+                                    name = "Agency Creation Example",
+                                    summary = "Example agency creation request",
+                                    value = """
+                                            {
+                                              "name": "방구 보호소",
+                                              "email": "agency@example.com",
+                                              "address": "서울특별시 강남구 테헤란로 1",
+                                              "contact": "02-1234-5678",
+                                              "latitude": 37.4979,
+                                              "longitude": 127.0276
+                                            }
+                                            """
+                            )
+                    )
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "기관 생성 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "입력 정보가 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<AgencyResponse>> createAgency(AgencyCreateRequest request);
+
+    @Operation(
+            summary = "기관 조회",
+            description = "기관 ID로 활성 기관 정보를 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "기관 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "기관을 찾을 수 없음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<AgencyResponse>> getAgency(
+            @Parameter(description = "Agency unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000") UUID agencyId);
+
+    @Operation(
+            summary = "기관 정보 수정",
+            description = "기관 정보를 부분 수정합니다. 전달하지 않은(null) 필드는 변경하지 않으며, 위치는 위도/경도를 함께 전달해야 합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "기관 정보 수정 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "입력 정보가 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "기관을 찾을 수 없음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<AgencyResponse>> updateAgency(
+            @Parameter(description = "Agency unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000") UUID agencyId,
+            AgencyUpdateRequest request);
+
+    @Operation(
+            summary = "기관 삭제",
+            description = "기관을 소프트 삭제합니다. 삭제된 기관은 조회/검색/지도 타일에서 제외됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "기관 삭제 성공",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "기관을 찾을 수 없음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<Void>> softDeleteAgency(
+            @Parameter(description = "Agency unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000") UUID agencyId);
+
+    @Operation(
+            summary = "기관 멤버 일괄 추가",
+            description = "사용자들을 기관 멤버로 한 번에 추가합니다 (최대 1000명). "
+                    + "존재하지 않거나 삭제된 사용자, 이미 멤버인 사용자는 건너뛰며 실제로 추가된 수를 affected로 반환합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "멤버 추가 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "입력 정보가 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "기관을 찾을 수 없음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<AgencyMembersResponse>> addMembers(
+            @Parameter(description = "Agency unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000") UUID agencyId,
+            AgencyMembersRequest request);
+
+    @Operation(
+            summary = "기관 멤버 일괄 제거",
+            description = "사용자들을 기관 멤버에서 한 번에 제거합니다 (최대 1000명). 실제로 제거된 수를 affected로 반환합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "멤버 제거 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "입력 정보가 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "기관을 찾을 수 없음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<AgencyMembersResponse>> removeMembers(
+            @Parameter(description = "Agency unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000") UUID agencyId,
+            AgencyMembersRequest request);
+
+    @Operation(
+            summary = "근처 기관 조회",
+            description = "기준 좌표(위도/경도)에서 가까운 순으로 활성 기관을 조회합니다. 각 기관까지의 거리(m)를 함께 반환합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "근처 기관 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "좌표가 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<List<NearbyAgencyResponse>>> findNearbyAgencies(
+            @Parameter(description = "위도 (-90 ~ 90)", required = true, example = "37.4979") double latitude,
+            @Parameter(description = "경도 (-180 ~ 180)", required = true, example = "127.0276") double longitude,
+            @Parameter(description = "조회할 기관 수 (1 ~ 50)", example = "10") int size);
+
+    @Operation(
+            summary = "기관명 검색",
+            description = "기관명의 일부나 오타가 있는 검색어로 활성 기관을 검색합니다. "
+                    + "검색어를 그대로 포함하는 기관이 먼저, 그 다음 단어 유사도가 높은 기관 순으로 정렬됩니다(score). "
+                    + "다음 페이지는 응답의 nextCursor를 cursor로 전달하여 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "기관 검색 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "검색어(2 ~ 100자) 또는 커서가 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<CursorPageResponse<AgencySearchResponse>>> searchAgencies(
+            @Parameter(description = "검색어 (2 ~ 100자)", required = true, example = "강남 복지관") String query,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)") String cursor,
+            @Parameter(description = "페이지 크기 (1 ~ 50)", example = "20") int size);
+
+    @Operation(
+            summary = "지도 영역 기관 클러스터 조회",
+            description = "지도 화면 영역(bbox)과 줌 레벨에 따라 활성 기관을 격자 단위로 묶어 셀별 개수와 중심 좌표를 반환합니다. "
+                    + "셀에 기관이 하나뿐이면 agencyId를 함께 반환합니다. 응답 크기는 줌 레벨과 무관하게 셀 수로 제한됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "클러스터 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "영역 또는 줌 레벨이 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<List<AgencyClusterResponse>>> findClusters(
+            @Parameter(description = "영역 남쪽 위도", required = true, example = "37.40") double minLatitude,
+            @Parameter(description = "영역 서쪽 경도", required = true, example = "126.80") double minLongitude,
+            @Parameter(description = "영역 북쪽 위도", required = true, example = "37.70") double maxLatitude,
+            @Parameter(description = "영역 동쪽 경도", required = true, example = "127.20") double maxLongitude,
+            @Parameter(description = "줌 레벨 (0 ~ 20)", required = true, example = "12") int zoom);
+
+    @Operation(
+            summary = "지도 타일 기관 클러스터 조회",
+            description = "웹 메르카토르 타일(z/x/y) 영역의 기관 클러스터를 반환합니다. 응답 형식은 클러스터 조회와 같습니다. "
+                    + "타일 응답은 서버에 캐싱되며, ETag로 변경되지 않은 타일은 304로 응답합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "타일 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "타일이 변경되지 않음 (If-None-Match)"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "타일 좌표가 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<byte[]> getClusterTile(
+            @Parameter(description = "줌 레벨 (0 ~ 20)", required = true, example = "12") int z,
+            @Parameter(description = "타일 x 좌표", required = true, example = "3493") int x,
+            @Parameter(description = "타일 y 좌표", required = true, example = "1587") int y,
+            @Parameter(hidden = true) WebRequest webRequest);
+
+    @Operation(
+            summary = "지도 벡터 타일(MVT) 조회",
+            description = "웹 메르카토르 타일(z/x/y) 영역의 활성 기관을 Mapbox Vector Tile(레이어 agencies)로 반환합니다. "
+                    + "16px 격자로 묶인 피처는 point_count 속성을 가지며, 기관이 하나뿐인 피처는 id/name 속성을 함께 가집니다. "
+                    + "ETag로 변경되지 않은 타일은 304로 응답합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "벡터 타일 조회 성공",
+                    content = @Content(mediaType = "application/vnd.mapbox-vector-tile")
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "타일이 변경되지 않음 (If-None-Match)"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "타일 좌표가 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<byte[]> getVectorTile(
+            @Parameter(description = "줌 레벨 (0 ~ 20)", required = true, example = "12") int z,
+            @Parameter(description = "타일 x 좌표", required = true, example = "3493") int x,
+            @Parameter(description = "타일 y 좌표", required = true, example = "1587") int y,
+            @Parameter(hidden = true) WebRequest webRequest);
+}
@@ -1,7 +1,232 @@
 package me.bang9.api.user.controller;
 
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.bang9.api.global.api.Bang9Response;
+import me.bang9.api.global.api.CursorPageResponse;
+import me.bang9.api.user.dto.req.AgencyCreateRequest;
+import me.bang9.api.user.dto.req.AgencyMembersRequest;
+import me.bang9.api.user.dto.req.AgencyUpdateRequest;
+import me.bang9.api.user.dto.res.AgencyClusterResponse;
+import me.bang9.api.user.dto.res.AgencyMembersResponse;
+import me.bang9.api.user.dto.res.AgencyResponse;
+import me.bang9.api.user.dto.res.AgencySearchResponse;
+import me.bang9.api.user.dto.res.AgencyTile;
+import me.bang9.api.user.dto.res.NearbyAgencyResponse;
+import me.bang9.api.user.model.BoundingBox;
+import me.bang9.api.user.model.TileCoordinate;
+import me.bang9.api.user.model.TileFormat;
+import me.bang9.api.user.service.AgencyUseCase;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
+import java.util.UUID;
+
+import static me.bang9.api.global.api.code.status.CommonSuccessStatus._CREATED;
+import static me.bang9.api.global.api.code.status.CommonSuccessStatus._OK;
+
+@Slf4j
 @RestController
-public class AgencyController {
+@RequestMapping("/v1/agencies")
+@RequiredArgsConstructor
+@Tag(name = "Agency Management", description = "Agency search and management API")
+public class AgencyController implements AgencyApiDocs {
+
+    private final AgencyUseCase agencyUseCase;
+
+    @Override
+    @PostMapping
+    public ResponseEntity<Bang9Response<AgencyResponse>> createAgency(@Valid @RequestBody AgencyCreateRequest request) {
+        log.debug("Creating new agency with name: {}", request.name());
+
+        AgencyResponse response = agencyUseCase.createAgency(request);
+
+        return Bang9Response.onSuccess(
+                _CREATED.getCode(),
+                _CREATED.getMessage(),
+                response,
+                HttpStatus.CREATED
+        ).toResponseEntity();
+    }
+
+    @Override
+    @GetMapping("/{agencyId}")
+    public ResponseEntity<Bang9Response<AgencyResponse>> getAgency(@PathVariable UUID agencyId) {
+        log.debug("Getting agency with ID: {}", agencyId);
+
+        AgencyResponse response = agencyUseCase.getAgency(agencyId);
+
+        return Bang9Response.onSuccess(
+                _OK.getCode(),
+                _OK.getMessage(),
+                response
+        ).toResponseEntity();
+    }
+
+    @Override
+    @PatchMapping("/{agencyId}")
+    public ResponseEntity<Bang9Response<AgencyResponse>> updateAgency(
+            @PathVariable UUID agencyId,
+            @Valid @RequestBody AgencyUpdateRequest request) {
+        log.debug("Updating agency with ID: {}", agencyId);
+
+        AgencyResponse response = agencyUseCase.updateAgency(agencyId, request);
+
+        return Bang9Response.onSuccess(
+                _OK.getCode(),
+                _OK.getMessage(),
+                response
+        ).toResponseEntity();
+    }
+
+    @Override
+    @DeleteMapping("/{agencyId}")
+    public ResponseEntity<Bang9Response<Void>> softDeleteAgency(@PathVariable UUID agencyId) {
+        log.debug("Soft deleting agency with ID: {}", agencyId);
+
+        agencyUseCase.softDeleteAgency(agencyId);
+
+        return Bang9Response.onSuccess().toResponseEntity();
+    }
+
+    @Override
+    @PostMapping("/{agencyId}/members")
+    public ResponseEntity<Bang9Response<AgencyMembersResponse>> addMembers(
+            @PathVariable UUID agencyId,
+            @Valid @RequestBody AgencyMembersRequest request) {
+        log.debug("Adding {} members to agency: {}", request.userIds().size(), agencyId);
+
+        AgencyMembersResponse response = agencyUseCase.addMembers(agencyId, request);
+
+        return Bang9Response.onSuccess(
+                _OK.getCode(),
+                _OK.getMessage(),
+                response
+        ).toResponseEntity();
+    }
+
+    @Override
+    @DeleteMapping("/{agencyId}/members")
+    public ResponseEntity<Bang9Response<AgencyMembersResponse>> removeMembers(
+            @PathVariable UUID agencyId,
+            @Valid @RequestBody AgencyMembersRequest request) {
+        log.debug("Removing {} members from agency: {}", request.userIds().size(), agencyId);
+
+        AgencyMembersResponse response = agencyUseCase.removeMembers(agencyId, request);
+
+        return Bang9Response.onSuccess(
+                _OK.getCode(),
+                _OK.getMessage(),
+                response
+        ).toResponseEntity();
+    }
+
+    @Override
+    @GetMapping("/nearby")
+    public ResponseEntity<Bang9Response<List<NearbyAgencyResponse>>> findNearbyAgencies(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "10") int size) {
+        log.debug("Finding {} agencies near ({}, {})", size, latitude, longitude);
+
+        List<NearbyAgencyResponse> agencies = agencyUseCase.findNearbyAgencies(latitude, longitude, size);
+
+        return Bang9Response.onSuccess(
+                _OK.getCode(),
+                _OK.getMessage(),
+                agencies
+        ).toResponseEntity();
+    }
+
+    @Override
+    @GetMapping("/search")
+    public ResponseEntity<Bang9Response<CursorPageResponse<AgencySearchResponse>>> searchAgencies(
+            @RequestParam String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Searching agencies by name: {} after cursor: {}", query, cursor);
+
+        CursorPageResponse<AgencySearchResponse> agencies = agencyUseCase.searchAgencies(query, cursor, size);
+
+        return Bang9Response.onSuccess(
+                _OK.getCode(),
+                _OK.getMessage(),
+                agencies
+        ).toResponseEntity();
+    }
+
+    @Override
+    @GetMapping("/clusters")
+    public ResponseEntity<Bang9Response<List<AgencyClusterResponse>>> findClusters(
+            @RequestParam double minLatitude,
+            @RequestParam double minLongitude,
+            @RequestParam double maxLatitude,
+            @RequestParam double maxLongitude,
+            @RequestParam int zoom) {
+        log.debug("Finding agency clusters in [{}, {}, {}, {}] at zoom {}", minLatitude, minLongitude, maxLatitude, maxLongitude, zoom);
+
+        BoundingBox viewport = new BoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+        List<AgencyClusterResponse> clusters = agencyUseCase.findClusters(viewport, zoom);
+
+        return Bang9Response.onSuccess(
+                _OK.getCode(),
+                _OK.getMessage(),
+                clusters
+        ).toResponseEntity();
+    }
+
+    @Override
+    @GetMapping(value = "/tiles/{z}/{x}/{y}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getClusterTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y,
+            WebRequest webRequest) {
+        AgencyTile tile = agencyUseCase.getClusterTile(new TileCoordinate(z, x, y));
+
+        if (webRequest.checkNotModified(tile.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(tile.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(tile.body());
+    }
+
+    @Override
+    @GetMapping("/tiles/{z}/{x}/{y}.mvt")
+    public ResponseEntity<byte[]> getVectorTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y,
+            WebRequest webRequest) {
+        AgencyTile tile = agencyUseCase.getVectorTile(new TileCoordinate(z, x, y));
+
+        if (webRequest.checkNotModified(tile.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(tile.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.parseMediaType(TileFormat.MVT.getMediaType()))
+                .body(tile.body());
+    }
 }
@@ -9,11 +9,17 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import me.bang9.api.global.api.Bang9Response;
+import me.bang9.api.global.api.CursorPageResponse;
 import me.bang9.api.user.dto.req.UserCreateRequest;
 import me.bang9.api.user.dto.req.UserUpdateRequest;
+import me.bang9.api.user.dto.res.NicknameAvailabilityResponse;
+import me.bang9.api.user.dto.res.UserImportResponse;
 import me.bang9.api.user.dto.res.UserResponse;
+import me.bang9.api.user.dto.res.UserSummaryResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -65,8 +71,136 @@ public interface UserApiDocs {
     ResponseEntity<Bang9Response<UserResponse>> createUser(UserCreateRequest request);
 
     @Operation(
-            summary = "모든 유저 정보 조회",
-            description = "모든 유저 정보를 조회합니다."
+            summary = "유저 일괄 생성",
+            description = "CSV(text/csv) 또는 NDJSON(application/x-ndjson) 본문으로 여러 유저를 한 번에 생성합니다. "
+                    + "본문은 행 단위로 읽으며, 형식/검증 오류나 이메일/닉네임 중복이 있는 행만 실패로 기록하고 나머지 행은 생성합니다. "
+                    + "CSV는 첫 행에 email,password,nickname,provider 헤더가 필요합니다. 응답에 행별 결과를 반환합니다. "
+                    + "처리 도중 해싱 지연/DB 장애/본문 읽기 오류가 나면 중단하고 그때까지의 결과를 aborted=true로 반환합니다 "
+                    + "(중단된 청크의 미처리 행은 해당 에러 코드로 실패 처리되며, 이후 행은 결과에 포함되지 않습니다).",
+            requestBody = @RequestBody(
+                    description = "일괄 생성 정보",
+                    required = true,
+                    content = {
+                            @Content(
+                                    mediaType = "text/csv",
+                                    examples = @ExampleObject(
+                                            name = "CSV Import Example",
+                                            value = """
+                                                    email,password,nickname,provider
+                                                    user1@example.com,password123!,Poby,EMAIL
+                                                    user2@example.com,password123!,Bobby,EMAIL
+                                                    """
+                                    )
+                            ),
+                            @Content(
+                                    mediaType = "application/x-ndjson",
+                                    examples = @ExampleObject(
+                                            name = "NDJSON Import Example",
+                                            value = """
+                                                    {"email": "user1@example.com", "password": "password123!", "nickname": "Poby", "provider": "EMAIL"}
+                                                    {"email": "user2@example.com", "password": "password123!", "nickname": "Bobby", "provider": "EMAIL"}
+                                                    """
+                                    )
+                            )
+                    }
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "일괄 생성 처리 완료 (행별 성공/실패는 results 참고)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "CSV 헤더가 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "415",
+                    description = "지원하지 않는 본문 형식",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<UserImportResponse>> importUsers(
+            @Parameter(hidden = true) String contentType,
+            @Parameter(hidden = true) InputStream body);
+
+    @Operation(
+            summary = "유저 전체 내보내기",
+            description = "활성 유저 전체를 가입일(created_at, id) 순으로 NDJSON(application/x-ndjson) 스트림으로 내보냅니다. "
+                    + "한 행이 유저 정보 조회 응답(result)과 같은 형식의 JSON 하나이며, 공통 응답(Bang9Response)으로 감싸지 않습니다. "
+                    + "서버는 결과를 모으지 않고 DB에서 읽는 대로 전송하므로 전체 유저 수와 무관하게 사용할 수 있습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "내보내기 스트림",
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            examples = @ExampleObject(
+                                    name = "NDJSON Export Example",
+                                    value = """
+                                            {"id":"123e4567-e89b-12d3-a456-426614174000","email":"user1@example.com","nickname":"Poby","role":"USER","provider":"EMAIL","agency":["방구 복지관"]}
+                                            {"id":"123e4567-e89b-12d3-a456-426614174001","email":"user2@example.com","nickname":"Bobby","role":"USER","provider":"EMAIL","agency":[]}
+                                            """
+                            )
+                    )
+            )
+    })
+    ResponseEntity<StreamingResponseBody> exportUsers();
+
+    @Operation(
+            summary = "닉네임 사용 가능 여부 조회",
+            description = "닉네임이 사용 가능한지 조회합니다. 탈퇴(소프트 삭제)한 유저의 닉네임도 사용 중으로 취급합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "닉네임 사용 가능 여부 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "닉네임 형식이 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<NicknameAvailabilityResponse>> checkNicknameAvailability(
+            @Parameter(description = "확인할 닉네임", required = true, example = "bang9") String nickname);
+
+    @Operation(
+            summary = "닉네임 자동완성",
+            description = "닉네임이 접두사로 시작하는 활성 유저를 닉네임 순으로 최대 size 명 조회합니다. 대소문자를 구분합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "닉네임 자동완성 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "접두사가 닉네임 형식에 맞지 않음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<List<UserSummaryResponse>>> autocompleteNicknames(
+            @Parameter(description = "닉네임 접두사", required = true, example = "ban") String prefix,
+            @Parameter(description = "최대 결과 수 (1 ~ 20)", example = "10") int size);
+
+    @Operation(
+            summary = "유저 정보 목록 조회",
+            description = "활성 유저 정보를 가입일(created_at, id) 순으로 커서 기반 페이지 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하여 조회합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -76,9 +210,16 @@ public interface UserApiDocs {
                             mediaType = "application/json",
                             schema = @Schema(implementation = Bang9Response.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "커서 형식이 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
             )
     })
-    ResponseEntity<Bang9Response<List<UserResponse>>> getAllUsers();
+    ResponseEntity<Bang9Response<CursorPageResponse<UserResponse>>> getUsers(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)") String cursor,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "20") int size);
 
     @Operation(
             summary = "유저 정보 조회",
@@ -105,6 +246,39 @@ public interface UserApiDocs {
                     required = true, example = "123e4567-e89b-12d3-a456-426614174000"
             ) UUID userId);
 
+    @Operation(
+            summary = "같은 기관 멤버 목록 조회",
+            description = "유저와 같은 기관에 속한 다른 활성 유저(ID, 닉네임)를 닉네임 순으로 커서 기반 페이지 조회합니다. "
+                    + "다음 페이지는 응답의 nextCursor를 cursor로 전달하여 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "같은 기관 멤버 목록 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Bang9Response.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "커서가 유효하지 않음",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "유저를 찾을 수 없음",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    ResponseEntity<Bang9Response<CursorPageResponse<UserSummaryResponse>>> getCoMembers(
+            @Parameter(
+                    description = "유저id (UUID)",
+                    required = true, example = "123e4567-e89b-12d3-a456-426614174000"
+            ) UUID userId,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)") String cursor,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "20") int size);
+
     @Operation(
             summary = "유저 정보 수정",
             description = "유저id에 해당하는 유저의 정보를 수정합니다.",
@@ -6,11 +6,20 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.bang9.api.global.api.Bang9Response;
+import me.bang9.api.global.api.CursorPageResponse;
 import me.bang9.api.user.dto.req.UserCreateRequest;
 import me.bang9.api.user.dto.req.UserUpdateRequest;
+import me.bang9.api.user.dto.res.NicknameAvailabilityResponse;
+import me.bang9.api.user.dto.res.UserImportResponse;
 import me.bang9.api.user.dto.res.UserResponse;
+import me.bang9.api.user.dto.res.UserSummaryResponse;
+import me.bang9.api.user.model.UserImportFormat;
 import me.bang9.api.user.service.UserAuthUseCase;
+import me.bang9.api.user.service.UserExportUseCase;
+import me.bang9.api.user.service.UserImportUseCase;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,9 +27,16 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -35,6 +51,8 @@ import static me.bang9.api.global.api.code.status.CommonSuccessStatus._OK;
 public class UserController implements UserApiDocs {
 
     private final UserAuthUseCase userAuthUseCase;
+    private final UserImportUseCase userImportUseCase;
+    private final UserExportUseCase userExportUseCase;
 
     @Override
     @PostMapping
@@ -51,12 +69,80 @@ public class UserController implements UserApiDocs {
         ).toResponseEntity();
     }
 
+    @Override
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<Bang9Response<UserImportResponse>> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        UserImportFormat format = mediaType.isCompatibleWith(MediaType.parseMediaType(UserImportFormat.CSV.getMediaType()))
+                ? UserImportFormat.CSV
+                : UserImportFormat.NDJSON;
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        log.debug("Importing users from {} body", format);
+
+        // 본문은 InputStream 그대로 전달하여 행 단위로 읽음 (전체를 메모리에 올리지 않음)
+        UserImportResponse response = userImportUseCase.importUsers(new InputStreamReader(body, charset), format);
+
+        return Bang9Response.onSuccess(
+                _OK.getCode(),
+                _OK.getMessage(),
+                response
+        ).toResponseEntity();
+    }
+
+    @Override
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        log.debug("Exporting users");
+
+        // 요청 스레드를 반환하고 비동기 스레드에서 DB 커서를 읽는 대로 응답 본문에 기록
+        StreamingResponseBody body = userExportUseCase::exportUsers;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"")
+                .body(body);
+    }
+
+    @Override
+    @GetMapping("/nickname-availability")
+    public ResponseEntity<Bang9Response<NicknameAvailabilityResponse>> checkNicknameAvailability(@RequestParam String nickname) {
+        log.debug("Checking nickname availability: {}", nickname);
+
+        NicknameAvailabilityResponse response = userAuthUseCase.checkNicknameAvailability(nickname);
+
+        return Bang9Response.onSuccess(
+                _OK.getCode(),
+                _OK.getMessage(),
+                response
+        ).toResponseEntity();
+    }
+
+    @Override
+    @GetMapping("/autocomplete")
+    public ResponseEntity<Bang9Response<List<UserSummaryResponse>>> autocompleteNicknames(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+        log.debug("Autocompleting nicknames with prefix: {}", prefix);
+
+        List<UserSummaryResponse> users = userAuthUseCase.autocompleteNicknames(prefix, size);
+
+        return Bang9Response.onSuccess(
+                _OK.getCode(),
+                _OK.getMessage(),
+                users
+        ).toResponseEntity();
+    }
+
     @Override
     @GetMapping
-    public ResponseEntity<Bang9Response<List<UserResponse>>> getAllUsers() {
-        log.debug("Fetching all users");
+    public ResponseEntity<Bang9Response<CursorPageResponse<UserResponse>>> getUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Fetching users after cursor: {}", cursor);
 
-        List<UserResponse> users = userAuthUseCase.getAllUsers();
+        CursorPageResponse<UserResponse> users = userAuthUseCase.getUsers(cursor, size);
 
         return Bang9Response.onSuccess(
                 _OK.getCode(),
@@ -79,6 +165,23 @@ public class UserController implements UserApiDocs {
         ).toResponseEntity();
     }
 
+    @GetMapping("/{userId}/co-members")
+    @Override
+    public ResponseEntity<Bang9Response<CursorPageResponse<UserSummaryResponse>>> getCoMembers(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Fetching co-members of user {} after cursor: {}", userId, cursor);
+
+        CursorPageResponse<UserSummaryResponse> coMembers = userAuthUseCase.getCoMembers(userId, cursor, size);
+
+        return Bang9Response.onSuccess(
+                _OK.getCode(),
+                _OK.getMessage(),
+                coMembers
+        ).toResponseEntity();
+    }
+
     @PatchMapping("/{userId}")
     @Override
     public ResponseEntity<Bang9Response<UserResponse>> updateUser(
@@ -0,0 +1,30 @@
+package me.bang9.api.user.dto.req;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+public record AgencyCreateRequest(
+        @NotBlank(message = "Name is required")
+        String name,
+
+        @NotBlank(message = "Email is required")
+        @Email(message = "Invalid email format")
+        String email,
+
+        @NotBlank(message = "Address is required")
+        String address,
+
+        @NotBlank(message = "Contact is required")
+        String contact,
+
+        @DecimalMin(value = "-90", message = "Latitude must be between -90 and 90")
+        @DecimalMax(value = "90", message = "Latitude must be between -90 and 90")
+        Double latitude,
+
+        @DecimalMin(value = "-180", message = "Longitude must be between -180 and 180")
+        @DecimalMax(value = "180", message = "Longitude must be between -180 and 180")
+        Double longitude
+) {
+}
@@ -0,0 +1,15 @@
+package me.bang9.api.user.dto.req;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record AgencyMembersRequest(
+        @NotEmpty(message = "User IDs are required")
+        @Size(max = 1000, message = "Up to 1000 users can be processed at once")
+        List<@NotNull(message = "User ID must not be null") UUID> userIds
+) {
+}
@@ -0,0 +1,49 @@
+package me.bang9.api.user.dto.req;
+
+import me.bang9.api.global.api.exception.Bang9Exception;
+import me.bang9.api.user.repository.projection.AgencySearchView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_SEARCH_CURSOR;
+
+/**
+ * 기관명 검색 keyset 페이지네이션 커서 (score, id)
+ * score 는 DB 의 real 값을 그대로 왕복시켜야 하므로 float 로 보관한다.
+ * 클라이언트에는 URL-safe Base64 문자열로 노출된다.
+ */
+public record AgencySearchCursor(
+        float score,
+        UUID id
+) {
+    private static final char DELIMITER = '|';
+
+    public static AgencySearchCursor from(AgencySearchView agency) {
+        return new AgencySearchCursor(agency.getScore(), agency.getId());
+    }
+
+    public static AgencySearchCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new Bang9Exception(INVALID_SEARCH_CURSOR);
+            }
+
+            float score = Float.parseFloat(decoded.substring(0, delimiterIndex));
+            if (!Float.isFinite(score)) {
+                throw new Bang9Exception(INVALID_SEARCH_CURSOR);
+            }
+            return new AgencySearchCursor(score, UUID.fromString(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new Bang9Exception(INVALID_SEARCH_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = Float.toString(score) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
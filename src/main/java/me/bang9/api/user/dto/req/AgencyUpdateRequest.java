@@ -0,0 +1,32 @@
+package me.bang9.api.user.dto.req;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * 기관 부분 수정 요청 (null 인 필드는 변경하지 않음)
+ */
+public record AgencyUpdateRequest(
+        @Pattern(regexp = ".*\\S.*", message = "Name must not be blank")
+        String name,
+
+        @Email(message = "Invalid email format")
+        String email,
+
+        @Pattern(regexp = ".*\\S.*", message = "Address must not be blank")
+        String address,
+
+        @Pattern(regexp = ".*\\S.*", message = "Contact must not be blank")
+        String contact,
+
+        @DecimalMin(value = "-90", message = "Latitude must be between -90 and 90")
+        @DecimalMax(value = "90", message = "Latitude must be between -90 and 90")
+        Double latitude,
+
+        @DecimalMin(value = "-180", message = "Longitude must be between -180 and 180")
+        @DecimalMax(value = "180", message = "Longitude must be between -180 and 180")
+        Double longitude
+) {
+}
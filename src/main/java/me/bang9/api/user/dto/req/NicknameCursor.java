@@ -0,0 +1,32 @@
+package me.bang9.api.user.dto.req;
+
+import me.bang9.api.global.api.exception.Bang9Exception;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static me.bang9.api.global.api.code.status.UserErrorStatus.INVALID_CURSOR;
+
+/**
+ * 닉네임 순 keyset 페이지네이션 커서 (닉네임은 unique 이므로 단일 키로 충분)
+ * 클라이언트에는 URL-safe Base64 문자열로 노출된다.
+ */
+public record NicknameCursor(
+        String nickname
+) {
+    public static NicknameCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.isEmpty()) {
+                throw new Bang9Exception(INVALID_CURSOR);
+            }
+            return new NicknameCursor(decoded);
+        } catch (IllegalArgumentException e) {
+            throw new Bang9Exception(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(nickname.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package me.bang9.api.user.dto.req;
+
+import me.bang9.api.global.api.exception.Bang9Exception;
+import me.bang9.api.user.entity.UserEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static me.bang9.api.global.api.code.status.UserErrorStatus.INVALID_CURSOR;
+
+/**
+ * 사용자 목록 keyset 페이지네이션 커서 (created_at, id)
+ * 클라이언트에는 URL-safe Base64 문자열로 노출된다.
+ */
+public record UserCursor(
+        LocalDateTime createdAt,
+        UUID id
+) {
+    private static final char DELIMITER = '|';
+
+    public static UserCursor from(UserEntity user) {
+        return new UserCursor(user.getCreatedAt(), user.getId());
+    }
+
+    public static UserCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new Bang9Exception(INVALID_CURSOR);
+            }
+
+            return new UserCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    UUID.fromString(decoded.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new Bang9Exception(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
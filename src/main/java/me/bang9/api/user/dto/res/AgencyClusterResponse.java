@@ -0,0 +1,24 @@
+package me.bang9.api.user.dto.res;
+
+import me.bang9.api.user.repository.projection.AgencyClusterView;
+
+import java.util.UUID;
+
+/**
+ * 지도 클러스터 (count == 1 이면 agencyId로 단일 기관을 가리킴)
+ */
+public record AgencyClusterResponse(
+        double latitude,
+        double longitude,
+        long count,
+        UUID agencyId
+) {
+    public static AgencyClusterResponse of(AgencyClusterView cluster) {
+        return new AgencyClusterResponse(
+                cluster.getLatitude(),
+                cluster.getLongitude(),
+                cluster.getCount(),
+                cluster.getAgencyId()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package me.bang9.api.user.dto.res;
+
+import java.util.UUID;
+
+/**
+ * 기관 멤버 일괄 추가/제거 결과
+ * @param requested 요청된 (중복 제거된) 사용자 수
+ * @param affected 실제로 추가/제거된 멤버십 수 (이미 멤버이거나 비활성 사용자는 제외)
+ */
+public record AgencyMembersResponse(
+        UUID agencyId,
+        int requested,
+        int affected
+) {
+}
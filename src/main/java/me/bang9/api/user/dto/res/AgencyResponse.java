@@ -0,0 +1,27 @@
+package me.bang9.api.user.dto.res;
+
+import me.bang9.api.user.entity.AgencyEntity;
+
+import java.util.UUID;
+
+public record AgencyResponse(
+        UUID id,
+        String name,
+        String email,
+        String address,
+        String contact,
+        Double latitude,
+        Double longitude
+) {
+    public static AgencyResponse of(AgencyEntity agency) {
+        return new AgencyResponse(
+                agency.getId(),
+                agency.getName(),
+                agency.getEmail(),
+                agency.getAddress(),
+                agency.getContact(),
+                agency.getLatitude(),
+                agency.getLongitude()
+        );
+    }
+}
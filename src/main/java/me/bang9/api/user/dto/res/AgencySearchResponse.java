@@ -0,0 +1,21 @@
+package me.bang9.api.user.dto.res;
+
+import me.bang9.api.user.repository.projection.AgencySearchView;
+
+import java.util.UUID;
+
+public record AgencySearchResponse(
+        UUID id,
+        String name,
+        String address,
+        float score
+) {
+    public static AgencySearchResponse of(AgencySearchView agency) {
+        return new AgencySearchResponse(
+                agency.getId(),
+                agency.getName(),
+                agency.getAddress(),
+                agency.getScore()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package me.bang9.api.user.dto.res;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * 직렬화가 끝난 타일 응답 본문과 ETag
+ */
+public record AgencyTile(byte[] body, String etag) {
+
+    public static AgencyTile of(byte[] body) {
+        return new AgencyTile(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
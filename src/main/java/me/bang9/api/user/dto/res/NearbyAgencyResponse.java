@@ -0,0 +1,25 @@
+package me.bang9.api.user.dto.res;
+
+import me.bang9.api.user.repository.projection.AgencyDistanceView;
+
+import java.util.UUID;
+
+public record NearbyAgencyResponse(
+        UUID id,
+        String name,
+        String address,
+        double latitude,
+        double longitude,
+        double distanceMeters
+) {
+    public static NearbyAgencyResponse of(AgencyDistanceView agency) {
+        return new NearbyAgencyResponse(
+                agency.getId(),
+                agency.getName(),
+                agency.getAddress(),
+                agency.getLatitude(),
+                agency.getLongitude(),
+                agency.getDistanceMeters()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package me.bang9.api.user.dto.res;
+
+public record NicknameAvailabilityResponse(
+        String nickname,
+        boolean available
+) {
+}
@@ -0,0 +1,28 @@
+package me.bang9.api.user.dto.res;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 결과
+ * @param total 처리한 행 수
+ * @param created 생성된 사용자 수
+ * @param failed 실패한 행 수
+ * @param results 행별 결과 (행 번호 순)
+ * @param aborted 본문 읽기/해싱/DB 오류로 처리를 중단했는지 (true면 results 이후의 행은 처리되지 않음)
+ */
+public record UserImportResponse(
+        int total,
+        int created,
+        int failed,
+        List<UserImportResult> results,
+        boolean aborted
+) {
+    public static UserImportResponse of(List<UserImportResult> results) {
+        return of(results, false);
+    }
+
+    public static UserImportResponse of(List<UserImportResult> results, boolean aborted) {
+        int created = (int) results.stream().filter(UserImportResult::success).count();
+        return new UserImportResponse(results.size(), created, results.size() - created, results, aborted);
+    }
+}
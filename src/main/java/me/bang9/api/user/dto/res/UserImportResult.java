@@ -0,0 +1,19 @@
+package me.bang9.api.user.dto.res;
+
+import java.util.UUID;
+
+/**
+ * 사용자 일괄 등록 행별 결과
+ * @param line 요청 본문의 행 번호 (1부터, CSV 헤더 포함)
+ * @param code 성공 시 COMMON-201, 실패 시 에러 코드
+ * @param userId 생성된 사용자 ID (실패 시 null)
+ */
+public record UserImportResult(
+        int line,
+        String email,
+        boolean success,
+        String code,
+        String message,
+        UUID userId
+) {
+}
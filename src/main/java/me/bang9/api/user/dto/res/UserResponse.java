@@ -2,7 +2,12 @@ package me.bang9.api.user.dto.res;
 
 import me.bang9.api.user.entity.AgencyEntity;
 import me.bang9.api.user.entity.UserEntity;
+import me.bang9.api.user.repository.projection.UpdatedUserView;
+import me.bang9.api.user.repository.projection.UserExportView;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -16,15 +21,62 @@ public record UserResponse(
         Set<String> agency
 ) {
     public static UserResponse of(UserEntity user) {
+        // 소속 기관이 없는 사용자(신규 가입 등)는 공유 빈 Set 사용
+        if (user.getMemberAgencyList().isEmpty()) {
+            return of(user, Set.of());
+        }
+        return of(
+                user,
+                user.getMemberAgencyList().stream()
+                        .filter(AgencyEntity::getStatus)
+                        .map(AgencyEntity::getName)
+                        .collect(Collectors.toSet())
+        );
+    }
+
+    /**
+     * 소속 기관명을 별도로 조회한 경우 사용 (memberAgencyList 지연 로딩을 건드리지 않음)
+     */
+    public static UserResponse of(UserEntity user, Set<String> agencyNames) {
         return new UserResponse(
                 user.getId(),
                 user.getEmail(),
                 user.getNickname(),
                 user.getRole().name(),
                 user.getProvider().name(),
-                user.getMemberAgencyList().stream()
-                        .map(AgencyEntity::getName)
+                agencyNames
+        );
+    }
+
+    /**
+     * 닉네임 수정 결과(UPDATE ... RETURNING)로 생성 (소속 기관마다 한 행, 소속 기관이 없으면 agencyName이 null)
+     */
+    public static UserResponse of(List<UpdatedUserView> rows) {
+        UpdatedUserView user = rows.getFirst();
+        return new UserResponse(
+                user.getId(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getRole(),
+                user.getProvider(),
+                rows.stream()
+                        .map(UpdatedUserView::getAgencyName)
+                        .filter(Objects::nonNull)
                         .collect(Collectors.toSet())
         );
     }
+
+    /**
+     * 내보내기 행으로 생성 (소속 기관명 순서 유지)
+     */
+    public static UserResponse of(UserExportView user) {
+        return new UserResponse(
+                user.id(),
+                user.email(),
+                user.nickname(),
+                user.role(),
+                user.provider(),
+                new LinkedHashSet<>(user.agencyNames())
+        );
+    }
 }
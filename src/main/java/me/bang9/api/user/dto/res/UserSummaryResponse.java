@@ -0,0 +1,14 @@
+package me.bang9.api.user.dto.res;
+
+import me.bang9.api.user.repository.projection.UserSummaryView;
+
+import java.util.UUID;
+
+public record UserSummaryResponse(
+        UUID id,
+        String nickname
+) {
+    public static UserSummaryResponse of(UserSummaryView user) {
+        return new UserSummaryResponse(user.getId(), user.getNickname());
+    }
+}
@@ -2,17 +2,20 @@ package me.bang9.api.user.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import me.bang9.api.global.entity.BaseEntity;
+import me.bang9.api.global.entity.UuidV7;
+import me.bang9.api.user.entity.listener.AgencyTileInvalidationListener;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -22,13 +25,14 @@ import java.util.UUID;
 @Table(name = "agency", schema = "bang9", indexes = {
         @Index(name = "idx_agency_name", columnList = "name"),
 })
+@EntityListeners(AgencyTileInvalidationListener.class)
 @Getter
 @Setter
 @RequiredArgsConstructor
 public class AgencyEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "name", nullable = false)
@@ -43,10 +47,40 @@ public class AgencyEntity extends BaseEntity {
     @Column(name = "contact", nullable = false)
     private String contact;
 
+    // 위치 (WGS84). 근처 기관 검색용 location(geography) 컬럼은 DB에서 위도/경도로 생성된다
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    // 로드(또는 마지막 저장) 시점의 위치/상태/이름: 지도 타일 캐시 무효화 범위 계산용 (단일 기관 타일 피처는 이름을 포함)
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Double loadedLatitude;
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Double loadedLongitude;
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Boolean loadedStatus;
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private String loadedName;
+
     @ManyToMany(mappedBy = "memberAgencyList")
     private Set<UserEntity> members = new HashSet<>();
 
     @OneToOne(mappedBy = "representingAgency")
     private UserEntity representingUser;
 
+    public void snapshotTileState() {
+        this.loadedLatitude = latitude;
+        this.loadedLongitude = longitude;
+        this.loadedStatus = status;
+        this.loadedName = name;
+    }
 }
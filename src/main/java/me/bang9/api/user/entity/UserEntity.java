@@ -8,8 +8,6 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -17,9 +15,11 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
 import me.bang9.api.global.entity.BaseEntity;
+import me.bang9.api.global.entity.UuidV7;
 import me.bang9.api.user.model.Provider;
 import me.bang9.api.user.model.UserRole;
 import org.hibernate.annotations.ColumnDefault;
@@ -32,22 +32,25 @@ import java.util.UUID;
 @Table(name = "user", schema = "bang9", indexes = {
         @Index(name = "idx_user_email", columnList = "email"),
         @Index(name = "idx_user_nickname", columnList = "nickname"),
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uc_user_email", columnNames = "email"),
+        @UniqueConstraint(name = "uc_user_nickname", columnNames = "nickname"),
 })
 @Getter
 @Setter
 public class UserEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
 
     @Column(name = "password")
     private String password;
 
-    @Column(name = "nickname", nullable = false, unique = true)
+    @Column(name = "nickname", nullable = false)
     private String nickname;
 
     @Enumerated(EnumType.STRING)
@@ -67,7 +70,8 @@ public class UserEntity extends BaseEntity {
             joinColumns = @JoinColumn(name = "user_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "agency_id", referencedColumnName = "id"),
             foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT),
-            inverseForeignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)
+            inverseForeignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT),
+            indexes = @Index(name = "idx_user_agency_membership_user_agency", columnList = "user_id, agency_id")
     )
     private Set<AgencyEntity> memberAgencyList = new HashSet<>();
 
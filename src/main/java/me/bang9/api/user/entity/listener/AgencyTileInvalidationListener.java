@@ -0,0 +1,73 @@
+package me.bang9.api.user.entity.listener;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import me.bang9.api.user.entity.AgencyEntity;
+import me.bang9.api.user.model.TileCoordinate;
+import me.bang9.api.user.repository.AgencyVectorTileRepository;
+import me.bang9.api.user.service.AgencyTileCache;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 기관 생성/이동/삭제(softDelete) 시 영향받는 지도 타일 캐시 제거
+ * 로드 시점의 위치/상태/이름을 기록해 두었다가, 변경되면 이전 위치와 새 위치를 포함하는 모든 zoom 레벨의 타일을 제거한다.
+ * 이름만 바뀐 경우에도 단일 기관 피처가 이름을 포함하므로 현재 위치의 타일을 제거한다.
+ * 타일은 버퍼 영역의 기관도 그리므로 버퍼가 위치를 포함하는 이웃 타일까지 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AgencyTileInvalidationListener {
+
+    private final AgencyTileCache agencyTileCache;
+
+    @PostLoad
+    public void onLoad(AgencyEntity agency) {
+        agency.snapshotTileState();
+    }
+
+    @PostPersist
+    public void onPersist(AgencyEntity agency) {
+        Set<TileCoordinate> tiles = new HashSet<>();
+        addTiles(tiles, agency.getLatitude(), agency.getLongitude());
+        invalidate(tiles);
+        agency.snapshotTileState();
+    }
+
+    @PostUpdate
+    public void onUpdate(AgencyEntity agency) {
+        boolean moved = !Objects.equals(agency.getLoadedLatitude(), agency.getLatitude())
+                || !Objects.equals(agency.getLoadedLongitude(), agency.getLongitude());
+        boolean statusChanged = !Objects.equals(agency.getLoadedStatus(), agency.getStatus());
+        boolean renamed = !Objects.equals(agency.getLoadedName(), agency.getName());
+        if (!moved && !statusChanged && !renamed) {
+            return;
+        }
+
+        Set<TileCoordinate> tiles = new HashSet<>();
+        addTiles(tiles, agency.getLoadedLatitude(), agency.getLoadedLongitude());
+        addTiles(tiles, agency.getLatitude(), agency.getLongitude());
+        invalidate(tiles);
+        agency.snapshotTileState();
+    }
+
+    private void addTiles(Set<TileCoordinate> tiles, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return;
+        }
+        for (int z = 0; z <= TileCoordinate.MAX_ZOOM; z++) {
+            tiles.addAll(TileCoordinate.covering(latitude, longitude, z, AgencyVectorTileRepository.TILE_MARGIN));
+        }
+    }
+
+    private void invalidate(Set<TileCoordinate> tiles) {
+        if (!tiles.isEmpty()) {
+            agencyTileCache.invalidateAll(tiles);
+        }
+    }
+}
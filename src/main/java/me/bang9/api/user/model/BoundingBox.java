@@ -0,0 +1,23 @@
+package me.bang9.api.user.model;
+
+import me.bang9.api.global.api.exception.Bang9Exception;
+
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_VIEWPORT;
+
+/**
+ * 지도 화면 영역 (WGS84 위도/경도)
+ * 날짜 변경선을 가로지르는 영역(minLongitude > maxLongitude)은 지원하지 않는다.
+ */
+public record BoundingBox(
+        double minLatitude,
+        double minLongitude,
+        double maxLatitude,
+        double maxLongitude
+) {
+    public BoundingBox {
+        if (!(minLatitude >= -90 && maxLatitude <= 90 && minLatitude < maxLatitude)
+                || !(minLongitude >= -180 && maxLongitude <= 180 && minLongitude < maxLongitude)) {
+            throw new Bang9Exception(INVALID_VIEWPORT);
+        }
+    }
+}
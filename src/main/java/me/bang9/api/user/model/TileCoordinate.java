@@ -0,0 +1,87 @@
+package me.bang9.api.user.model;
+
+import me.bang9.api.global.api.exception.Bang9Exception;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_VIEWPORT;
+
+/**
+ * 웹 메르카토르(XYZ) 지도 타일 좌표
+ */
+public record TileCoordinate(int z, int x, int y) {
+
+    public static final int MAX_ZOOM = 20;
+
+    public TileCoordinate {
+        if (z < 0 || z > MAX_ZOOM) {
+            throw new Bang9Exception(INVALID_VIEWPORT);
+        }
+        long n = 1L << z;
+        if (x < 0 || x >= n || y < 0 || y >= n) {
+            throw new Bang9Exception(INVALID_VIEWPORT);
+        }
+    }
+
+    /**
+     * 좌표가 속한 zoom 레벨의 타일
+     * 메르카토르 범위(약 ±85.05도)를 벗어난 위도는 가장자리 타일로 취급한다.
+     */
+    public static TileCoordinate containing(double latitude, double longitude, int z) {
+        long n = 1L << z;
+        long x = (long) Math.floor(tileX(longitude, n));
+        long y = (long) Math.floor(tileY(latitude, n));
+        return new TileCoordinate(z, (int) Math.clamp(x, 0, n - 1), (int) Math.clamp(y, 0, n - 1));
+    }
+
+    /**
+     * 타일 폭 대비 margin 만큼 확장한 영역이 좌표를 포함하는 zoom 레벨의 모든 타일
+     * 좌표가 속한 타일과, 좌표가 경계 근처에 있을 때 버퍼에 좌표를 그리는 이웃 타일(최대 3x3)을 반환한다.
+     */
+    public static List<TileCoordinate> covering(double latitude, double longitude, int z, double margin) {
+        long n = 1L << z;
+        double x = Math.clamp(tileX(longitude, n), 0, n);
+        double y = Math.clamp(tileY(latitude, n), 0, n);
+
+        List<TileCoordinate> tiles = new ArrayList<>(9);
+        for (long tileX = bufferedMin(x, margin, n); tileX <= bufferedMax(x, margin, n); tileX++) {
+            for (long tileY = bufferedMin(y, margin, n); tileY <= bufferedMax(y, margin, n); tileY++) {
+                tiles.add(new TileCoordinate(z, (int) tileX, (int) tileY));
+            }
+        }
+        return tiles;
+    }
+
+    public BoundingBox toBoundingBox() {
+        double n = 1L << z;
+        return new BoundingBox(
+                tileLatitude(y + 1, n),
+                x / n * 360.0 - 180.0,
+                tileLatitude(y, n),
+                (x + 1) / n * 360.0 - 180.0
+        );
+    }
+
+    // 타일 t의 버퍼 영역은 [t - margin, t + 1 + margin]
+    private static long bufferedMin(double position, double margin, long n) {
+        return Math.clamp((long) Math.ceil(position - 1 - margin), 0, n - 1);
+    }
+
+    private static long bufferedMax(double position, double margin, long n) {
+        return Math.clamp((long) Math.floor(position + margin), 0, n - 1);
+    }
+
+    private static double tileX(double longitude, long n) {
+        return (longitude + 180.0) / 360.0 * n;
+    }
+
+    private static double tileY(double latitude, long n) {
+        double latitudeRadians = Math.toRadians(latitude);
+        return (1 - Math.log(Math.tan(latitudeRadians) + 1 / Math.cos(latitudeRadians)) / Math.PI) / 2 * n;
+    }
+
+    private static double tileLatitude(int y, double n) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / n))));
+    }
+}
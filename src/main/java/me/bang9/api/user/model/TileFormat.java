@@ -0,0 +1,17 @@
+package me.bang9.api.user.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지도 타일 응답 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TileFormat {
+
+    JSON("application/json"),
+    MVT("application/vnd.mapbox-vector-tile");
+
+    private final String mediaType;
+}
@@ -0,0 +1,17 @@
+package me.bang9.api.user.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 일괄 등록 요청 본문 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserImportFormat {
+
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+}
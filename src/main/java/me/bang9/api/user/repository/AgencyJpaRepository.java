@@ -1,15 +1,87 @@
 package me.bang9.api.user.repository;
 
 import me.bang9.api.user.entity.AgencyEntity;
+import me.bang9.api.user.repository.projection.AgencyClusterView;
+import me.bang9.api.user.repository.projection.AgencyDistanceView;
+import me.bang9.api.user.repository.projection.AgencySearchView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface AgencyJpaRepository extends JpaRepository<AgencyEntity, UUID> {
 
+    String FIND_NEAREST_ACTIVE_AGENCIES = """
+            SELECT a.id AS id,
+                   a.name AS name,
+                   a.address AS address,
+                   a.latitude AS latitude,
+                   a.longitude AS longitude,
+                   ST_Distance(a.location, CAST(ST_SetSRID(ST_MakePoint(:longitude, :latitude), 4326) AS geography)) AS "distanceMeters"
+            FROM bang9.agency a
+            WHERE a.status AND a.location IS NOT NULL
+            ORDER BY a.location <-> CAST(ST_SetSRID(ST_MakePoint(:longitude, :latitude), 4326) AS geography)
+            LIMIT :size
+            """;
+
+    String FIND_ACTIVE_AGENCY_CLUSTERS = """
+            SELECT count(*) AS count,
+                   avg(a.latitude) AS latitude,
+                   avg(a.longitude) AS longitude,
+                   CASE WHEN count(*) = 1 THEN (array_agg(a.id))[1] END AS "agencyId"
+            FROM bang9.agency a
+            WHERE a.status
+              AND CAST(a.location AS geometry) && ST_MakeEnvelope(:minLongitude, :minLatitude, :maxLongitude, :maxLatitude, 4326)
+            GROUP BY ST_SnapToGrid(CAST(a.location AS geometry), :cellSize)
+            ORDER BY count(*) DESC
+            LIMIT :maxCells
+            """;
+
+    String SEARCH_ACTIVE_AGENCIES = """
+            SELECT id, name, address, score
+            FROM (
+                SELECT a.id AS id,
+                       a.name AS name,
+                       a.address AS address,
+                       word_similarity(CAST(:query AS text), a.name)
+                           + CASE WHEN a.name ILIKE :pattern THEN CAST(1 AS real) ELSE CAST(0 AS real) END AS score
+                FROM bang9.agency a
+                WHERE a.status
+                  AND (CAST(:query AS text) <% a.name OR a.name ILIKE :pattern)
+            ) matched
+            """;
+
+    String SEARCH_ACTIVE_AGENCIES_ORDER = """
+            ORDER BY score DESC, id
+            LIMIT :limit
+            """;
+
+    String INSERT_ACTIVE_MEMBERS = """
+            INSERT INTO bang9.user_agency_membership (agency_id, user_id)
+            SELECT CAST(:agencyId AS uuid), u.id
+            FROM bang9."user" u
+            WHERE u.id IN (:userIds) AND u.status
+            ON CONFLICT DO NOTHING
+            """;
+
+    String FIND_MEMBER_IDS = """
+            SELECT m.user_id
+            FROM bang9.user_agency_membership m
+            WHERE m.agency_id = CAST(:agencyId AS uuid)
+            """;
+
+    String DELETE_MEMBERS = """
+            DELETE FROM bang9.user_agency_membership
+            WHERE agency_id = CAST(:agencyId AS uuid) AND user_id IN (:userIds)
+            """;
+
     /**
      * 기관명으로 기관 조회
      */
@@ -20,5 +92,90 @@ public interface AgencyJpaRepository extends JpaRepository<AgencyEntity, UUID> {
      */
     boolean existsByName(String name);
 
+    /**
+     * 활성 기관 조회 (소프트 삭제된 기관 제외)
+     */
+    Optional<AgencyEntity> findByIdAndStatusTrue(UUID id);
+
+    /**
+     * 활성 기관 존재 여부 확인
+     */
+    boolean existsByIdAndStatusTrue(UUID id);
+
+    /**
+     * 활성 사용자들을 기관 멤버로 일괄 추가 (INSERT 1회)
+     * 사용자 엔티티를 로드하지 않고 멤버십 행만 기록하며, 존재하지 않거나 소프트 삭제된 사용자는 건너뛰고
+     * 이미 멤버인 사용자는 PK(pk_user_agency_membership) 충돌을 무시한다.
+     * @return 새로 추가된 멤버십 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = INSERT_ACTIVE_MEMBERS, nativeQuery = true)
+    int insertActiveMembers(@Param("agencyId") UUID agencyId, @Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 기관 멤버 사용자 ID 조회 (PK(agency_id, user_id) 인덱스만 사용)
+     */
+    @Query(value = FIND_MEMBER_IDS, nativeQuery = true)
+    List<UUID> findMemberIds(@Param("agencyId") UUID agencyId);
+
+    /**
+     * 기관 멤버 일괄 제거 (DELETE 1회)
+     * @return 제거된 멤버십 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = DELETE_MEMBERS, nativeQuery = true)
+    int deleteMembers(@Param("agencyId") UUID agencyId, @Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 기준 좌표에서 가까운 활성 기관 N개 조회 (거리 오름차순)
+     * location GiST 부분 인덱스(idx_agency_active_location)의 KNN(<->) 정렬을 사용한다.
+     */
+    @Query(value = FIND_NEAREST_ACTIVE_AGENCIES, nativeQuery = true)
+    List<AgencyDistanceView> findNearestActiveAgencies(
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("size") int size);
+
+    /**
+     * 영역 안의 활성 기관을 cellSize(도) 격자로 묶어 셀별 개수/중심 좌표 조회
+     * 결과 행 수는 격자 셀 수(최대 maxCells)로 제한되어 기관 수와 무관하다.
+     * 영역 필터는 평면(geometry) GiST 부분 인덱스(idx_agency_active_location_geom)를 사용하며,
+     * 점과 사각형의 평면 비교이므로 경계가 정확하고 경도 폭이 180도 이상인 영역(z=0/1)도 그대로 처리된다.
+     */
+    @Query(value = FIND_ACTIVE_AGENCY_CLUSTERS, nativeQuery = true)
+    List<AgencyClusterView> findActiveAgencyClusters(
+            @Param("minLatitude") double minLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("maxLongitude") double maxLongitude,
+            @Param("cellSize") double cellSize,
+            @Param("maxCells") int maxCells);
+
+    /**
+     * 기관명 검색 첫 페이지 (score 내림차순, id 오름차순)
+     * 오타/부분 단어는 단어 유사도(<%, pg_trgm.word_similarity_threshold 기본 0.6)로,
+     * 단어 중간의 부분 문자열은 ILIKE 로 찾으며 두 조건 모두 trigram GIN 부분 인덱스(idx_agency_active_name_trgm)를 사용한다.
+     * @param query 검색어
+     * @param pattern 검색어를 이스케이프한 ILIKE 패턴 (%검색어%)
+     */
+    @Query(value = SEARCH_ACTIVE_AGENCIES + SEARCH_ACTIVE_AGENCIES_ORDER, nativeQuery = true)
+    List<AgencySearchView> searchActiveAgencies(
+            @Param("query") String query,
+            @Param("pattern") String pattern,
+            @Param("limit") int limit);
+
+    /**
+     * 커서 (score, id) 이후의 기관명 검색 결과 (keyset 페이지네이션)
+     */
+    @Query(value = SEARCH_ACTIVE_AGENCIES
+            + "WHERE score < CAST(:score AS real) OR (score = CAST(:score AS real) AND id > :id)\n"
+            + SEARCH_ACTIVE_AGENCIES_ORDER, nativeQuery = true)
+    List<AgencySearchView> searchActiveAgenciesAfter(
+            @Param("query") String query,
+            @Param("pattern") String pattern,
+            @Param("score") float score,
+            @Param("id") UUID id,
+            @Param("limit") int limit);
+
     // TODO: Add complex relationship queries after basic methods are working
 }
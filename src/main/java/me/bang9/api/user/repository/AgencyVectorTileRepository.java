@@ -0,0 +1,72 @@
+package me.bang9.api.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostGIS ST_AsMVT로 기관 벡터 타일(Mapbox Vector Tile)을 생성
+ * 엔티티를 거치지 않고 DB가 인코딩한 바이트를 그대로 반환한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AgencyVectorTileRepository {
+
+    public static final String LAYER_NAME = "agencies";
+
+    // 타일 좌표계 크기 / 경계 밖 여유(buffer) / 클러스터 격자 크기 (4096 기준 256 = 약 16px)
+    private static final int EXTENT = 4096;
+    private static final int BUFFER = 64;
+    private static final int CLUSTER_GRID_SIZE = 256;
+
+    // 이웃 타일도 버퍼 영역에 기관을 그리므로 캐시 무효화 시 같은 비율을 사용
+    public static final double TILE_MARGIN = (double) BUFFER / EXTENT;
+
+    static final String ACTIVE_AGENCY_TILE = """
+            WITH bounds AS (
+                SELECT ST_TileEnvelope(:z, :x, :y) AS tile,
+                       ST_TileEnvelope(:z, :x, :y, margin => :margin) AS query_area
+            ),
+            points AS (
+                SELECT a.id,
+                       a.name,
+                       ST_AsMVTGeom(ST_Transform(CAST(a.location AS geometry), 3857), bounds.tile, :extent, :buffer, true) AS geom
+                FROM bang9.agency a, bounds
+                WHERE a.status
+                  AND CAST(a.location AS geometry) && ST_Transform(bounds.query_area, 4326)
+            ),
+            cells AS (
+                SELECT ST_SnapToGrid(geom, :gridSize) AS geom,
+                       count(*) AS point_count,
+                       CASE WHEN count(*) = 1 THEN min(CAST(id AS text)) END AS id,
+                       CASE WHEN count(*) = 1 THEN min(name) END AS name
+                FROM points
+                WHERE geom IS NOT NULL
+                GROUP BY 1
+            )
+            SELECT ST_AsMVT(cells, :layer, :extent, 'geom') FROM cells
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 타일 영역의 활성 기관을 16px 격자로 묶은 벡터 타일
+     * 각 피처는 point_count 속성을 가지며, 기관이 하나뿐인 피처는 id/name 속성을 함께 가진다.
+     * 영역 필터는 location geometry GiST 부분 인덱스(&&)를 사용한다.
+     */
+    public byte[] findActiveAgencyTile(int z, int x, int y) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("z", z)
+                .addValue("x", x)
+                .addValue("y", y)
+                .addValue("margin", TILE_MARGIN)
+                .addValue("extent", EXTENT)
+                .addValue("buffer", BUFFER)
+                .addValue("gridSize", (double) CLUSTER_GRID_SIZE)
+                .addValue("layer", LAYER_NAME);
+
+        byte[] tile = jdbcTemplate.queryForObject(ACTIVE_AGENCY_TILE, params, byte[].class);
+        return tile != null ? tile : new byte[0];
+    }
+}
@@ -0,0 +1,73 @@
+package me.bang9.api.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import me.bang9.api.user.repository.projection.UserExportView;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 활성 사용자 전체를 JDBC 커서로 한 행씩 읽는 내보내기 전용 조회
+ * 엔티티/영속성 컨텍스트를 거치지 않으므로 테이블 크기와 무관하게 fetch size 만큼만 메모리에 올라간다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserExportRepository {
+
+    // 한 번에 DB 에서 가져오는 행 수 (PostgreSQL 은 트랜잭션 안에서만 커서로 나누어 가져온다)
+    private static final int FETCH_SIZE = 1000;
+
+    static final String ACTIVE_USERS = """
+            SELECT u.id,
+                   u.email,
+                   u.nickname,
+                   u.role,
+                   u.provider,
+                   ARRAY(
+                       SELECT a.name
+                       FROM bang9.user_agency_membership m
+                       JOIN bang9.agency a ON a.id = m.agency_id
+                       WHERE m.user_id = u.id AND a.status
+                       ORDER BY a.name
+                   ) AS agency_names
+            FROM bang9."user" u
+            WHERE u.status
+            ORDER BY u.created_at, u.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 활성 사용자를 (created_at, id) 순으로 한 행씩 전달
+     * 정렬은 keyset 부분 인덱스(idx_user_active_created_at_id)를 따라가므로 정렬 단계 없이 바로 흘려보내고,
+     * 소속 기관명은 (user_id, agency_id) 인덱스로 행마다 조회한다.
+     * 자동 커밋 상태에서는 드라이버가 결과를 한 번에 모두 읽으므로 반드시 트랜잭션 안에서 호출해야 한다.
+     */
+    public void streamActiveUsers(Consumer<UserExportView> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    ACTIVE_USERS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(toView(resultSet)));
+    }
+
+    private static UserExportView toView(ResultSet resultSet) throws SQLException {
+        return new UserExportView(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("email"),
+                resultSet.getString("nickname"),
+                resultSet.getString("role"),
+                resultSet.getString("provider"),
+                List.of((String[]) resultSet.getArray("agency_names").getArray())
+        );
+    }
+}
@@ -1,18 +1,80 @@
 package me.bang9.api.user.repository;
 
+import jakarta.persistence.QueryHint;
 import me.bang9.api.user.entity.UserEntity;
+import me.bang9.api.user.repository.projection.UpdatedUserView;
+import me.bang9.api.user.repository.projection.UserAgencyNameView;
+import me.bang9.api.user.repository.projection.UserSummaryView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
+
+    String CO_MEMBERS_SELECT = """
+            SELECT u.id AS id, u.nickname AS nickname
+            FROM bang9."user" u
+            WHERE u.status
+              AND u.id <> :userId
+              AND EXISTS (
+                  SELECT 1
+                  FROM bang9.user_agency_membership mine
+                  JOIN bang9.agency a ON a.id = mine.agency_id AND a.status
+                  JOIN bang9.user_agency_membership theirs ON theirs.agency_id = mine.agency_id
+                  WHERE mine.user_id = :userId AND theirs.user_id = u.id
+              )
+            """;
+
+    String CO_MEMBERS_ORDER = """
+            ORDER BY u.nickname
+            LIMIT :limit
+            """;
+
+    String AUTOCOMPLETE_NICKNAMES = """
+            SELECT u.id AS id, u.nickname AS nickname
+            FROM bang9."user" u
+            WHERE u.status
+              AND u.nickname COLLATE "C" >= :prefix
+              AND u.nickname COLLATE "C" < :upperBound
+            ORDER BY u.nickname COLLATE "C"
+            LIMIT :limit
+            """;
+
+    // 데이터 변경 CTE: UPDATE 결과에 소속(활성) 기관명을 붙여 수정과 응답 조회를 한 번에 처리
+    String UPDATE_NICKNAME_IF_ACTIVE = """
+            WITH updated AS (
+                UPDATE bang9."user"
+                SET nickname = :nickname, modified_at = :modifiedAt
+                WHERE id = :id AND status
+                RETURNING id, email, nickname, role, provider
+            )
+            SELECT u.id AS id, u.email AS email, u.nickname AS nickname, u.role AS role, u.provider AS provider,
+                   a.name AS agencyName
+            FROM updated u
+            LEFT JOIN (bang9.user_agency_membership m JOIN bang9.agency a ON a.id = m.agency_id AND a.status)
+                   ON m.user_id = u.id
+            """;
     
+    /**
+     * ID로 활성 사용자 조회 (소프트 삭제된 사용자 제외)
+     */
+    Optional<UserEntity> findByIdAndStatusTrue(UUID id);
+
     /**
      * 이메일로 사용자 조회
      */
@@ -27,7 +89,68 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
      * 이메일 존재 여부 확인
      */
     boolean existsByEmail(String email);
+
+    /**
+     * 닉네임 존재 여부 확인 (소프트 삭제된 사용자 포함, uc_user_nickname 과 같은 범위)
+     */
+    boolean existsByNickname(String nickname);
+
+    /**
+     * 사용 중인 모든 닉네임을 스트리밍 조회 (닉네임 Bloom filter 적재용, 트랜잭션 안에서 사용 후 닫아야 함)
+     */
+    @Query("SELECT u.nickname FROM UserEntity u")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<String> streamAllNicknames();
+
+    /**
+     * 주어진 이메일 중 이미 사용 중인 이메일 조회 (소프트 삭제된 사용자 포함, uc_user_email 과 같은 범위)
+     */
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 주어진 닉네임 중 이미 사용 중인 닉네임 조회 (소프트 삭제된 사용자 포함, uc_user_nickname 과 같은 범위)
+     */
+    @Query("SELECT u.nickname FROM UserEntity u WHERE u.nickname IN :nicknames")
+    List<String> findExistingNicknames(@Param("nicknames") Collection<String> nicknames);
+
+    /**
+     * 활성 사용자 첫 페이지 조회 (created_at, id 오름차순)
+     */
+    @Query("SELECT u FROM UserEntity u WHERE u.status = true ORDER BY u.createdAt ASC, u.id ASC")
+    List<UserEntity> findActiveUsers(Pageable pageable);
+
+    /**
+     * 커서 (created_at, id) 이후의 활성 사용자 조회 (keyset 페이지네이션)
+     */
+    @Query("SELECT u FROM UserEntity u WHERE u.status = true AND u.createdAt >= :createdAt AND (u.createdAt > :createdAt OR u.id > :id) ORDER BY u.createdAt ASC, u.id ASC")
+    List<UserEntity> findActiveUsersAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * 여러 사용자의 소속 기관명을 한 번의 쿼리로 조회 (목록 조회 시 N+1 방지)
+     * 소프트 삭제된 기관은 제외한다.
+     */
+    @Query("SELECT u.id AS userId, a.name AS agencyName FROM UserEntity u JOIN u.memberAgencyList a WHERE u.id IN :userIds AND a.status = true")
+    List<UserAgencyNameView> findAgencyNamesByUserIds(@Param("userIds") Collection<UUID> userIds);
     
+    /**
+     * 활성 사용자의 닉네임을 수정하고 수정된 사용자와 소속 기관명을 함께 반환 (SQL 1회)
+     * @return 소속 기관마다 한 행 (비어 있으면 존재하지 않거나 삭제된 사용자)
+     */
+    @Query(value = UPDATE_NICKNAME_IF_ACTIVE, nativeQuery = true)
+    List<UpdatedUserView> updateNicknameIfActive(@Param("id") UUID id, @Param("nickname") String nickname, @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * 활성 사용자 소프트 삭제 (UPDATE 1회)
+     * @return 삭제된 행 수 (0이면 존재하지 않거나 이미 삭제된 사용자)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserEntity u SET u.status = false, u.modifiedAt = :modifiedAt WHERE u.id = :id AND u.status = true")
+    int softDeleteIfActive(@Param("id") UUID id, @Param("modifiedAt") LocalDateTime modifiedAt);
+
     /**
      * 특정 기관을 대표하는 사용자들 조회
      */
@@ -35,8 +158,31 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
     List<UserEntity> findUsersRepresentingAgency(@Param("agencyId") UUID agencyId);
     
     /**
-     * 특정 사용자가 멤버로 속한 기관들의 다른 멤버들 조회
+     * 활성 사용자 존재 여부 확인
+     */
+    boolean existsByIdAndStatusTrue(UUID id);
+
+    /**
+     * 같은 활성 기관에 속한 다른 활성 멤버 첫 페이지 조회 (닉네임 오름차순)
+     * 멤버십 조인 대신 EXISTS 로 판별하여 여러 기관을 공유해도 중복 행/DISTINCT 가 없고,
+     * 엔티티가 아닌 (id, nickname) projection 만 읽는다.
+     * 멤버십 조회는 (user_id, agency_id) 인덱스(idx_user_agency_membership_user_agency)를 사용한다.
+     */
+    @Query(value = CO_MEMBERS_SELECT + CO_MEMBERS_ORDER, nativeQuery = true)
+    List<UserSummaryView> findCoMembers(@Param("userId") UUID userId, @Param("limit") int limit);
+
+    /**
+     * 커서(닉네임) 이후의 같은 기관 멤버 조회 (keyset 페이지네이션)
+     */
+    @Query(value = CO_MEMBERS_SELECT + "  AND u.nickname > :nickname\n" + CO_MEMBERS_ORDER, nativeQuery = true)
+    List<UserSummaryView> findCoMembersAfter(@Param("userId") UUID userId, @Param("nickname") String nickname, @Param("limit") int limit);
+
+    /**
+     * 닉네임이 접두사로 시작하는 활성 사용자 상위 K명 조회 (닉네임 바이트 순)
+     * LIKE 'prefix%' 대신 [prefix, upperBound) 범위 조건을 사용하여 바인딩 파라미터와 generic plan 에서도
+     * C collation 부분 인덱스(idx_user_active_nickname_c)의 범위 검색 + index-only scan 으로 처리된다.
+     * @param upperBound 접두사의 마지막 글자를 1 증가시킨 문자열
      */
-    @Query("SELECT DISTINCT u FROM UserEntity u JOIN u.memberAgencyList a WHERE a IN (SELECT ma FROM UserEntity user JOIN user.memberAgencyList ma WHERE user.id = :userId) AND u.id != :userId")
-    List<UserEntity> findCoMembersInSameAgencies(@Param("userId") UUID userId);
+    @Query(value = AUTOCOMPLETE_NICKNAMES, nativeQuery = true)
+    List<UserSummaryView> autocompleteNicknames(@Param("prefix") String prefix, @Param("upperBound") String upperBound, @Param("limit") int limit);
 }
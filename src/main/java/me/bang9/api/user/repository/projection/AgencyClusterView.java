@@ -0,0 +1,18 @@
+package me.bang9.api.user.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * 격자 셀 단위로 묶은 기관 클러스터
+ * 셀에 기관이 하나뿐이면 agencyId가 채워진다.
+ */
+public interface AgencyClusterView {
+
+    Long getCount();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    UUID getAgencyId();
+}
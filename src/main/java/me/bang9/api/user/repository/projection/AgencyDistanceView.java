@@ -0,0 +1,21 @@
+package me.bang9.api.user.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * 기준 좌표로부터의 거리(m)를 포함한 기관 조회 결과
+ */
+public interface AgencyDistanceView {
+
+    UUID getId();
+
+    String getName();
+
+    String getAddress();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    Double getDistanceMeters();
+}
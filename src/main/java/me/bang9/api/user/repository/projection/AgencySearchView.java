@@ -0,0 +1,17 @@
+package me.bang9.api.user.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * 기관명 검색 결과 (score: 단어 유사도 0~1, 검색어를 그대로 포함하면 +1)
+ */
+public interface AgencySearchView {
+
+    UUID getId();
+
+    String getName();
+
+    String getAddress();
+
+    Float getScore();
+}
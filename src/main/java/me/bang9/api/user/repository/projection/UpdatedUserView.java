@@ -0,0 +1,22 @@
+package me.bang9.api.user.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * 수정된 사용자와 소속 기관명 projection (UPDATE ... RETURNING 결과, 소속 기관마다 한 행)
+ * 소속 기관이 없으면 agencyName이 null인 한 행이다.
+ */
+public interface UpdatedUserView {
+
+    UUID getId();
+
+    String getEmail();
+
+    String getNickname();
+
+    String getRole();
+
+    String getProvider();
+
+    String getAgencyName();
+}
@@ -0,0 +1,13 @@
+package me.bang9.api.user.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * 사용자 ID - 소속 기관명 projection
+ */
+public interface UserAgencyNameView {
+
+    UUID getUserId();
+
+    String getAgencyName();
+}
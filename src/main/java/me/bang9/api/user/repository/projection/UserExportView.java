@@ -0,0 +1,17 @@
+package me.bang9.api.user.repository.projection;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사용자 내보내기 행 (소속 기관명은 이름순)
+ */
+public record UserExportView(
+        UUID id,
+        String email,
+        String nickname,
+        String role,
+        String provider,
+        List<String> agencyNames
+) {
+}
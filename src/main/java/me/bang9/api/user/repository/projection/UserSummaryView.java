@@ -0,0 +1,13 @@
+package me.bang9.api.user.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * 사용자 ID - 닉네임 projection (엔티티를 로드하지 않는 목록 조회용)
+ */
+public interface UserSummaryView {
+
+    UUID getId();
+
+    String getNickname();
+}
@@ -0,0 +1,311 @@
+package me.bang9.api.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.bang9.api.global.api.Bang9Response;
+import me.bang9.api.global.api.CursorPageResponse;
+import me.bang9.api.global.api.exception.Bang9Exception;
+import me.bang9.api.user.dto.req.AgencyCreateRequest;
+import me.bang9.api.user.dto.req.AgencyMembersRequest;
+import me.bang9.api.user.dto.req.AgencySearchCursor;
+import me.bang9.api.user.dto.req.AgencyUpdateRequest;
+import me.bang9.api.user.dto.res.AgencyClusterResponse;
+import me.bang9.api.user.dto.res.AgencyMembersResponse;
+import me.bang9.api.user.dto.res.AgencyResponse;
+import me.bang9.api.user.dto.res.AgencySearchResponse;
+import me.bang9.api.user.dto.res.AgencyTile;
+import me.bang9.api.user.dto.res.NearbyAgencyResponse;
+import me.bang9.api.user.entity.AgencyEntity;
+import me.bang9.api.user.model.BoundingBox;
+import me.bang9.api.user.model.TileCoordinate;
+import me.bang9.api.user.model.TileFormat;
+import me.bang9.api.user.repository.AgencyJpaRepository;
+import me.bang9.api.user.repository.AgencyVectorTileRepository;
+import me.bang9.api.user.repository.projection.AgencySearchView;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.AGENCY_NOT_FOUND;
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_COORDINATES;
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_SEARCH_QUERY;
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_VIEWPORT;
+import static me.bang9.api.global.api.code.status.CommonSuccessStatus._OK;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AgencyService implements AgencyUseCase {
+
+    private static final int MAX_NEARBY_SIZE = 50;
+    // 256px 타일 하나를 4x4 격자(셀 하나 약 64px)로 나누어 클러스터링
+    private static final int CELLS_PER_TILE = 4;
+    // 쿼리 LIMIT은 안전장치일 뿐, 셀 크기를 넓혀 영역의 격자 셀 수가 이 값을 넘지 않게 맞춘다
+    private static final int MAX_CLUSTER_CELLS = 1000;
+    // 2자 미만은 trigram 이 거의 없어 대부분의 기관과 일치하므로 검색하지 않음
+    private static final int MIN_SEARCH_QUERY_LENGTH = 2;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    private static final int MAX_SEARCH_SIZE = 50;
+
+    private final AgencyJpaRepository agencyRepository;
+    private final AgencyVectorTileRepository agencyVectorTileRepository;
+    private final AgencyTileCache agencyTileCache;
+    private final ObjectMapper objectMapper;
+    private final UserResponseCache userResponseCache;
+
+    @Override
+    @Transactional
+    public AgencyResponse createAgency(AgencyCreateRequest request) {
+        log.info("Creating new agency with name: {}", request.name());
+        validateCoordinatePair(request.latitude(), request.longitude());
+
+        AgencyEntity agency = new AgencyEntity();
+        agency.setName(request.name());
+        agency.setEmail(request.email());
+        agency.setAddress(request.address());
+        agency.setContact(request.contact());
+        agency.setLatitude(request.latitude());
+        agency.setLongitude(request.longitude());
+
+        // 저장 시 AgencyTileInvalidationListener가 새 위치를 포함하는 지도 타일 캐시를 제거
+        AgencyEntity savedAgency = agencyRepository.save(agency);
+        log.info("Agency created successfully with ID: {}", savedAgency.getId());
+
+        return AgencyResponse.of(savedAgency);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AgencyResponse getAgency(UUID agencyId) {
+        return AgencyResponse.of(findActiveAgency(agencyId));
+    }
+
+    // 위치/상태/이름 변경을 AgencyTileInvalidationListener가 감지해야 하므로 벌크 UPDATE가 아닌 변경 감지로 수정
+    @Override
+    @Transactional
+    public AgencyResponse updateAgency(UUID agencyId, AgencyUpdateRequest request) {
+        log.info("Updating agency with ID: {}", agencyId);
+        validateCoordinatePair(request.latitude(), request.longitude());
+
+        AgencyEntity agency = findActiveAgency(agencyId);
+        if (request.name() != null && !request.name().equals(agency.getName())) {
+            agency.setName(request.name());
+            // 사용자 응답 캐시에 소속 기관명이 포함되어 있으므로 이 기관의 멤버만 제거
+            userResponseCache.invalidateAll(agencyRepository.findMemberIds(agencyId));
+        }
+        if (request.email() != null) {
+            agency.setEmail(request.email());
+        }
+        if (request.address() != null) {
+            agency.setAddress(request.address());
+        }
+        if (request.contact() != null) {
+            agency.setContact(request.contact());
+        }
+        if (request.latitude() != null) {
+            agency.setLatitude(request.latitude());
+            agency.setLongitude(request.longitude());
+        }
+
+        log.info("Agency updated successfully: {}", agencyId);
+        return AgencyResponse.of(agency);
+    }
+
+    @Override
+    @Transactional
+    public void softDeleteAgency(UUID agencyId) {
+        log.info("Soft deleting agency with ID: {}", agencyId);
+
+        AgencyEntity agency = findActiveAgency(agencyId);
+        agency.softDelete();
+        userResponseCache.invalidateAll(agencyRepository.findMemberIds(agencyId));
+
+        log.info("Agency soft deleted successfully: {}", agencyId);
+    }
+
+    /**
+     * 활성 사용자들을 기관 멤버로 일괄 추가 (사용자 수와 무관하게 INSERT 1회)
+     * 존재하지 않거나 삭제된 사용자, 이미 멤버인 사용자는 건너뛴다.
+     */
+    @Override
+    @Transactional
+    public AgencyMembersResponse addMembers(UUID agencyId, AgencyMembersRequest request) {
+        Set<UUID> userIds = new LinkedHashSet<>(request.userIds());
+        log.info("Adding {} members to agency: {}", userIds.size(), agencyId);
+        requireActiveAgency(agencyId);
+
+        int inserted = agencyRepository.insertActiveMembers(agencyId, userIds);
+        userResponseCache.invalidateAll(userIds);
+        log.info("Added {} of {} members to agency: {}", inserted, userIds.size(), agencyId);
+
+        return new AgencyMembersResponse(agencyId, userIds.size(), inserted);
+    }
+
+    /**
+     * 기관 멤버 일괄 제거 (사용자 수와 무관하게 DELETE 1회)
+     */
+    @Override
+    @Transactional
+    public AgencyMembersResponse removeMembers(UUID agencyId, AgencyMembersRequest request) {
+        Set<UUID> userIds = new LinkedHashSet<>(request.userIds());
+        log.info("Removing {} members from agency: {}", userIds.size(), agencyId);
+        requireActiveAgency(agencyId);
+
+        int deleted = agencyRepository.deleteMembers(agencyId, userIds);
+        userResponseCache.invalidateAll(userIds);
+        log.info("Removed {} of {} members from agency: {}", deleted, userIds.size(), agencyId);
+
+        return new AgencyMembersResponse(agencyId, userIds.size(), deleted);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearbyAgencyResponse> findNearbyAgencies(double latitude, double longitude, int size) {
+        validateCoordinates(latitude, longitude);
+        int limit = Math.clamp(size, 1, MAX_NEARBY_SIZE);
+
+        return agencyRepository.findNearestActiveAgencies(latitude, longitude, limit).stream()
+                .map(NearbyAgencyResponse::of)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AgencySearchResponse> searchAgencies(String query, String cursor, int size) {
+        String keyword = query == null ? "" : query.strip();
+        if (keyword.length() < MIN_SEARCH_QUERY_LENGTH || keyword.length() > MAX_SEARCH_QUERY_LENGTH) {
+            log.warn("Invalid agency search query length: {}", keyword.length());
+            throw new Bang9Exception(INVALID_SEARCH_QUERY);
+        }
+        String pattern = "%" + escapeLikePattern(keyword) + "%";
+
+        int pageSize = Math.clamp(size, 1, MAX_SEARCH_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<AgencySearchView> agencies;
+        if (cursor == null || cursor.isBlank()) {
+            agencies = agencyRepository.searchActiveAgencies(keyword, pattern, pageSize + 1);
+        } else {
+            AgencySearchCursor after = AgencySearchCursor.decode(cursor);
+            agencies = agencyRepository.searchActiveAgenciesAfter(keyword, pattern, after.score(), after.id(), pageSize + 1);
+        }
+
+        boolean hasNext = agencies.size() > pageSize;
+        List<AgencySearchView> page = hasNext ? agencies.subList(0, pageSize) : agencies;
+        String nextCursor = hasNext ? AgencySearchCursor.from(page.getLast()).encode() : null;
+
+        log.debug("Found {} agencies for query '{}' (hasNext: {})", page.size(), keyword, hasNext);
+        return new CursorPageResponse<>(
+                page.stream()
+                        .map(AgencySearchResponse::of)
+                        .toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AgencyClusterResponse> findClusters(BoundingBox viewport, int zoom) {
+        if (zoom < 0 || zoom > TileCoordinate.MAX_ZOOM) {
+            log.warn("Invalid zoom level: {}", zoom);
+            throw new Bang9Exception(INVALID_VIEWPORT);
+        }
+        double cellSize = 360.0 / ((1L << zoom) * CELLS_PER_TILE);
+        // 넓은 영역을 높은 줌으로 요청하면 셀 수가 LIMIT을 넘어 클러스터가 조용히 누락되므로 셀을 2배씩 넓힌다
+        while (gridCellCount(viewport, cellSize) > MAX_CLUSTER_CELLS) {
+            cellSize *= 2;
+        }
+
+        return agencyRepository.findActiveAgencyClusters(
+                        viewport.minLatitude(),
+                        viewport.minLongitude(),
+                        viewport.maxLatitude(),
+                        viewport.maxLongitude(),
+                        cellSize,
+                        MAX_CLUSTER_CELLS
+                ).stream()
+                .map(AgencyClusterResponse::of)
+                .toList();
+    }
+
+    /**
+     * 타일 영역의 클러스터 응답을 직렬화된 본문과 ETag로 반환 (캐시 적중 시 DB 조회/직렬화 없음)
+     */
+    @Override
+    public AgencyTile getClusterTile(TileCoordinate tile) {
+        return agencyTileCache.get(tile, TileFormat.JSON, this::loadClusterTile);
+    }
+
+    /**
+     * 타일 영역의 기관 벡터 타일(MVT) 반환 (PostGIS가 인코딩한 바이트를 그대로 캐싱)
+     */
+    @Override
+    public AgencyTile getVectorTile(TileCoordinate tile) {
+        return agencyTileCache.get(tile, TileFormat.MVT, key ->
+                AgencyTile.of(agencyVectorTileRepository.findActiveAgencyTile(key.z(), key.x(), key.y())));
+    }
+
+    private AgencyTile loadClusterTile(TileCoordinate tile) {
+        List<AgencyClusterResponse> clusters = findClusters(tile.toBoundingBox(), tile.z());
+        try {
+            return AgencyTile.of(objectMapper.writeValueAsBytes(
+                    Bang9Response.onSuccess(_OK.getCode(), _OK.getMessage(), clusters)
+            ));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize agency tile " + tile, e);
+        }
+    }
+
+    // ST_SnapToGrid는 가장 가까운 격자점으로 반올림하므로 축마다 양 끝 셀 하나씩을 더한 상한
+    private static double gridCellCount(BoundingBox viewport, double cellSize) {
+        double columns = Math.floor((viewport.maxLongitude() - viewport.minLongitude()) / cellSize) + 2;
+        double rows = Math.floor((viewport.maxLatitude() - viewport.minLatitude()) / cellSize) + 2;
+        return columns * rows;
+    }
+
+    private AgencyEntity findActiveAgency(UUID agencyId) {
+        return agencyRepository.findByIdAndStatusTrue(agencyId)
+                .orElseThrow(() -> {
+                    log.warn("Agency not found or deleted with ID: {}", agencyId);
+                    return new Bang9Exception(AGENCY_NOT_FOUND);
+                });
+    }
+
+    private void requireActiveAgency(UUID agencyId) {
+        if (!agencyRepository.existsByIdAndStatusTrue(agencyId)) {
+            log.warn("Agency not found or deleted with ID: {}", agencyId);
+            throw new Bang9Exception(AGENCY_NOT_FOUND);
+        }
+    }
+
+    // ILIKE 패턴 문자(\, %, _)를 검색어 그대로 비교하도록 이스케이프 (기본 이스케이프 문자는 \)
+    private static String escapeLikePattern(String keyword) {
+        return keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    // 위도/경도는 함께 지정하거나 함께 생략해야 함 (ck_agency_coordinates)
+    private void validateCoordinatePair(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            log.warn("Latitude and longitude must be given together: latitude={}, longitude={}", latitude, longitude);
+            throw new Bang9Exception(INVALID_COORDINATES);
+        }
+        if (latitude != null) {
+            validateCoordinates(latitude, longitude);
+        }
+    }
+
+    private void validateCoordinates(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            log.warn("Invalid coordinates: latitude={}, longitude={}", latitude, longitude);
+            throw new Bang9Exception(INVALID_COORDINATES);
+        }
+    }
+}
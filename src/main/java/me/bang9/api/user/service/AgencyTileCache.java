@@ -0,0 +1,70 @@
+package me.bang9.api.user.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.bang9.api.global.cache.AsyncLoadingSupport;
+import me.bang9.api.user.dto.res.AgencyTile;
+import me.bang9.api.user.model.TileCoordinate;
+import me.bang9.api.user.model.TileFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 지도 타일(z/x/y, 형식) 단위 기관 타일 응답 캐시 (직렬화된 본문 + ETag)
+ * 기관이 생성/이동/삭제되면 AgencyTileInvalidationListener가 영향받는 타일을 제거한다.
+ * TTL은 벌크 SQL 등 엔티티 리스너를 거치지 않는 변경에 대한 안전장치이다.
+ * 로더는 캐시 락 밖에서 호출 스레드가 실행한다 (AsyncLoadingSupport).
+ */
+@Component
+public class AgencyTileCache {
+
+    private static final String CACHE_NAME = "agencyTile";
+
+    private final AsyncCache<TileKey, AgencyTile> cache;
+    private final Counter invalidations;
+
+    public AgencyTileCache(
+            MeterRegistry meterRegistry,
+            @Value("${bang9.cache.agency-tile.max-size:20000}") long maxSize,
+            @Value("${bang9.cache.agency-tile.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.invalidations = Counter.builder("cache.invalidations")
+                .description("The number of tiles invalidated by agency changes")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    public AgencyTile get(TileCoordinate tile, TileFormat format, Function<TileCoordinate, AgencyTile> loader) {
+        return AsyncLoadingSupport.get(cache, new TileKey(tile, format), () -> loader.apply(tile));
+    }
+
+    /**
+     * 타일 제거 (모든 형식, 트랜잭션 안에서는 커밋 이후에 한 번 더 제거)
+     */
+    public void invalidateAll(Collection<TileCoordinate> tiles) {
+        Set<TileKey> keys = tiles.stream()
+                .flatMap(tile -> Arrays.stream(TileFormat.values()).map(format -> new TileKey(tile, format)))
+                .collect(Collectors.toUnmodifiableSet());
+        AsyncLoadingSupport.invalidateNowAndAfterCommit(() -> cache.synchronous().invalidateAll(keys));
+        invalidations.increment(keys.size());
+    }
+
+    private record TileKey(TileCoordinate tile, TileFormat format) {
+    }
+}
@@ -1,4 +1,42 @@
 package me.bang9.api.user.service;
 
+import me.bang9.api.global.api.CursorPageResponse;
+import me.bang9.api.user.dto.req.AgencyCreateRequest;
+import me.bang9.api.user.dto.req.AgencyMembersRequest;
+import me.bang9.api.user.dto.req.AgencyUpdateRequest;
+import me.bang9.api.user.dto.res.AgencyClusterResponse;
+import me.bang9.api.user.dto.res.AgencyMembersResponse;
+import me.bang9.api.user.dto.res.AgencyResponse;
+import me.bang9.api.user.dto.res.AgencySearchResponse;
+import me.bang9.api.user.dto.res.AgencyTile;
+import me.bang9.api.user.dto.res.NearbyAgencyResponse;
+import me.bang9.api.user.model.BoundingBox;
+import me.bang9.api.user.model.TileCoordinate;
+
+import java.util.List;
+import java.util.UUID;
+
 public interface AgencyUseCase {
+
+    AgencyResponse createAgency(AgencyCreateRequest request);
+
+    AgencyResponse getAgency(UUID agencyId);
+
+    AgencyResponse updateAgency(UUID agencyId, AgencyUpdateRequest request);
+
+    void softDeleteAgency(UUID agencyId);
+
+    AgencyMembersResponse addMembers(UUID agencyId, AgencyMembersRequest request);
+
+    AgencyMembersResponse removeMembers(UUID agencyId, AgencyMembersRequest request);
+
+    List<NearbyAgencyResponse> findNearbyAgencies(double latitude, double longitude, int size);
+
+    CursorPageResponse<AgencySearchResponse> searchAgencies(String query, String cursor, int size);
+
+    List<AgencyClusterResponse> findClusters(BoundingBox viewport, int zoom);
+
+    AgencyTile getClusterTile(TileCoordinate tile);
+
+    AgencyTile getVectorTile(TileCoordinate tile);
 }
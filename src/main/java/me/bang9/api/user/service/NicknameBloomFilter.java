@@ -0,0 +1,151 @@
+package me.bang9.api.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용 중인 닉네임의 Bloom filter (닉네임 사용 가능 여부 조회 시 DB 조회 생략용)
+ * mightContain 이 false 이면 확실히 사용 가능하고, true 이면 DB 로 확인해야 한다.
+ * 비트 배열은 AtomicLongArray 로 두어 잠금 없이 동시에 추가/조회할 수 있다.
+ * <p>
+ * Bloom filter 는 삭제를 지원하지 않으므로 닉네임 변경 전 값은 남아 오탐(false positive)으로만 이어진다.
+ * 메모리 사용량, 예상 오탐률(채워진 비트 비율 기준), 실제 오탐률(DB 확인 결과 기준)은
+ * bang9.nickname.filter.* 메트릭으로 노출된다.
+ */
+@Component
+public class NicknameBloomFilter {
+
+    private static final String METRIC_PREFIX = "bang9.nickname.filter";
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong setBitCount = new AtomicLong();
+
+    // 시작 시 기존 닉네임을 모두 적재하기 전에는 항상 DB 로 확인
+    private volatile boolean ready;
+
+    private final Counter negatives;
+    private final Counter truePositives;
+    private final Counter falsePositives;
+    private final Counter bypassed;
+
+    public NicknameBloomFilter(
+            MeterRegistry meterRegistry,
+            @Value("${bang9.nickname-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${bang9.nickname-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long words = Math.max(1, (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)) / Long.SIZE));
+        this.bits = new AtomicLongArray(Math.toIntExact(words));
+        this.bitSize = words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+
+        Gauge.builder(METRIC_PREFIX + ".memory", this, filter -> filter.bits.length() * (double) Long.BYTES)
+                .description("Size of the nickname Bloom filter bit array")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".expected.fpp", this, NicknameBloomFilter::expectedFalsePositiveRate)
+                .description("Expected false positive rate of the nickname Bloom filter based on the fraction of set bits")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".observed.fpp", this, NicknameBloomFilter::observedFalsePositiveRate)
+                .description("Fraction of available nicknames that the Bloom filter reported as probably taken")
+                .register(meterRegistry);
+        this.negatives = checkCounter(meterRegistry, "negative");
+        this.truePositives = checkCounter(meterRegistry, "true_positive");
+        this.falsePositives = checkCounter(meterRegistry, "false_positive");
+        this.bypassed = checkCounter(meterRegistry, "not_ready");
+    }
+
+    public void put(String nickname) {
+        long hash = hash(nickname);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+            long mask = 1L << index;
+            long previous = bits.getAndUpdate((int) (index >>> 6), word -> word | mask);
+            if ((previous & mask) == 0) {
+                setBitCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * @return false 이면 확실히 없는 닉네임, true 이면 있을 수도 있는 닉네임 (적재 전에는 항상 true)
+     */
+    public boolean mightContain(String nickname) {
+        if (!ready) {
+            bypassed.increment();
+            return true;
+        }
+
+        long hash = hash(nickname);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                negatives.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * mightContain 이 true 였던 닉네임의 DB 확인 결과 기록 (실제 오탐률 메트릭)
+     */
+    public void recordPositive(boolean taken) {
+        (taken ? truePositives : falsePositives).increment();
+    }
+
+    /**
+     * 기존 닉네임 적재 완료 (이후 mightContain 이 false 를 반환할 수 있음)
+     */
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    double expectedFalsePositiveRate() {
+        return Math.pow((double) setBitCount.get() / bitSize, hashCount);
+    }
+
+    double observedFalsePositiveRate() {
+        double positives = falsePositives.count();
+        double available = positives + negatives.count();
+        return available == 0 ? 0 : positives / available;
+    }
+
+    private Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".checks")
+                .description("Nickname availability checks by Bloom filter result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // FNV-1a 64 + MurmurHash3 fmix64 (하위/상위 32비트를 두 해시로 사용하는 double hashing)
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
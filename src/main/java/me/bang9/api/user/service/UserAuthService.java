@@ -1,53 +1,80 @@
 package me.bang9.api.user.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.bang9.api.global.api.CursorPageResponse;
 import me.bang9.api.global.api.exception.Bang9Exception;
+import me.bang9.api.global.security.PasswordHasher;
+import me.bang9.api.global.validation.ValidNicknameValidator;
+import me.bang9.api.user.dto.req.NicknameCursor;
 import me.bang9.api.user.dto.req.UserCreateRequest;
+import me.bang9.api.user.dto.req.UserCursor;
 import me.bang9.api.user.dto.req.UserUpdateRequest;
+import me.bang9.api.user.dto.res.NicknameAvailabilityResponse;
 import me.bang9.api.user.dto.res.UserResponse;
+import me.bang9.api.user.dto.res.UserSummaryResponse;
 import me.bang9.api.user.entity.UserEntity;
 import me.bang9.api.user.model.UserRole;
 import me.bang9.api.user.repository.UserJpaRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import me.bang9.api.user.repository.projection.UpdatedUserView;
+import me.bang9.api.user.repository.projection.UserAgencyNameView;
+import me.bang9.api.user.repository.projection.UserSummaryView;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_EMAIL;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.INVALID_NICKNAME;
 import static me.bang9.api.global.api.code.status.UserErrorStatus.USER_NOT_FOUND;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "bang9.usecase", description = "UserAuthUseCase method execution time")
 public class UserAuthService implements UserAuthUseCase {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
+
     private final UserJpaRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserResponseCache userResponseCache;
+    private final NicknameBloomFilter nicknameFilter;
 
+    // 해싱(수십~수백 ms) 동안 DB 커넥션을 점유하지 않도록 메서드 전체를 트랜잭션으로 묶지 않음
     @Override
-    @Transactional
     public UserResponse createUser(UserCreateRequest request) {
         log.info("Creating new user with email: {}", request.email());
 
-        // 이메일 중복 검사
-        if (userRepository.existsByEmail(request.email())) {
-            log.warn("Duplicate email attempted: {}", request.email());
-            throw new Bang9Exception(DUPLICATE_EMAIL);
-        }
+        // 해싱 전용 스레드 풀에서 비밀번호 해싱 (포화 시 429)
+        String encodedPassword = passwordHasher.hash(request.password());
 
         // 사용자 엔티티 생성
         UserEntity user = new UserEntity();
         user.setEmail(request.email());
-        user.setPassword(passwordEncoder.encode(request.password()));
+        user.setPassword(encodedPassword);
         user.setNickname(request.nickname());
         user.setRole(UserRole.USER);
         user.setProvider(request.provider());
 
-        // 저장
+        // 저장 (INSERT 1회)
+        // 이메일/닉네임 중복은 unique 제약 조건 위반(uc_user_email, uc_user_nickname)으로 감지되어
+        // ExceptionAdvice에서 DUPLICATE_EMAIL / DUPLICATE_NICKNAME 으로 변환됨
         UserEntity savedUser = userRepository.save(user);
+        userResponseCache.invalidate(savedUser.getId());
+        nicknameFilter.put(savedUser.getNickname());
         log.info("User created successfully with ID: {}", savedUser.getId());
 
         return UserResponse.of(savedUser);
@@ -55,40 +82,83 @@ public class UserAuthService implements UserAuthUseCase {
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getAllUsers() {
-        log.info("Fetching all users");
+    public CursorPageResponse<UserResponse> getUsers(String cursor, int size) {
+        log.info("Fetching users after cursor: {}", cursor);
 
-        List<UserEntity> users = userRepository.findAll();
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
-        // 활성 사용자만 필터링 (소프트 삭제된 사용자 제외)
-        List<UserResponse> activeUsers = users.stream()
-                .filter(user -> user.getStatus() == Boolean.TRUE)
-                .map(UserResponse::of)
-                .toList();
+        // 활성 사용자 필터링은 DB에서 수행 (idx_user_active_created_at_id)
+        List<UserEntity> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userRepository.findActiveUsers(limit);
+        } else {
+            UserCursor after = UserCursor.decode(cursor);
+            users = userRepository.findActiveUsersAfter(after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = users.size() > pageSize;
+        List<UserEntity> page = hasNext ? users.subList(0, pageSize) : users;
+        String nextCursor = hasNext ? UserCursor.from(page.getLast()).encode() : null;
+
+        // 소속 기관명은 사용자 수와 무관하게 한 번의 쿼리로 조회
+        Map<UUID, Set<String>> agencyNames = findAgencyNames(page);
 
-        log.info("Found {} active users", activeUsers.size());
-        return activeUsers;
+        log.info("Found {} active users (hasNext: {})", page.size(), hasNext);
+        return new CursorPageResponse<>(
+                page.stream()
+                        .map(user -> UserResponse.of(user, agencyNames.getOrDefault(user.getId(), Set.of())))
+                        .toList(),
+                nextCursor,
+                hasNext
+        );
     }
 
     @Override
-    @Transactional(readOnly = true)
     public UserResponse getUserById(UUID userId) {
         log.info("Fetching user by ID: {}", userId);
 
-        UserEntity user = userRepository.findById(userId)
+        // 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 조회
+        return userResponseCache.get(userId, this::loadActiveUser)
                 .orElseThrow(() -> {
                     log.warn("User not found with ID: {}", userId);
                     return new Bang9Exception(USER_NOT_FOUND);
                 });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserSummaryResponse> getCoMembers(UUID userId, String cursor, int size) {
+        log.info("Fetching co-members of user {} after cursor: {}", userId, cursor);
 
-        // 소프트 삭제된 사용자 체크
-        if (user.getStatus() == Boolean.FALSE) {
-            log.warn("Attempt to access deleted user with ID: {}", userId);
+        if (!userRepository.existsByIdAndStatusTrue(userId)) {
+            log.warn("User not found with ID: {}", userId);
             throw new Bang9Exception(USER_NOT_FOUND);
         }
 
-        log.info("User found: {}", user.getEmail());
-        return UserResponse.of(user);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<UserSummaryView> coMembers;
+        if (cursor == null || cursor.isBlank()) {
+            coMembers = userRepository.findCoMembers(userId, pageSize + 1);
+        } else {
+            NicknameCursor after = NicknameCursor.decode(cursor);
+            coMembers = userRepository.findCoMembersAfter(userId, after.nickname(), pageSize + 1);
+        }
+
+        boolean hasNext = coMembers.size() > pageSize;
+        List<UserSummaryView> page = hasNext ? coMembers.subList(0, pageSize) : coMembers;
+        String nextCursor = hasNext ? new NicknameCursor(page.getLast().getNickname()).encode() : null;
+
+        log.info("Found {} co-members of user {} (hasNext: {})", page.size(), userId, hasNext);
+        return new CursorPageResponse<>(
+                page.stream()
+                        .map(UserSummaryResponse::of)
+                        .toList(),
+                nextCursor,
+                hasNext
+        );
     }
 
     @Override
@@ -96,25 +166,18 @@ public class UserAuthService implements UserAuthUseCase {
     public UserResponse updateUser(UUID userId, UserUpdateRequest request) {
         log.info("Updating user with ID: {}", userId);
 
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.warn("User not found for update with ID: {}", userId);
-                    return new Bang9Exception(USER_NOT_FOUND);
-                });
-
-        // 소프트 삭제된 사용자 체크
-        if (user.getStatus() == Boolean.FALSE) {
-            log.warn("Attempt to update deleted user with ID: {}", userId);
+        // 닉네임 업데이트와 응답 조회를 SQL 1회로 처리 (존재하지 않거나 소프트 삭제된 사용자는 결과 없음)
+        List<UpdatedUserView> updated = userRepository.updateNicknameIfActive(userId, request.nickname(), LocalDateTime.now());
+        if (updated.isEmpty()) {
+            log.warn("User not found or deleted for update with ID: {}", userId);
             throw new Bang9Exception(USER_NOT_FOUND);
         }
 
-        // 닉네임 업데이트
-        user.setNickname(request.nickname());
+        userResponseCache.invalidate(userId);
+        nicknameFilter.put(request.nickname());
+        log.info("User updated successfully: {}", userId);
 
-        UserEntity updatedUser = userRepository.save(user);
-        log.info("User updated successfully: {}", updatedUser.getId());
-
-        return UserResponse.of(updatedUser);
+        return UserResponse.of(updated);
     }
 
     @Override
@@ -122,21 +185,91 @@ public class UserAuthService implements UserAuthUseCase {
     public void softDeleteUser(UUID userId) {
         log.info("Soft deleting user with ID: {}", userId);
 
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.warn("User not found for deletion with ID: {}", userId);
-                    return new Bang9Exception(USER_NOT_FOUND);
+        // 소프트 삭제 (UPDATE 1회, 존재하지 않거나 이미 삭제된 사용자는 삭제된 행 없음)
+        int deletedRows = userRepository.softDeleteIfActive(userId, LocalDateTime.now());
+        if (deletedRows == 0) {
+            log.warn("User not found or already deleted with ID: {}", userId);
+            throw new Bang9Exception(USER_NOT_FOUND);
+        }
+
+        userResponseCache.invalidate(userId);
+        log.info("User soft deleted successfully: {}", userId);
+    }
+
+    @Override
+    public NicknameAvailabilityResponse checkNicknameAvailability(String nickname) {
+        if (!ValidNicknameValidator.isValidNickname(nickname)) {
+            throw new Bang9Exception(INVALID_NICKNAME);
+        }
+
+        // Bloom filter 에 없으면 확실히 사용 가능하므로 DB 조회 생략
+        if (!nicknameFilter.mightContain(nickname)) {
+            return new NicknameAvailabilityResponse(nickname, true);
+        }
+
+        // 사용 중일 수도 있는 경우에만 DB 확인 (uc_user_nickname 인덱스)
+        boolean taken = userRepository.existsByNickname(nickname);
+        if (nicknameFilter.isReady()) {
+            nicknameFilter.recordPositive(taken);
+        }
+        return new NicknameAvailabilityResponse(nickname, !taken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserSummaryResponse> autocompleteNicknames(String prefix, int size) {
+        // 닉네임 규칙(영문자로 시작, 영문/숫자/._)을 만족하는 접두사만 허용하므로 LIKE 이스케이프가 필요 없음
+        if (!ValidNicknameValidator.isValidNickname(prefix)) {
+            throw new Bang9Exception(INVALID_NICKNAME);
+        }
+
+        // 'ab' -> ['ab', 'ac') (허용 문자는 모두 'z' 이하이므로 마지막 글자 + 1 이 넘치지 않음)
+        int last = prefix.length() - 1;
+        String upperBound = prefix.substring(0, last) + (char) (prefix.charAt(last) + 1);
+
+        return userRepository.autocompleteNicknames(prefix, upperBound, Math.clamp(size, 1, MAX_AUTOCOMPLETE_SIZE)).stream()
+                .map(UserSummaryResponse::of)
+                .toList();
+    }
+
+    /**
+     * 시작 시 사용 중인 닉네임 전체를 Bloom filter 에 적재
+     * 적재 중 생성/수정된 닉네임은 createUser/updateUser 에서 함께 추가되며, 완료 전에는 항상 DB 로 확인한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadTakenNicknames() {
+        long startedAt = System.nanoTime();
+        long count = 0;
+        try (Stream<String> nicknames = userRepository.streamAllNicknames()) {
+            for (String nickname : (Iterable<String>) nicknames::iterator) {
+                nicknameFilter.put(nickname);
+                count++;
+            }
+        }
+        nicknameFilter.markReady();
+        log.info("Loaded {} nicknames into Bloom filter in {} ms", count, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private Optional<UserResponse> loadActiveUser(UUID userId) {
+        // 존재하지 않거나 소프트 삭제된 사용자는 Optional.empty()로 캐싱
+        return userRepository.findByIdAndStatusTrue(userId)
+                .map(user -> {
+                    log.info("User found: {}", user.getEmail());
+                    return UserResponse.of(user, findAgencyNames(List.of(user)).getOrDefault(userId, Set.of()));
                 });
+    }
 
-        try {
-            // UserEntity의 performSoftDelete() 메서드 호출
-            // 이미 삭제된 경우 Error를 던짐
-            user.softDelete();
-            userRepository.save(user);
-            log.info("User soft deleted successfully: {}", userId);
-        } catch (Error e) {
-            log.warn("Attempt to delete already deleted user with ID: {}", userId);
-            throw new Bang9Exception(USER_NOT_FOUND);
+    private Map<UUID, Set<String>> findAgencyNames(List<UserEntity> users) {
+        if (users.isEmpty()) {
+            return Map.of();
         }
+
+        List<UUID> userIds = users.stream().map(UserEntity::getId).toList();
+        return userRepository.findAgencyNamesByUserIds(userIds).stream()
+                .collect(Collectors.groupingBy(
+                        UserAgencyNameView::getUserId,
+                        Collectors.mapping(UserAgencyNameView::getAgencyName, Collectors.toSet())
+                ));
     }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package me.bang9.api.user.service;
 
+import me.bang9.api.global.api.CursorPageResponse;
 import me.bang9.api.user.dto.req.UserCreateRequest;
 import me.bang9.api.user.dto.req.UserUpdateRequest;
+import me.bang9.api.user.dto.res.NicknameAvailabilityResponse;
 import me.bang9.api.user.dto.res.UserResponse;
+import me.bang9.api.user.dto.res.UserSummaryResponse;
 
 import java.util.List;
 import java.util.UUID;
@@ -13,15 +16,18 @@ public interface UserAuthUseCase {
      * EMAIL 제공자를 통한 새 사용자 생성
      * @param request 이메일, 비밀번호, 닉네임, 제공자를 포함한 사용자 생성 요청
      * @return 생성된 사용자의 응답 데이터
-     * @throws IllegalArgumentException 이메일이 이미 존재하거나 유효성 검사 실패 시
+     * @throws org.springframework.dao.DataIntegrityViolationException 이메일 또는 닉네임이 이미 존재하는 경우
      */
     UserResponse createUser(UserCreateRequest request);
     
     /**
-     * 시스템의 모든 사용자 조회
-     * @return 모든 사용자의 응답 데이터 목록
+     * 활성 사용자 목록을 커서 기반으로 조회 (created_at, id 순)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지인 경우 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 활성 사용자 응답 데이터 페이지
+     * @throws me.bang9.api.global.api.exception.Bang9Exception 커서 형식이 올바르지 않은 경우
      */
-    List<UserResponse> getAllUsers();
+    CursorPageResponse<UserResponse> getUsers(String cursor, int size);
     
     /**
      * ID로 특정 사용자 조회
@@ -30,6 +36,16 @@ public interface UserAuthUseCase {
      * @throws IllegalArgumentException 사용자를 찾을 수 없는 경우
      */
     UserResponse getUserById(UUID userId);
+
+    /**
+     * 사용자와 같은 활성 기관에 속한 다른 활성 멤버를 커서 기반으로 조회 (닉네임 순)
+     * @param userId 기준 사용자의 UUID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지인 경우 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 같은 기관 멤버(ID, 닉네임) 페이지
+     * @throws me.bang9.api.global.api.exception.Bang9Exception 사용자를 찾을 수 없거나 커서 형식이 올바르지 않은 경우
+     */
+    CursorPageResponse<UserSummaryResponse> getCoMembers(UUID userId, String cursor, int size);
     
     /**
      * 사용자 정보 수정 (현재는 닉네임만 지원)
@@ -46,4 +62,22 @@ public interface UserAuthUseCase {
      * @throws IllegalArgumentException 사용자를 찾을 수 없거나 이미 삭제된 경우
      */
     void softDeleteUser(UUID userId);
+
+    /**
+     * 닉네임 사용 가능 여부 확인 (소프트 삭제된 사용자의 닉네임도 사용 중으로 취급)
+     * 사용 중인 닉네임의 Bloom filter 에 없으면 DB 조회 없이 사용 가능으로 응답한다.
+     * @param nickname 확인할 닉네임
+     * @return 닉네임과 사용 가능 여부
+     * @throws me.bang9.api.global.api.exception.Bang9Exception 닉네임 형식이 올바르지 않은 경우
+     */
+    NicknameAvailabilityResponse checkNicknameAvailability(String nickname);
+
+    /**
+     * 닉네임이 접두사로 시작하는 활성 사용자 조회 (자동완성, 닉네임 순 상위 size 명)
+     * @param prefix 닉네임 접두사 (대소문자 구분)
+     * @param size 최대 결과 수 (1 ~ 20)
+     * @return 사용자 ID, 닉네임 목록
+     * @throws me.bang9.api.global.api.exception.Bang9Exception 접두사가 닉네임 형식에 맞지 않는 경우
+     */
+    List<UserSummaryResponse> autocompleteNicknames(String prefix, int size);
 }
@@ -0,0 +1,61 @@
+package me.bang9.api.user.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.bang9.api.user.dto.res.UserResponse;
+import me.bang9.api.user.repository.UserExportRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = "bang9.usecase", description = "UserExportUseCase method execution time")
+public class UserExportService implements UserExportUseCase {
+
+    private final UserExportRepository userExportRepository;
+    private final ObjectMapper objectMapper;
+
+    // 커서가 트랜잭션 동안 유지되므로 내보내기가 끝날 때까지 커넥션 하나를 점유한다
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsers(OutputStream out) throws IOException {
+        log.info("Exporting active users as NDJSON");
+
+        // 행마다 flush 하지 않고 Jackson/서블릿 버퍼가 찰 때만 전송
+        ObjectWriter writer = objectMapper.writerFor(UserResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long[] count = {0};
+
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 루트 값 사이 기본 구분자(공백) 대신 행 끝마다 줄바꿈을 직접 출력
+            generator.setRootValueSeparator(null);
+
+            try {
+                userExportRepository.streamActiveUsers(user -> {
+                    try {
+                        writer.writeValue(generator, UserResponse.of(user));
+                        generator.writeRaw('\n');
+                        count[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        log.info("Exported {} active users", count[0]);
+    }
+}
@@ -0,0 +1,15 @@
+package me.bang9.api.user.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface UserExportUseCase {
+
+    /**
+     * 활성 사용자 전체를 NDJSON(한 행에 UserResponse JSON 하나)으로 출력
+     * 결과를 모으지 않고 DB 커서에서 읽는 대로 출력하므로 사용자 수와 무관하게 메모리 사용량이 일정하다.
+     * @param out 출력 스트림 (닫지 않음)
+     * @throws IOException 출력 중 클라이언트 연결이 끊긴 경우 등
+     */
+    void exportUsers(OutputStream out) throws IOException;
+}
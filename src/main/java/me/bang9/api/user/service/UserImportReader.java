@@ -0,0 +1,160 @@
+package me.bang9.api.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import me.bang9.api.global.api.exception.Bang9Exception;
+import me.bang9.api.user.dto.req.UserCreateRequest;
+import me.bang9.api.user.model.Provider;
+import me.bang9.api.user.model.UserImportFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static me.bang9.api.global.api.code.status.UserErrorStatus.INVALID_IMPORT_ROW;
+
+/**
+ * 사용자 일괄 등록 요청 본문을 행 단위로 읽는 리더 (본문 전체를 메모리에 올리지 않음)
+ * <ul>
+ *     <li>NDJSON: 한 행에 사용자 생성 요청 JSON 하나</li>
+ *     <li>CSV: 첫 행은 헤더(email,password,nickname,provider), 큰따옴표 필드와 "" 이스케이프 지원 (필드 안 줄바꿈은 미지원)</li>
+ * </ul>
+ * 빈 행은 건너뛰며, 형식이 잘못된 행은 오류와 함께 반환하여 나머지 행은 계속 처리한다.
+ */
+class UserImportReader {
+
+    private static final List<String> CSV_COLUMNS = List.of("email", "password", "nickname", "provider");
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final UserImportFormat format;
+    private final ObjectReader requestReader;
+
+    private int line;
+    private Map<String, Integer> csvColumns;
+
+    UserImportReader(BufferedReader reader, UserImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.requestReader = objectMapper.readerFor(UserCreateRequest.class);
+    }
+
+    /**
+     * 다음 행을 최대 max 개까지 읽음 (본문 끝이면 빈 목록)
+     */
+    List<Row> read(int max) throws IOException {
+        List<Row> rows = new ArrayList<>(max);
+        String text;
+        while (rows.size() < max && (text = reader.readLine()) != null) {
+            line++;
+            if (line == 1 && !text.isEmpty() && text.charAt(0) == BOM) {
+                text = text.substring(1);
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+
+            if (format == UserImportFormat.NDJSON) {
+                rows.add(parseJson(text));
+            } else if (csvColumns == null) {
+                csvColumns = parseCsvHeader(text);
+            } else {
+                rows.add(parseCsv(text));
+            }
+        }
+        return rows;
+    }
+
+    private Row parseJson(String text) {
+        try {
+            UserCreateRequest request = requestReader.readValue(text);
+            return request == null ? new Row(line, null, "Malformed JSON") : new Row(line, request, null);
+        } catch (JsonProcessingException e) {
+            return new Row(line, null, "Malformed JSON");
+        }
+    }
+
+    private Map<String, Integer> parseCsvHeader(String text) {
+        List<String> names = splitCsv(text);
+        if (names == null) {
+            throw new Bang9Exception(INVALID_IMPORT_ROW);
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(CSV_COLUMNS)) {
+            throw new Bang9Exception(INVALID_IMPORT_ROW);
+        }
+        return columns;
+    }
+
+    private Row parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        if (fields == null) {
+            return new Row(line, null, "Malformed CSV");
+        }
+
+        String provider = field(fields, "provider");
+        try {
+            return new Row(line, new UserCreateRequest(
+                    field(fields, "email"),
+                    field(fields, "password"),
+                    field(fields, "nickname"),
+                    provider == null || provider.isBlank() ? null : Provider.valueOf(provider.trim().toUpperCase(Locale.ROOT))
+            ), null);
+        } catch (IllegalArgumentException e) {
+            return new Row(line, null, "Unknown provider");
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        int index = csvColumns.get(column);
+        return index < fields.size() ? fields.get(index) : null;
+    }
+
+    // RFC 4180 한 행 분리 (따옴표가 닫히지 않으면 null)
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 읽은 행 (형식 오류 시 request 는 null, error 에 사유)
+     */
+    record Row(int line, UserCreateRequest request, String error) {
+    }
+}
@@ -0,0 +1,225 @@
+package me.bang9.api.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.bang9.api.global.api.code.BaseErrorCode;
+import me.bang9.api.global.api.exception.Bang9Exception;
+import me.bang9.api.global.api.exception.ConstraintViolationTranslator;
+import me.bang9.api.global.security.PasswordHasher;
+import me.bang9.api.user.dto.req.UserCreateRequest;
+import me.bang9.api.user.dto.res.UserImportResponse;
+import me.bang9.api.user.dto.res.UserImportResult;
+import me.bang9.api.user.entity.UserEntity;
+import me.bang9.api.user.model.UserImportFormat;
+import me.bang9.api.user.model.UserRole;
+import me.bang9.api.user.repository.UserJpaRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._INTERNAL_SERVER_ERROR;
+import static me.bang9.api.global.api.code.status.CommonSuccessStatus._CREATED;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_EMAIL;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_NICKNAME;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.INVALID_IMPORT_ROW;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = "bang9.usecase", description = "UserImportUseCase method execution time")
+public class UserImportService implements UserImportUseCase {
+
+    // 검증/중복 조회/해싱/INSERT 를 한 번에 처리하는 행 수 (hibernate.jdbc.batch_size 의 배수)
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserJpaRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final UserResponseCache userResponseCache;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final NicknameBloomFilter nicknameFilter;
+
+    // 해싱(수십~수백 ms/건) 동안 DB 커넥션을 점유하지 않도록 청크 단위 INSERT 만 트랜잭션으로 묶음
+    // 청크 처리 중 해싱/DB/본문 읽기 오류가 나면 이미 생성한 행의 결과를 잃지 않도록 중단하고 부분 결과를 반환한다
+    @Override
+    public UserImportResponse importUsers(Reader body, UserImportFormat format) {
+        log.info("Importing users from {} body", format);
+
+        UserImportReader reader = new UserImportReader(new BufferedReader(body), format, objectMapper);
+        List<UserImportResult> results = new ArrayList<>();
+        boolean aborted = false;
+        try {
+            List<UserImportReader.Row> rows;
+            while (!aborted && !(rows = reader.read(CHUNK_SIZE)).isEmpty()) {
+                UserImportResult[] chunkResults = new UserImportResult[rows.size()];
+                try {
+                    importChunk(rows, chunkResults);
+                } catch (RuntimeException e) {
+                    // 해싱 풀 포화/타임아웃(Bang9Exception), DB 장애 등: 결과가 정해지지 않은 행만 실패로 기록
+                    log.error("User import aborted at line {}", rows.getFirst().line(), e);
+                    BaseErrorCode errorCode = e instanceof Bang9Exception exception ? exception.getCode() : _INTERNAL_SERVER_ERROR;
+                    for (int i = 0; i < rows.size(); i++) {
+                        if (chunkResults[i] == null) {
+                            chunkResults[i] = failure(rows.get(i), errorCode);
+                        }
+                    }
+                    aborted = true;
+                }
+                results.addAll(Arrays.asList(chunkResults));
+            }
+        } catch (IOException e) {
+            if (results.isEmpty()) {
+                throw new UncheckedIOException("Failed to read user import body", e);
+            }
+            log.warn("Failed to read user import body after {} rows, returning partial result", results.size(), e);
+            aborted = true;
+        }
+
+        UserImportResponse response = UserImportResponse.of(results, aborted);
+        log.info("User import finished: total={}, created={}, failed={}, aborted={}",
+                response.total(), response.created(), response.failed(), response.aborted());
+        return response;
+    }
+
+    private void importChunk(List<UserImportReader.Row> rows, UserImportResult[] results) {
+        // 1. 형식/검증 오류와 청크 내 중복 제외
+        List<Integer> candidates = new ArrayList<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            UserImportReader.Row row = rows.get(i);
+            if (row.error() != null) {
+                results[i] = failure(row, INVALID_IMPORT_ROW, row.error());
+                continue;
+            }
+
+            Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(row.request());
+            if (!violations.isEmpty()) {
+                results[i] = failure(row, INVALID_IMPORT_ROW, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            } else if (emails.contains(row.request().email())) {
+                results[i] = failure(row, DUPLICATE_EMAIL);
+            } else if (nicknames.contains(row.request().nickname())) {
+                results[i] = failure(row, DUPLICATE_NICKNAME);
+            } else {
+                emails.add(row.request().email());
+                nicknames.add(row.request().nickname());
+                candidates.add(i);
+            }
+        }
+
+        // 2. 이미 가입된 이메일/닉네임 제외 (행 수와 무관하게 SELECT 2회)
+        if (!candidates.isEmpty()) {
+            Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(emails));
+            Set<String> existingNicknames = new HashSet<>(userRepository.findExistingNicknames(nicknames));
+            candidates.removeIf(i -> {
+                UserImportReader.Row row = rows.get(i);
+                if (existingEmails.contains(row.request().email())) {
+                    results[i] = failure(row, DUPLICATE_EMAIL);
+                    return true;
+                }
+                if (existingNicknames.contains(row.request().nickname())) {
+                    results[i] = failure(row, DUPLICATE_NICKNAME);
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        // 3. 병렬 해싱 후 배치 INSERT
+        if (!candidates.isEmpty()) {
+            List<String> hashes = passwordHasher.hashAll(candidates.stream()
+                    .map(i -> rows.get(i).request().password())
+                    .toList());
+            insert(rows, candidates, hashes, results);
+        }
+    }
+
+    private void insert(List<UserImportReader.Row> rows, List<Integer> candidates, List<String> hashes, UserImportResult[] results) {
+        List<UserEntity> users = new ArrayList<>(candidates.size());
+        for (int c = 0; c < candidates.size(); c++) {
+            users.add(toEntity(rows.get(candidates.get(c)).request(), hashes.get(c)));
+        }
+
+        try {
+            insertBatch(rows, candidates, users, results);
+        } finally {
+            // 행 단위 재시도 도중 중단되어도 이미 커밋된 행은 캐시에서 제외
+            List<UUID> createdIds = Arrays.stream(results)
+                    .filter(result -> result != null && result.success())
+                    .map(UserImportResult::userId)
+                    .toList();
+            userResponseCache.invalidateAll(createdIds);
+        }
+    }
+
+    private void insertBatch(List<UserImportReader.Row> rows, List<Integer> candidates, List<UserEntity> users, UserImportResult[] results) {
+        try {
+            // hibernate.jdbc.batch_size 단위의 배치 INSERT
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                userRepository.flush();
+            });
+            for (int c = 0; c < candidates.size(); c++) {
+                results[candidates.get(c)] = success(rows.get(candidates.get(c)), users.get(c).getId());
+                nicknameFilter.put(users.get(c).getNickname());
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 중복 조회 이후 다른 요청이 같은 이메일/닉네임으로 가입한 경우: 행 단위로 다시 저장하여 충돌한 행만 실패 처리
+            log.warn("Batch insert conflicted, retrying {} rows one by one", candidates.size());
+            for (int c = 0; c < candidates.size(); c++) {
+                UserImportReader.Row row = rows.get(candidates.get(c));
+                UserEntity user = toEntity(row.request(), users.get(c).getPassword());
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userRepository.saveAndFlush(user));
+                    results[candidates.get(c)] = success(row, user.getId());
+                    nicknameFilter.put(user.getNickname());
+                } catch (DataIntegrityViolationException conflict) {
+                    results[candidates.get(c)] = failure(row, ConstraintViolationTranslator.translate(conflict));
+                }
+            }
+        }
+    }
+
+    private static UserEntity toEntity(UserCreateRequest request, String encodedPassword) {
+        UserEntity user = new UserEntity();
+        user.setEmail(request.email());
+        user.setPassword(encodedPassword);
+        user.setNickname(request.nickname());
+        user.setRole(UserRole.USER);
+        user.setProvider(request.provider());
+        return user;
+    }
+
+    private static UserImportResult success(UserImportReader.Row row, UUID userId) {
+        return new UserImportResult(row.line(), row.request().email(), true, _CREATED.getCode(), _CREATED.getMessage(), userId);
+    }
+
+    private static UserImportResult failure(UserImportReader.Row row, BaseErrorCode errorCode) {
+        return failure(row, errorCode, errorCode.getReason().getMessage());
+    }
+
+    private static UserImportResult failure(UserImportReader.Row row, BaseErrorCode errorCode, String message) {
+        String email = row.request() == null ? null : row.request().email();
+        return new UserImportResult(row.line(), email, false, errorCode.getReason().getCode(), message, null);
+    }
+}
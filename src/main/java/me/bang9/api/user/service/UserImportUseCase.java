@@ -0,0 +1,20 @@
+package me.bang9.api.user.service;
+
+import me.bang9.api.user.dto.res.UserImportResponse;
+import me.bang9.api.user.model.UserImportFormat;
+
+import java.io.Reader;
+
+public interface UserImportUseCase {
+
+    /**
+     * CSV/NDJSON 본문을 스트리밍으로 읽어 사용자 일괄 생성
+     * 형식/검증 오류와 이메일/닉네임 중복은 해당 행만 실패로 기록하고 나머지 행은 계속 처리한다.
+     * 행은 일정 크기 단위로 나누어 각각 별도 트랜잭션으로 저장하므로, 처리 도중 중단되면 앞서 저장된 행은 유지된다.
+     * @param body 요청 본문
+     * @param format 본문 형식
+     * @return 행별 결과
+     * @throws me.bang9.api.global.api.exception.Bang9Exception CSV 헤더가 올바르지 않거나 해싱 풀이 응답하지 않는 경우
+     */
+    UserImportResponse importUsers(Reader body, UserImportFormat format);
+}
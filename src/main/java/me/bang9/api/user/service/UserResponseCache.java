@@ -0,0 +1,90 @@
+package me.bang9.api.user.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.bang9.api.global.cache.AsyncLoadingSupport;
+import me.bang9.api.user.dto.res.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * getUserById 조회 결과 캐시 (UUID -> UserResponse)
+ * 존재하지 않거나 삭제된 유저는 Optional.empty()로 짧게 캐싱한다 (negative caching).
+ * 캐시 적중/미스/제거 횟수는 cache.* 메트릭(cache=userResponse)으로 노출된다.
+ * 로더는 캐시 락 밖에서 호출 스레드가 실행한다 (AsyncLoadingSupport).
+ */
+@Component
+public class UserResponseCache {
+
+    private static final String CACHE_NAME = "userResponse";
+
+    private final AsyncCache<UUID, Optional<UserResponse>> cache;
+    private final Counter invalidations;
+
+    public UserResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${bang9.cache.user.max-size:10000}") long maxSize,
+            @Value("${bang9.cache.user.ttl:5m}") Duration ttl,
+            @Value("${bang9.cache.user.negative-ttl:30s}") Duration negativeTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PositiveNegativeExpiry(ttl, negativeTtl))
+                .recordStats()
+                .buildAsync();
+        this.invalidations = Counter.builder("cache.invalidations")
+                .description("The number of explicit invalidations caused by user and agency membership changes")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    public Optional<UserResponse> get(UUID userId, Function<UUID, Optional<UserResponse>> loader) {
+        return AsyncLoadingSupport.get(cache, userId, () -> loader.apply(userId));
+    }
+
+    /**
+     * 캐시 항목 제거 (트랜잭션 안에서는 커밋 이후에 한 번 더 제거)
+     */
+    public void invalidate(UUID userId) {
+        AsyncLoadingSupport.invalidateNowAndAfterCommit(() -> cache.synchronous().invalidate(userId));
+        invalidations.increment();
+    }
+
+    /**
+     * 여러 캐시 항목 제거 (기관 멤버 일괄 추가/제거, 기관명 변경/기관 삭제 시 소속 기관명 변경)
+     */
+    public void invalidateAll(Collection<UUID> userIds) {
+        AsyncLoadingSupport.invalidateNowAndAfterCommit(() -> cache.synchronous().invalidateAll(userIds));
+        invalidations.increment(userIds.size());
+    }
+
+    private record PositiveNegativeExpiry(Duration ttl, Duration negativeTtl)
+            implements Expiry<UUID, Optional<UserResponse>> {
+
+        @Override
+        public long expireAfterCreate(UUID key, Optional<UserResponse> value, long currentTime) {
+            return value.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID key, Optional<UserResponse> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID key, Optional<UserResponse> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,2 @@
+-- 활성 사용자 목록 keyset 페이지네이션 (ORDER BY created_at, id WHERE status) 용 부분 인덱스
+CREATE INDEX idx_user_active_created_at_id ON bang9."user" (created_at, id) WHERE status;
@@ -0,0 +1,15 @@
+-- 기관 위치 (WGS84 위도/경도)
+ALTER TABLE bang9.agency
+    ADD COLUMN latitude  DOUBLE PRECISION,
+    ADD COLUMN longitude DOUBLE PRECISION,
+    ADD CONSTRAINT ck_agency_coordinates CHECK (
+        (latitude IS NULL AND longitude IS NULL)
+        OR (latitude BETWEEN -90 AND 90 AND longitude BETWEEN -180 AND 180)
+    );
+
+-- 근처 기관 검색(KNN, <->)용 geography 컬럼: 위도/경도로부터 DB에서 생성
+ALTER TABLE bang9.agency
+    ADD COLUMN location geography(Point, 4326)
+        GENERATED ALWAYS AS (ST_SetSRID(ST_MakePoint(longitude, latitude), 4326)::geography) STORED;
+
+CREATE INDEX idx_agency_active_location ON bang9.agency USING GIST (location) WHERE status;
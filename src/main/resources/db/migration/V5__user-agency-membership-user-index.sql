@@ -0,0 +1,4 @@
+-- 사용자 기준 멤버십 조회(소속 기관, 같은 기관 멤버)용 인덱스
+-- PK(agency_id, user_id)는 user_id 단독 조건에 사용할 수 없으므로 (user_id, agency_id) 순서로 추가
+-- 두 컬럼을 모두 포함하여 테이블 접근 없이 index-only scan 으로 처리된다
+CREATE INDEX idx_user_agency_membership_user_agency ON bang9.user_agency_membership (user_id, agency_id);
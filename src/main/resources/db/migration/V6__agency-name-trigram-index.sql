@@ -0,0 +1,7 @@
+-- 기관명 부분/오타 검색(pg_trgm)
+-- Flyway 는 bang9 스키마를 search_path 로 두고 실행하므로 함수/연산자를 public 에 만들어 애플리케이션 커넥션에서도 보이게 한다
+CREATE EXTENSION IF NOT EXISTS pg_trgm SCHEMA public;
+
+-- 단어 유사도(<%)와 부분 일치(ILIKE '%x%')를 모두 처리하는 활성 기관 trigram GIN 부분 인덱스
+-- 완전 일치(findByName)는 기존 B-tree(idx_agency_name)를 그대로 사용한다
+CREATE INDEX idx_agency_active_name_trgm ON bang9.agency USING GIN (name public.gin_trgm_ops) WHERE status;
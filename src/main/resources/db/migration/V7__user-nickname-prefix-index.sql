@@ -0,0 +1,4 @@
+-- 활성 사용자 닉네임 접두사 자동완성용 부분 인덱스
+-- 바이트 순서(C collation) 범위 조건 nickname >= 'ab' AND nickname < 'ac' 는 DB 기본 collation 과 무관하게 B-tree 범위 검색이 되고,
+-- 같은 순서로 정렬된 상위 K개만 읽는다. id 를 INCLUDE 하여 테이블 접근 없이 index-only scan 으로 처리된다
+CREATE INDEX idx_user_active_nickname_c ON bang9."user" (nickname COLLATE "C") INCLUDE (id) WHERE status;
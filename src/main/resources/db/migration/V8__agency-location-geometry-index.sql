@@ -0,0 +1,5 @@
+-- 지도 영역(위도/경도 사각형) 필터용 평면(geometry) GiST 부분 인덱스
+-- geography 로 변환한 영역은 변이 대권(great-circle) 호가 되어 경도 폭이 180도 이상인 영역(저배율 지도, z=0/1 타일)이
+-- 날짜 변경선 쪽으로 접히거나 반대 방향 호를 따르므로, 영역 필터는 CAST(location AS geometry) && ST_MakeEnvelope(...) 로 평면에서 수행한다
+-- 근처 기관 검색(KNN, <->)은 기존 geography 인덱스(idx_agency_active_location)를 그대로 사용한다
+CREATE INDEX idx_agency_active_location_geom ON bang9.agency USING GIST ((CAST(location AS geometry))) WHERE status;
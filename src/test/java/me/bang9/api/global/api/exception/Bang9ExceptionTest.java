@@ -0,0 +1,84 @@
+package me.bang9.api.global.api.exception;
+
+import me.bang9.api.global.api.code.status.CommonErrorStatus;
+import me.bang9.api.global.api.code.status.UserErrorStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static me.bang9.api.global.api.code.status.UserErrorStatus.USER_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Bang9Exception 테스트")
+class Bang9ExceptionTest {
+
+    @Test
+    @DisplayName("4xx는 기본적으로 스택 트레이스를 수집하지 않음 (bang9.exception.stack-trace 미설정)")
+    void constructor_ShouldNotCaptureStackTrace_ByDefault() {
+        // When
+        Bang9Exception exception = new Bang9Exception(USER_NOT_FOUND);
+
+        // Then
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getMessage()).isEqualTo(USER_NOT_FOUND.getMessage());
+        assertThat(exception.getCode()).isEqualTo(USER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("5xx는 설정과 관계없이 스택 트레이스 수집")
+    void constructor_ShouldCaptureStackTrace_ForServerError() {
+        // When
+        Bang9Exception exception = new Bang9Exception(CommonErrorStatus._INTERNAL_SERVER_ERROR);
+
+        // Then
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("bang9.exception.stack-trace 설정 시 4xx도 스택 트레이스 수집")
+    void constructor_ShouldCaptureStackTrace_WhenEnabled() {
+        // Given
+        Bang9Exception.setStackTraceEnabled(true);
+
+        try {
+            // When
+            Bang9Exception exception = new Bang9Exception(USER_NOT_FOUND);
+
+            // Then
+            assertThat(exception.getStackTrace()).isNotEmpty();
+        } finally {
+            Bang9Exception.setStackTraceEnabled(false);
+        }
+    }
+
+    @Test
+    @DisplayName("에러 코드의 응답 사유는 호출마다 새로 만들지 않고 같은 인스턴스 반환")
+    void getErrorReasonHttpStatus_ShouldReturnPreallocatedReason() {
+        // When
+        Bang9Exception first = new Bang9Exception(USER_NOT_FOUND);
+        Bang9Exception second = new Bang9Exception(USER_NOT_FOUND);
+
+        // Then
+        assertThat(first.getErrorReasonHttpStatus()).isSameAs(second.getErrorReasonHttpStatus());
+        assertThat(first.getErrorReasonHttpStatus().getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(first.getErrorReasonHttpStatus().getCode()).isEqualTo(USER_NOT_FOUND.getCode());
+        assertThat(USER_NOT_FOUND.getReason()).isSameAs(USER_NOT_FOUND.getReason());
+        assertThat(USER_NOT_FOUND.getReason().getHttpStatus()).isNull();
+    }
+
+    @Test
+    @DisplayName("모든 에러 코드의 응답 사유가 코드/메시지/상태와 일치")
+    void errorStatuses_ShouldPreallocateConsistentReasons() {
+        // When & Then
+        for (UserErrorStatus status : UserErrorStatus.values()) {
+            assertThat(status.getReasonHttpStatus().getCode()).isEqualTo(status.getCode());
+            assertThat(status.getReasonHttpStatus().getMessage()).isEqualTo(status.getMessage());
+            assertThat(status.getReasonHttpStatus().getHttpStatus()).isEqualTo(status.getHttpStatus());
+            assertThat(status.getReasonHttpStatus().isSuccess()).isFalse();
+        }
+        for (CommonErrorStatus status : CommonErrorStatus.values()) {
+            assertThat(status.getReasonHttpStatus().getCode()).isEqualTo(status.getCode());
+            assertThat(status.getReasonHttpStatus().getHttpStatus()).isEqualTo(status.getHttpStatus());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package me.bang9.api.global.api.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._CONFLICT;
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._INTERNAL_SERVER_ERROR;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_EMAIL;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_NICKNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConstraintViolationTranslator 테스트")
+class ConstraintViolationTranslatorTest {
+
+    @Test
+    @DisplayName("unique 위반은 제약 조건 이름에 해당하는 도메인 에러 코드로 변환")
+    void translate_ShouldMapUniqueViolation_ByConstraintName() {
+        // When & Then
+        assertThat(ConstraintViolationTranslator.translate(violation("23505", "uc_user_email"))).isEqualTo(DUPLICATE_EMAIL);
+        assertThat(ConstraintViolationTranslator.translate(violation("23505", "uc_user_nickname"))).isEqualTo(DUPLICATE_NICKNAME);
+        assertThat(ConstraintViolationTranslator.translate(violation("23505", "uc_agency_name"))).isEqualTo(_CONFLICT);
+    }
+
+    @Test
+    @DisplayName("unique 이외의 위반(NOT NULL, FK, CHECK)은 500으로 변환")
+    void translate_ShouldReturnInternalServerError_WhenNotUniqueViolation() {
+        // When & Then
+        assertThat(ConstraintViolationTranslator.translate(violation("23502", "user_email_not_null"))).isEqualTo(_INTERNAL_SERVER_ERROR);
+        assertThat(ConstraintViolationTranslator.translate(violation("23503", "fk_membership_user"))).isEqualTo(_INTERNAL_SERVER_ERROR);
+        assertThat(ConstraintViolationTranslator.translate(violation("23514", "uc_user_email"))).isEqualTo(_INTERNAL_SERVER_ERROR);
+        assertThat(ConstraintViolationTranslator.translate(new DataIntegrityViolationException("unknown"))).isEqualTo(_INTERNAL_SERVER_ERROR);
+    }
+
+    private static DataIntegrityViolationException violation(String sqlState, String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("violation", new SQLException("violation", sqlState), constraintName));
+    }
+}
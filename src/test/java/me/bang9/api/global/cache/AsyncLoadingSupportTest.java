@@ -0,0 +1,69 @@
+package me.bang9.api.global.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AsyncLoadingSupport 테스트")
+class AsyncLoadingSupportTest {
+
+    private final AsyncCache<String, String> cache = Caffeine.newBuilder().buildAsync();
+
+    @Test
+    @DisplayName("값이 없을 때만 호출 스레드에서 로더를 실행하고 이후에는 캐시된 값 반환")
+    void get_ShouldLoadOnlyOnce() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Thread caller = Thread.currentThread();
+
+        // When
+        String first = AsyncLoadingSupport.get(cache, "key", () -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            loads.incrementAndGet();
+            return "value";
+        });
+        String second = AsyncLoadingSupport.get(cache, "key", () -> "other");
+
+        // Then
+        assertThat(first).isEqualTo("value");
+        assertThat(second).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("로더 예외는 그대로 던지고 실패한 항목은 캐싱하지 않음")
+    void get_ShouldRethrowAndNotCache_WhenLoaderFails() {
+        // When & Then
+        assertThatThrownBy(() -> AsyncLoadingSupport.get(cache, "key", () -> {
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(AsyncLoadingSupport.get(cache, "key", () -> "value")).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 즉시 제거하고 커밋 이후에 한 번 더 제거")
+    void invalidateNowAndAfterCommit_ShouldInvalidateAgainAfterCommit() {
+        // Given
+        AtomicInteger invalidations = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            AsyncLoadingSupport.invalidateNowAndAfterCommit(invalidations::incrementAndGet);
+            assertThat(invalidations).hasValue(1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(invalidations).hasValue(2);
+    }
+}
@@ -0,0 +1,64 @@
+package me.bang9.api.global.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UuidV7Generator 테스트")
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("버전 7, RFC 9562 variant, 상위 48비트는 현재 시각(ms)")
+    void next_ShouldEncodeVersionVariantAndTimestamp() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID uuid = UuidV7Generator.next();
+
+        // Then
+        long after = System.currentTimeMillis();
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after + 1);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초 안에서 연속 생성해도 생성 순서대로 증가 (문자열/uuid 비교 모두)")
+    void next_ShouldBeMonotonic() {
+        // When
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(UuidV7Generator.next());
+        }
+
+        // Then
+        for (int i = 1; i < uuids.size(); i++) {
+            UUID previous = uuids.get(i - 1);
+            UUID current = uuids.get(i);
+            // PostgreSQL uuid 는 부호 없는 바이트 순서로 비교하므로 문자열 순서와 같다
+            assertThat(current.toString()).isGreaterThan(previous.toString());
+        }
+        assertThat(new HashSet<>(uuids)).hasSize(uuids.size());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복 없음")
+    void next_ShouldBeUnique_AcrossThreads() {
+        // When
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 200_000).parallel().forEach(i -> uuids.add(UuidV7Generator.next()));
+
+        // Then
+        assertThat(uuids).hasSize(200_000);
+    }
+}
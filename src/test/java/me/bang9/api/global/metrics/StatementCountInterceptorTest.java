@@ -0,0 +1,54 @@
+package me.bang9.api.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatementCountInterceptor 테스트")
+class StatementCountInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatementCountInterceptor interceptor = new StatementCountInterceptor(meterRegistry);
+    private final StatementCountInspector inspector = new StatementCountInspector();
+
+    @Test
+    @DisplayName("요청 동안 실행된 SQL 수를 uri 패턴별로 기록")
+    void afterCompletion_ShouldRecordStatementCount() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/users/123");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/users/{userId}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        interceptor.preHandle(request, response, new Object());
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Then
+        DistributionSummary summary = meterRegistry.find("bang9.http.server.requests.statements")
+                .tag("method", "GET")
+                .tag("uri", "/v1/users/{userId}")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 SQL은 집계하지 않음")
+    void inspect_ShouldNotCount_OutsideRequest() {
+        // When
+        String sql = inspector.inspect("select 1");
+
+        // Then
+        assertThat(sql).isEqualTo("select 1");
+        assertThat(StatementCountInspector.stop()).isZero();
+    }
+}
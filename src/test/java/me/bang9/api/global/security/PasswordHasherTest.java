@@ -0,0 +1,164 @@
+package me.bang9.api.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.bang9.api.global.api.exception.Bang9Exception;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._SERVICE_UNAVAILABLE;
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._TOO_MANY_REQUESTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordHasher 테스트")
+class PasswordHasherTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.destroy();
+    }
+
+    @Test
+    @DisplayName("해싱 전용 스레드 풀에서 비밀번호 해싱")
+    void hash_ShouldReturnEncodedPassword() {
+        // Given
+        passwordHasher = new PasswordHasher(passwordEncoder, new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(5));
+        given(passwordEncoder.encode("password123!")).willReturn("encodedPassword");
+
+        // When
+        String result = passwordHasher.hash("password123!");
+
+        // Then
+        assertThat(result).isEqualTo("encodedPassword");
+    }
+
+    @Test
+    @DisplayName("스레드 풀과 대기열이 모두 찬 경우 429로 거절")
+    void hash_ShouldRejectWithTooManyRequests_WhenPoolSaturated() throws Exception {
+        // Given: 스레드 1개, 대기열 없음
+        passwordHasher = new PasswordHasher(passwordEncoder, new SimpleMeterRegistry(), 1, 0, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(passwordEncoder.encode("slow")).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "encodedSlow";
+        });
+
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> passwordHasher.hash("slow"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When & Then
+        try {
+            assertThatThrownBy(() -> passwordHasher.hash("rejected"))
+                    .isInstanceOf(Bang9Exception.class)
+                    .extracting(e -> ((Bang9Exception) e).getErrorReasonHttpStatus().getCode())
+                    .isEqualTo(_TOO_MANY_REQUESTS.getCode());
+        } finally {
+            release.countDown();
+        }
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("encodedSlow");
+    }
+
+    @Test
+    @DisplayName("대기열에서 제한 시간을 넘기면 503으로 응답하고 해당 비밀번호는 해싱하지 않음")
+    void hash_ShouldNotHashQueuedPassword_AfterTimeout() throws Exception {
+        // Given: 스레드 1개를 다른 요청이 점유
+        passwordHasher = new PasswordHasher(passwordEncoder, new SimpleMeterRegistry(), 1, 1, Duration.ofMillis(200));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(passwordEncoder.encode("slow")).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "encodedSlow";
+        });
+
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> {
+            try {
+                return passwordHasher.hash("slow");
+            } catch (Bang9Exception e) {
+                return null;
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When & Then
+        try {
+            assertThatThrownBy(() -> passwordHasher.hash("queued"))
+                    .isInstanceOf(Bang9Exception.class)
+                    .extracting(e -> ((Bang9Exception) e).getErrorReasonHttpStatus().getCode())
+                    .isEqualTo(_SERVICE_UNAVAILABLE.getCode());
+        } finally {
+            release.countDown();
+        }
+        inFlight.get(5, TimeUnit.SECONDS);
+        verify(passwordEncoder, never()).encode("queued");
+    }
+
+    @Test
+    @DisplayName("여러 비밀번호를 병렬로 해싱하고 입력 순서대로 반환")
+    void hashAll_ShouldReturnHashesInInputOrder() {
+        // Given
+        passwordHasher = new PasswordHasher(passwordEncoder, new SimpleMeterRegistry(), 2, 1, Duration.ofSeconds(5));
+        given(passwordEncoder.encode(anyString())).willAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+
+        // When
+        List<String> result = passwordHasher.hashAll(List.of("a", "b", "c", "d", "e"));
+
+        // Then
+        assertThat(result).containsExactly("hashed-a", "hashed-b", "hashed-c", "hashed-d", "hashed-e");
+    }
+
+    @Test
+    @DisplayName("풀이 포화되어 거절되면 429 대신 호출 스레드에서 직접 해싱")
+    void hashAll_ShouldHashOnCallerThread_WhenPoolSaturated() throws Exception {
+        // Given: 스레드 1개, 대기열 없음, 다른 요청이 해싱 중
+        passwordHasher = new PasswordHasher(passwordEncoder, new SimpleMeterRegistry(), 1, 0, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(passwordEncoder.encode(anyString())).willAnswer(invocation -> {
+            String raw = invocation.getArgument(0);
+            if (raw.equals("slow")) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return "hashed-" + raw;
+        });
+
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> passwordHasher.hash("slow"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        List<String> result;
+        try {
+            result = passwordHasher.hashAll(List.of("a", "b"));
+        } finally {
+            release.countDown();
+        }
+
+        // Then
+        assertThat(result).containsExactly("hashed-a", "hashed-b");
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("hashed-slow");
+    }
+}
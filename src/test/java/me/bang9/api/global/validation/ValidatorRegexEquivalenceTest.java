@@ -0,0 +1,91 @@
+package me.bang9.api.global.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Validator 정규식 동등성 테스트")
+class ValidatorRegexEquivalenceTest {
+
+    // 직접 구현한 스캐너로 교체되기 전의 정규식
+    private static final Pattern LEGACY_PASSWORD =
+            Pattern.compile("^(?=.*[a-zA-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$");
+    private static final Pattern LEGACY_NICKNAME =
+            Pattern.compile("^[a-zA-Z][a-zA-Z0-9._]{0,19}$");
+
+    // 허용 문자 + 경계 문자(비ASCII 숫자/문자, 개행, 공백, 유사 특수문자)
+    private static final String ALPHABET =
+            "aZzA09@$!%*?&._-#^ \n\t\r~é한٣１Ａ";
+
+    // ALPHABET 앞부분 "aZzA09@$!%*?&._" 은 두 검증기 중 하나에서 허용되는 문자
+    private static final int ALLOWED_PREFIX_LENGTH = 15;
+
+    private static final long SEED = 20240917L;
+    private static final int ITERATIONS = 200_000;
+
+    private final ValidPasswordValidator passwordValidator = new ValidPasswordValidator();
+    private final ValidNicknameValidator nicknameValidator = new ValidNicknameValidator();
+
+    @Test
+    @DisplayName("무작위 입력에 대해 비밀번호 검증 결과가 기존 정규식과 동일")
+    void password_ShouldMatchLegacyRegex_ForRandomInputs() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < ITERATIONS; i++) {
+            String input = randomString(random, 32);
+            assertThat(passwordValidator.isValid(input, null))
+                    .as("password=[%s]", input)
+                    .isEqualTo(LEGACY_PASSWORD.matcher(input).matches());
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 입력에 대해 닉네임 검증 결과가 기존 정규식과 동일")
+    void nickname_ShouldMatchLegacyRegex_ForRandomInputs() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < ITERATIONS; i++) {
+            String input = randomString(random, 24);
+            assertThat(nicknameValidator.isValid(input, null))
+                    .as("nickname=[%s]", input)
+                    .isEqualTo(LEGACY_NICKNAME.matcher(input).matches());
+        }
+    }
+
+    @Test
+    @DisplayName("경계값 입력에 대해 기존 정규식과 동일")
+    void edgeCases_ShouldMatchLegacyRegex() {
+        List<String> inputs = List.of(
+                "", "a", "abc1234!", "abc123!", "abcdefgh", "12345678!", "abcdefg!",
+                "password123!\n", "password123! ", "pass word1!", "password١٢٣!",
+                "a".repeat(20), "a".repeat(21), "_nickname", "1nickname", "nick.name_1",
+                "nickname\n", "Ａbc", "é", "aé"
+        );
+
+        for (String input : inputs) {
+            assertThat(passwordValidator.isValid(input, null))
+                    .as("password=[%s]", input)
+                    .isEqualTo(LEGACY_PASSWORD.matcher(input).matches());
+            assertThat(nicknameValidator.isValid(input, null))
+                    .as("nickname=[%s]", input)
+                    .isEqualTo(LEGACY_NICKNAME.matcher(input).matches());
+        }
+        assertThat(passwordValidator.isValid(null, null)).isFalse();
+        assertThat(nicknameValidator.isValid(null, null)).isFalse();
+    }
+
+    private static String randomString(Random random, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        // 절반은 허용 문자만으로 구성해 통과 케이스도 충분히 생성
+        boolean allowedOnly = random.nextBoolean();
+        int bound = allowedOnly ? ALLOWED_PREFIX_LENGTH : ALPHABET.length();
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(bound)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package me.bang9.api.support;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * PostGIS 컨테이너를 사용하는 통합 테스트 공통 설정
+ * 기본 스키마는 Flyway 마이그레이션으로 만들고 엔티티 매핑은 validate로 검증한다.
+ * create-drop 스키마나 다른 커넥션 풀 크기가 필요한 테스트는 @DynamicPropertySource로 덮어쓴다.
+ * 컨테이너는 테스트 클래스마다 새로 시작되므로, 종료된 컨테이너를 가리키는 컨텍스트가 캐시에서 재사용되지 않도록 클래스 종료 시 컨텍스트를 닫는다.
+ */
+@Testcontainers
+@DirtiesContext
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        // public 스키마에는 PostGIS 테이블(spatial_ref_sys)이 있으므로 이력 테이블은 bang9 스키마에 둔다
+        "spring.flyway.schemas=bang9",
+
+        // Optimized for fast shutdown
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.minimum-idle=0",
+        "spring.datasource.hikari.connection-timeout=3000",
+        "spring.datasource.hikari.max-lifetime=10000",
+        "spring.datasource.hikari.idle-timeout=3000",
+})
+public abstract class AbstractPostgisContainerTest {
+
+    @Container
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> postgis = new PostgreSQLContainer<>(
+            DockerImageName.parse("imresamu/postgis-arm64:17-3.5")
+                    .asCompatibleSubstituteFor("postgres")
+    )
+    .withDatabaseName("bang9")
+    .withUsername("bang9")
+    .withPassword("testpass")
+    .withEnv("POSTGRES_INITDB_ARGS", "--encoding=UTF8 --lc-collate=C.UTF-8 --lc-ctype=C.UTF-8")
+    .withInitScript("init-test-postgis.sql")
+    .withReuse(false)
+    .withStartupTimeoutSeconds(60)
+    .withConnectTimeoutSeconds(20);
+}
@@ -0,0 +1,405 @@
+package me.bang9.api.user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.bang9.api.global.api.CursorPageResponse;
+import me.bang9.api.global.api.exception.Bang9Exception;
+import me.bang9.api.user.dto.req.AgencyCreateRequest;
+import me.bang9.api.user.dto.req.AgencyMembersRequest;
+import me.bang9.api.user.dto.res.AgencyClusterResponse;
+import me.bang9.api.user.dto.res.AgencyMembersResponse;
+import me.bang9.api.user.dto.res.AgencyResponse;
+import me.bang9.api.user.dto.res.AgencySearchResponse;
+import me.bang9.api.user.dto.res.AgencyTile;
+import me.bang9.api.user.dto.res.NearbyAgencyResponse;
+import me.bang9.api.user.model.BoundingBox;
+import me.bang9.api.user.model.TileCoordinate;
+import me.bang9.api.user.service.AgencyUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.AGENCY_NOT_FOUND;
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_COORDINATES;
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_SEARCH_QUERY;
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_VIEWPORT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AgencyController.class)
+@Import(me.bang9.api.global.config.SecurityConfig.class)
+@DisplayName("AgencyController 컨트롤러 테스트")
+class AgencyControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private AgencyUseCase agencyUseCase;
+
+    @Nested
+    @DisplayName("POST /v1/agencies - 기관 생성")
+    class CreateAgencyTest {
+
+        @Test
+        @DisplayName("기관 생성 성공 시 201")
+        @WithMockUser
+        void createAgency_Success() throws Exception {
+            // Given
+            AgencyCreateRequest request = new AgencyCreateRequest(
+                    "강남 기관", "agency@example.com", "서울시 강남구", "02-1234-5678", 37.4979, 127.0276);
+            UUID agencyId = UUID.randomUUID();
+            given(agencyUseCase.createAgency(request)).willReturn(new AgencyResponse(
+                    agencyId, "강남 기관", "agency@example.com", "서울시 강남구", "02-1234-5678", 37.4979, 127.0276));
+
+            // When & Then
+            mockMvc.perform(post("/v1/agencies")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.isSuccess").value(true))
+                    .andExpect(jsonPath("$.result.id").value(agencyId.toString()))
+                    .andExpect(jsonPath("$.result.name").value("강남 기관"));
+        }
+
+        @Test
+        @DisplayName("필수 값이 없거나 좌표 범위를 벗어나면 400")
+        @WithMockUser
+        void createAgency_InvalidRequest() throws Exception {
+            // Given
+            AgencyCreateRequest request = new AgencyCreateRequest(
+                    "", "agency@example.com", "서울시 강남구", "02-1234-5678", 91.0, 127.0276);
+
+            // When & Then
+            mockMvc.perform(post("/v1/agencies")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest());
+            verify(agencyUseCase, never()).createAgency(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/agencies/{agencyId} - 기관 조회")
+    class GetAgencyTest {
+
+        @Test
+        @DisplayName("존재하지 않는 기관이면 404")
+        @WithMockUser
+        void getAgency_NotFound() throws Exception {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            given(agencyUseCase.getAgency(agencyId)).willThrow(new Bang9Exception(AGENCY_NOT_FOUND));
+
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/{agencyId}", agencyId))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.code").value(AGENCY_NOT_FOUND.getCode()));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST/DELETE /v1/agencies/{agencyId}/members - 기관 멤버 일괄 추가/제거")
+    class ManageMembersTest {
+
+        @Test
+        @DisplayName("멤버 일괄 추가 결과 반환")
+        @WithMockUser
+        void addMembers_Success() throws Exception {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            AgencyMembersRequest request = new AgencyMembersRequest(List.of(UUID.randomUUID(), UUID.randomUUID()));
+            given(agencyUseCase.addMembers(agencyId, request)).willReturn(new AgencyMembersResponse(agencyId, 2, 1));
+
+            // When & Then
+            mockMvc.perform(post("/v1/agencies/{agencyId}/members", agencyId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result.requested").value(2))
+                    .andExpect(jsonPath("$.result.affected").value(1));
+        }
+
+        @Test
+        @DisplayName("사용자 ID 목록이 비어 있으면 400")
+        @WithMockUser
+        void addMembers_EmptyUserIds() throws Exception {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+
+            // When & Then
+            mockMvc.perform(post("/v1/agencies/{agencyId}/members", agencyId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new AgencyMembersRequest(List.of())))
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest());
+            verify(agencyUseCase, never()).addMembers(any(), any());
+        }
+
+        @Test
+        @DisplayName("멤버 일괄 제거 결과 반환")
+        @WithMockUser
+        void removeMembers_Success() throws Exception {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            AgencyMembersRequest request = new AgencyMembersRequest(List.of(UUID.randomUUID()));
+            given(agencyUseCase.removeMembers(agencyId, request)).willReturn(new AgencyMembersResponse(agencyId, 1, 1));
+
+            // When & Then
+            mockMvc.perform(delete("/v1/agencies/{agencyId}/members", agencyId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result.affected").value(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/agencies/nearby - 근처 기관 조회")
+    class FindNearbyAgenciesTest {
+
+        @Test
+        @DisplayName("가까운 순으로 기관과 거리 반환")
+        @WithMockUser
+        void findNearbyAgencies_Success() throws Exception {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            given(agencyUseCase.findNearbyAgencies(37.4979, 127.0276, 5))
+                    .willReturn(List.of(new NearbyAgencyResponse(
+                            agencyId, "강남 기관", "서울시 강남구", 37.4980, 127.0277, 14.2
+                    )));
+
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/nearby")
+                            .param("latitude", "37.4979")
+                            .param("longitude", "127.0276")
+                            .param("size", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.isSuccess").value(true))
+                    .andExpect(jsonPath("$.result[0].id").value(agencyId.toString()))
+                    .andExpect(jsonPath("$.result[0].name").value("강남 기관"))
+                    .andExpect(jsonPath("$.result[0].distanceMeters").value(14.2));
+        }
+
+        @Test
+        @DisplayName("좌표 범위를 벗어나면 INVALID_COORDINATES")
+        @WithMockUser
+        void findNearbyAgencies_ShouldFail_WhenCoordinatesInvalid() throws Exception {
+            // Given
+            given(agencyUseCase.findNearbyAgencies(91.0, 127.0, 10))
+                    .willThrow(new Bang9Exception(INVALID_COORDINATES));
+
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/nearby")
+                            .param("latitude", "91.0")
+                            .param("longitude", "127.0"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.isSuccess").value(false))
+                    .andExpect(jsonPath("$.code").value(INVALID_COORDINATES.getCode()));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/agencies/search - 기관명 검색")
+    class SearchAgenciesTest {
+
+        @Test
+        @DisplayName("유사도 순 검색 결과와 다음 페이지 커서 반환")
+        @WithMockUser
+        void searchAgencies_Success() throws Exception {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            given(agencyUseCase.searchAgencies("방구 복지곽", null, 10))
+                    .willReturn(new CursorPageResponse<>(
+                            List.of(new AgencySearchResponse(agencyId, "방구 복지관", "서울시 강남구", 0.8f)),
+                            "next-cursor",
+                            true
+                    ));
+
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/search")
+                            .param("query", "방구 복지곽")
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.isSuccess").value(true))
+                    .andExpect(jsonPath("$.result.content[0].id").value(agencyId.toString()))
+                    .andExpect(jsonPath("$.result.content[0].name").value("방구 복지관"))
+                    .andExpect(jsonPath("$.result.nextCursor").value("next-cursor"))
+                    .andExpect(jsonPath("$.result.hasNext").value(true));
+        }
+
+        @Test
+        @DisplayName("검색어가 유효하지 않으면 INVALID_SEARCH_QUERY")
+        @WithMockUser
+        void searchAgencies_ShouldFail_WhenQueryInvalid() throws Exception {
+            // Given
+            given(agencyUseCase.searchAgencies("방", null, 20))
+                    .willThrow(new Bang9Exception(INVALID_SEARCH_QUERY));
+
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/search")
+                            .param("query", "방"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.isSuccess").value(false))
+                    .andExpect(jsonPath("$.code").value(INVALID_SEARCH_QUERY.getCode()));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/agencies/clusters - 지도 영역 클러스터 조회")
+    class FindClustersTest {
+
+        @Test
+        @DisplayName("영역과 줌 레벨로 클러스터 반환")
+        @WithMockUser
+        void findClusters_Success() throws Exception {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            given(agencyUseCase.findClusters(new BoundingBox(37.4, 126.8, 37.7, 127.2), 12))
+                    .willReturn(List.of(
+                            new AgencyClusterResponse(37.51, 127.01, 42, null),
+                            new AgencyClusterResponse(37.60, 127.10, 1, agencyId)
+                    ));
+
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/clusters")
+                            .param("minLatitude", "37.4")
+                            .param("minLongitude", "126.8")
+                            .param("maxLatitude", "37.7")
+                            .param("maxLongitude", "127.2")
+                            .param("zoom", "12"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result[0].count").value(42))
+                    .andExpect(jsonPath("$.result[0].agencyId").doesNotExist())
+                    .andExpect(jsonPath("$.result[1].count").value(1))
+                    .andExpect(jsonPath("$.result[1].agencyId").value(agencyId.toString()));
+        }
+
+        @Test
+        @DisplayName("영역의 최소값이 최대값보다 크면 INVALID_VIEWPORT")
+        @WithMockUser
+        void findClusters_ShouldFail_WhenViewportInvalid() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/clusters")
+                            .param("minLatitude", "37.7")
+                            .param("minLongitude", "126.8")
+                            .param("maxLatitude", "37.4")
+                            .param("maxLongitude", "127.2")
+                            .param("zoom", "12"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(INVALID_VIEWPORT.getCode()));
+
+            verify(agencyUseCase, never()).findClusters(any(BoundingBox.class), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/agencies/tiles/{z}/{x}/{y} - 지도 타일 클러스터 조회")
+    class GetClusterTileTest {
+
+        private final AgencyTile tile = AgencyTile.of(
+                "{\"isSuccess\":true,\"code\":\"COMMON-200\",\"message\":\"OK\",\"result\":[]}".getBytes(StandardCharsets.UTF_8));
+
+        @Test
+        @DisplayName("직렬화된 타일 본문과 ETag 반환")
+        @WithMockUser
+        void getClusterTile_Success() throws Exception {
+            // Given
+            given(agencyUseCase.getClusterTile(new TileCoordinate(12, 3493, 1587))).willReturn(tile);
+
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/tiles/12/3493/1587"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", tile.etag()))
+                    .andExpect(header().string("Cache-Control", "no-cache"))
+                    .andExpect(content().bytes(tile.body()));
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 ETag와 같으면 304")
+        @WithMockUser
+        void getClusterTile_ShouldReturnNotModified_WhenEtagMatches() throws Exception {
+            // Given
+            given(agencyUseCase.getClusterTile(new TileCoordinate(12, 3493, 1587))).willReturn(tile);
+
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/tiles/12/3493/1587")
+                            .header("If-None-Match", tile.etag()))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().bytes(new byte[0]));
+        }
+
+        @Test
+        @DisplayName("타일 좌표가 zoom 범위를 벗어나면 INVALID_VIEWPORT")
+        @WithMockUser
+        void getClusterTile_ShouldFail_WhenTileInvalid() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/tiles/2/4/0"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(INVALID_VIEWPORT.getCode()));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/agencies/tiles/{z}/{x}/{y}.mvt - 벡터 타일 조회")
+    class GetVectorTileTest {
+
+        private final AgencyTile tile = AgencyTile.of(new byte[]{0x1a, 0x08, 0x61, 0x67, 0x65, 0x6e, 0x63, 0x69, 0x65, 0x73});
+
+        @Test
+        @DisplayName("MVT 바이트를 벡터 타일 content type과 ETag로 반환")
+        @WithMockUser
+        void getVectorTile_Success() throws Exception {
+            // Given
+            given(agencyUseCase.getVectorTile(new TileCoordinate(12, 3493, 1587))).willReturn(tile);
+
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/tiles/12/3493/1587.mvt"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Type", "application/vnd.mapbox-vector-tile"))
+                    .andExpect(header().string("ETag", tile.etag()))
+                    .andExpect(content().bytes(tile.body()));
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 ETag와 같으면 304")
+        @WithMockUser
+        void getVectorTile_ShouldReturnNotModified_WhenEtagMatches() throws Exception {
+            // Given
+            given(agencyUseCase.getVectorTile(new TileCoordinate(12, 3493, 1587))).willReturn(tile);
+
+            // When & Then
+            mockMvc.perform(get("/v1/agencies/tiles/12/3493/1587.mvt")
+                            .header("If-None-Match", tile.etag()))
+                    .andExpect(status().isNotModified());
+        }
+    }
+}
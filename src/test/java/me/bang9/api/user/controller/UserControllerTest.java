@@ -1,12 +1,20 @@
 package me.bang9.api.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import me.bang9.api.global.api.CursorPageResponse;
 import me.bang9.api.global.api.exception.Bang9Exception;
 import me.bang9.api.user.dto.req.UserCreateRequest;
 import me.bang9.api.user.dto.req.UserUpdateRequest;
+import me.bang9.api.user.dto.res.NicknameAvailabilityResponse;
+import me.bang9.api.user.dto.res.UserImportResponse;
+import me.bang9.api.user.dto.res.UserImportResult;
 import me.bang9.api.user.dto.res.UserResponse;
+import me.bang9.api.user.dto.res.UserSummaryResponse;
 import me.bang9.api.user.model.Provider;
+import me.bang9.api.user.model.UserImportFormat;
 import me.bang9.api.user.service.UserAuthUseCase;
+import me.bang9.api.user.service.UserExportUseCase;
+import me.bang9.api.user.service.UserImportUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,23 +22,39 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.UUID;
 
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._INTERNAL_SERVER_ERROR;
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._SERVICE_UNAVAILABLE;
 import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_EMAIL;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_NICKNAME;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.INVALID_CURSOR;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.INVALID_NICKNAME;
 import static me.bang9.api.global.api.code.status.UserErrorStatus.USER_NOT_FOUND;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -49,6 +73,12 @@ class UserControllerTest {
     @MockitoBean
     private UserAuthUseCase userAuthUseCase;
 
+    @MockitoBean
+    private UserImportUseCase userImportUseCase;
+
+    @MockitoBean
+    private UserExportUseCase userExportUseCase;
+
     private UserCreateRequest createRequest;
     private UserUpdateRequest updateRequest;
     private UserResponse userResponse;
@@ -124,6 +154,64 @@ class UserControllerTest {
                     .andExpect(jsonPath("$.message").value(DUPLICATE_EMAIL.getMessage()));
         }
 
+        @Test
+        @DisplayName("이메일 unique 제약 조건 위반을 DUPLICATE_EMAIL로 변환")
+        @WithMockUser
+        void createUser_ShouldTranslateEmailConstraintViolation() throws Exception {
+            // Given
+            given(userAuthUseCase.createUser(any(UserCreateRequest.class)))
+                    .willThrow(constraintViolation("uc_user_email"));
+
+            // When & Then
+            mockMvc.perform(post("/v1/users")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createRequest))
+                            .with(csrf()))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.isSuccess").value(false))
+                    .andExpect(jsonPath("$.code").value(DUPLICATE_EMAIL.getCode()));
+        }
+
+        @Test
+        @DisplayName("닉네임 unique 제약 조건 위반을 DUPLICATE_NICKNAME으로 변환")
+        @WithMockUser
+        void createUser_ShouldTranslateNicknameConstraintViolation() throws Exception {
+            // Given
+            given(userAuthUseCase.createUser(any(UserCreateRequest.class)))
+                    .willThrow(constraintViolation("uc_user_nickname"));
+
+            // When & Then
+            mockMvc.perform(post("/v1/users")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createRequest))
+                            .with(csrf()))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.isSuccess").value(false))
+                    .andExpect(jsonPath("$.code").value(DUPLICATE_NICKNAME.getCode()));
+        }
+
+        @Test
+        @DisplayName("unique 이외의 제약 조건 위반은 500으로 응답")
+        @WithMockUser
+        void createUser_ShouldFailWithInternalServerError_WhenNotUniqueViolation() throws Exception {
+            // Given
+            given(userAuthUseCase.createUser(any(UserCreateRequest.class)))
+                    .willThrow(new DataIntegrityViolationException(
+                            "could not execute statement",
+                            new org.hibernate.exception.ConstraintViolationException(
+                                    "null value violates not-null constraint", new SQLException("not null", "23502"), null)
+                    ));
+
+            // When & Then
+            mockMvc.perform(post("/v1/users")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createRequest))
+                            .with(csrf()))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.isSuccess").value(false))
+                    .andExpect(jsonPath("$.code").value(_INTERNAL_SERVER_ERROR.getCode()));
+        }
+
         @Test
         @DisplayName("잘못된 요청 데이터로 사용자 생성 실패")
         @WithMockUser
@@ -157,13 +245,158 @@ class UserControllerTest {
     }
 
     @Nested
-    @DisplayName("GET /v1/users - 모든 사용자 조회")
-    class GetAllUsersTest {
+    @DisplayName("POST /v1/users/import - 사용자 일괄 등록")
+    class ImportUsersTest {
+
+        @Test
+        @DisplayName("CSV 본문 일괄 등록 성공 - 행별 결과 반환")
+        @WithMockUser
+        void importUsers_Csv_Success() throws Exception {
+            // Given
+            given(userImportUseCase.importUsers(any(Reader.class), eq(UserImportFormat.CSV)))
+                    .willReturn(UserImportResponse.of(List.of(
+                            new UserImportResult(2, "a@example.com", true, "COMMON-201", "Resource was created successfully", testUserId),
+                            new UserImportResult(3, "b@example.com", false, DUPLICATE_EMAIL.getCode(), "Email already exists", null)
+                    )));
+
+            // When & Then
+            mockMvc.perform(post("/v1/users/import")
+                            .contentType("text/csv")
+                            .content("""
+                                    email,password,nickname,provider
+                                    a@example.com,password123!,alpha,EMAIL
+                                    b@example.com,password123!,bravo,EMAIL
+                                    """)
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.isSuccess").value(true))
+                    .andExpect(jsonPath("$.result.total").value(2))
+                    .andExpect(jsonPath("$.result.created").value(1))
+                    .andExpect(jsonPath("$.result.failed").value(1))
+                    .andExpect(jsonPath("$.result.results[1].code").value(DUPLICATE_EMAIL.getCode()));
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 Content-Type 이면 415")
+        @WithMockUser
+        void importUsers_ShouldFail_WhenUnsupportedMediaType() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/v1/users/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[]")
+                            .with(csrf()))
+                    .andExpect(status().isUnsupportedMediaType());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/users/export - 사용자 전체 내보내기")
+    class ExportUsersTest {
+
+        @Test
+        @DisplayName("NDJSON 스트림으로 내보내기 성공")
+        @WithMockUser
+        void exportUsers_Success() throws Exception {
+            // Given
+            willAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(0);
+                out.write((objectMapper.writeValueAsString(userResponse) + "\n").getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).given(userExportUseCase).exportUsers(any(OutputStream.class));
+
+            // When
+            MvcResult asyncResult = mockMvc.perform(get("/v1/users/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson"))
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.ndjson\""))
+                    .andExpect(content().string(objectMapper.writeValueAsString(userResponse) + "\n"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/users/nickname-availability - 닉네임 사용 가능 여부 조회")
+    class CheckNicknameAvailabilityTest {
+
+        @Test
+        @DisplayName("닉네임 사용 가능 여부 조회 성공")
+        @WithMockUser
+        void checkNicknameAvailability_Success() throws Exception {
+            // Given
+            given(userAuthUseCase.checkNicknameAvailability("newuser"))
+                    .willReturn(new NicknameAvailabilityResponse("newuser", true));
+
+            // When & Then
+            mockMvc.perform(get("/v1/users/nickname-availability").param("nickname", "newuser"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.isSuccess").value(true))
+                    .andExpect(jsonPath("$.result.nickname").value("newuser"))
+                    .andExpect(jsonPath("$.result.available").value(true));
+        }
+
+        @Test
+        @DisplayName("닉네임 형식 오류 시 400")
+        @WithMockUser
+        void checkNicknameAvailability_ShouldFail_WhenNicknameInvalid() throws Exception {
+            // Given
+            given(userAuthUseCase.checkNicknameAvailability("1invalid"))
+                    .willThrow(new Bang9Exception(INVALID_NICKNAME));
+
+            // When & Then
+            mockMvc.perform(get("/v1/users/nickname-availability").param("nickname", "1invalid"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(INVALID_NICKNAME.getCode()));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/users/autocomplete - 닉네임 자동완성")
+    class AutocompleteNicknamesTest {
+
+        @Test
+        @DisplayName("닉네임 자동완성 성공")
+        @WithMockUser
+        void autocompleteNicknames_Success() throws Exception {
+            // Given
+            UUID userId = UUID.randomUUID();
+            given(userAuthUseCase.autocompleteNicknames("ban", 10))
+                    .willReturn(List.of(new UserSummaryResponse(userId, "bang9")));
+
+            // When & Then
+            mockMvc.perform(get("/v1/users/autocomplete").param("prefix", "ban"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.isSuccess").value(true))
+                    .andExpect(jsonPath("$.result[0].id").value(userId.toString()))
+                    .andExpect(jsonPath("$.result[0].nickname").value("bang9"));
+        }
 
         @Test
-        @DisplayName("모든 사용자 조회 성공")
+        @DisplayName("접두사 형식 오류 시 400")
         @WithMockUser
-        void getAllUsers_Success() throws Exception {
+        void autocompleteNicknames_ShouldFail_WhenPrefixInvalid() throws Exception {
+            // Given
+            given(userAuthUseCase.autocompleteNicknames("1a", 5))
+                    .willThrow(new Bang9Exception(INVALID_NICKNAME));
+
+            // When & Then
+            mockMvc.perform(get("/v1/users/autocomplete").param("prefix", "1a").param("size", "5"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(INVALID_NICKNAME.getCode()));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/users - 사용자 목록 조회")
+    class GetUsersTest {
+
+        @Test
+        @DisplayName("사용자 목록 첫 페이지 조회 성공")
+        @WithMockUser
+        void getUsers_Success() throws Exception {
             // Given
             UserResponse user2 = new UserResponse(
                     UUID.randomUUID(),
@@ -173,8 +406,9 @@ class UserControllerTest {
                     "EMAIL",
                     new HashSet<>()
             );
-            
-            given(userAuthUseCase.getAllUsers()).willReturn(Arrays.asList(userResponse, user2));
+
+            given(userAuthUseCase.getUsers(null, 20))
+                    .willReturn(new CursorPageResponse<>(Arrays.asList(userResponse, user2), "next-cursor", true));
 
             // When & Then
             mockMvc.perform(get("/v1/users"))
@@ -182,25 +416,99 @@ class UserControllerTest {
                     .andExpect(jsonPath("$.isSuccess").value(true))
                     .andExpect(jsonPath("$.code").value("COMMON-200"))
                     .andExpect(jsonPath("$.message").value("Request was successful"))
-                    .andExpect(jsonPath("$.result").isArray())
-                    .andExpect(jsonPath("$.result.length()").value(2))
-                    .andExpect(jsonPath("$.result[0].email").value("test@example.com"))
-                    .andExpect(jsonPath("$.result[1].email").value("user2@example.com"));
+                    .andExpect(jsonPath("$.result.content").isArray())
+                    .andExpect(jsonPath("$.result.content.length()").value(2))
+                    .andExpect(jsonPath("$.result.content[0].email").value("test@example.com"))
+                    .andExpect(jsonPath("$.result.content[1].email").value("user2@example.com"))
+                    .andExpect(jsonPath("$.result.nextCursor").value("next-cursor"))
+                    .andExpect(jsonPath("$.result.hasNext").value(true));
+        }
+
+        @Test
+        @DisplayName("커서와 페이지 크기를 전달하여 다음 페이지 조회")
+        @WithMockUser
+        void getUsers_WithCursor() throws Exception {
+            // Given
+            given(userAuthUseCase.getUsers("next-cursor", 1))
+                    .willReturn(new CursorPageResponse<>(Collections.singletonList(userResponse), null, false));
+
+            // When & Then
+            mockMvc.perform(get("/v1/users")
+                            .param("cursor", "next-cursor")
+                            .param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result.content.length()").value(1))
+                    .andExpect(jsonPath("$.result.hasNext").value(false));
         }
 
         @Test
         @DisplayName("사용자가 없는 경우 빈 배열 반환")
         @WithMockUser
-        void getAllUsers_ShouldReturnEmptyArray_WhenNoUsers() throws Exception {
+        void getUsers_ShouldReturnEmptyArray_WhenNoUsers() throws Exception {
             // Given
-            given(userAuthUseCase.getAllUsers()).willReturn(Collections.emptyList());
+            given(userAuthUseCase.getUsers(null, 20))
+                    .willReturn(new CursorPageResponse<>(Collections.emptyList(), null, false));
 
             // When & Then
             mockMvc.perform(get("/v1/users"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.isSuccess").value(true))
-                    .andExpect(jsonPath("$.result").isArray())
-                    .andExpect(jsonPath("$.result.length()").value(0));
+                    .andExpect(jsonPath("$.result.content").isArray())
+                    .andExpect(jsonPath("$.result.content.length()").value(0))
+                    .andExpect(jsonPath("$.result.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("잘못된 커서로 조회 실패")
+        @WithMockUser
+        void getUsers_ShouldFail_WhenInvalidCursor() throws Exception {
+            // Given
+            given(userAuthUseCase.getUsers("invalid", 20))
+                    .willThrow(new Bang9Exception(INVALID_CURSOR));
+
+            // When & Then
+            mockMvc.perform(get("/v1/users").param("cursor", "invalid"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.isSuccess").value(false))
+                    .andExpect(jsonPath("$.code").value(INVALID_CURSOR.getCode()));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/users/{userId}/co-members - 같은 기관 멤버 목록 조회")
+    class GetCoMembersTest {
+
+        @Test
+        @DisplayName("같은 기관 멤버 페이지 조회 성공")
+        @WithMockUser
+        void getCoMembers_Success() throws Exception {
+            // Given
+            UUID coMemberId = UUID.randomUUID();
+            given(userAuthUseCase.getCoMembers(testUserId, null, 20)).willReturn(new CursorPageResponse<>(
+                    List.of(new UserSummaryResponse(coMemberId, "alpha")), "YWxwaGE", true));
+
+            // When & Then
+            mockMvc.perform(get("/v1/users/{userId}/co-members", testUserId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.isSuccess").value(true))
+                    .andExpect(jsonPath("$.result.content[0].id").value(coMemberId.toString()))
+                    .andExpect(jsonPath("$.result.content[0].nickname").value("alpha"))
+                    .andExpect(jsonPath("$.result.nextCursor").value("YWxwaGE"))
+                    .andExpect(jsonPath("$.result.hasNext").value(true));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 사용자이면 404")
+        @WithMockUser
+        void getCoMembers_ShouldFail_WhenUserNotFound() throws Exception {
+            // Given
+            given(userAuthUseCase.getCoMembers(testUserId, null, 20))
+                    .willThrow(new Bang9Exception(USER_NOT_FOUND));
+
+            // When & Then
+            mockMvc.perform(get("/v1/users/{userId}/co-members", testUserId))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.code").value(USER_NOT_FOUND.getCode()));
         }
     }
 
@@ -241,6 +549,44 @@ class UserControllerTest {
                     .andExpect(jsonPath("$.message").value(USER_NOT_FOUND.getMessage()));
         }
 
+        @Test
+        @DisplayName("반복된 조회 실패는 미리 직렬화된 같은 JSON 본문으로 응답")
+        @WithMockUser
+        void getUserById_ShouldReuseFailureBody_WhenUserNotFoundRepeatedly() throws Exception {
+            // Given
+            given(userAuthUseCase.getUserById(any(UUID.class)))
+                    .willThrow(new Bang9Exception(USER_NOT_FOUND));
+            String expected = "{\"isSuccess\":false,\"code\":\"" + USER_NOT_FOUND.getCode()
+                    + "\",\"message\":\"" + USER_NOT_FOUND.getMessage() + "\"}";
+
+            // When & Then
+            for (int i = 0; i < 2; i++) {
+                mockMvc.perform(get("/v1/users/{userId}", UUID.randomUUID()))
+                        .andExpect(status().isNotFound())
+                        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(content().string(expected));
+            }
+        }
+
+        @Test
+        @DisplayName("커넥션 풀 대기 시간이 초과되면 503(COMMON-503)")
+        @WithMockUser
+        void getUserById_ShouldFailWithServiceUnavailable_WhenConnectionPoolExhausted() throws Exception {
+            // Given: 트랜잭션 시작 시 / 트랜잭션 없이 JDBC 조회 시 커넥션 획득 실패
+            SQLTransientConnectionException timeout = new SQLTransientConnectionException("Connection is not available, request timed out after 3000ms");
+            given(userAuthUseCase.getUserById(testUserId))
+                    .willThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction", timeout))
+                    .willThrow(new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection", timeout));
+
+            // When & Then
+            for (int i = 0; i < 2; i++) {
+                mockMvc.perform(get("/v1/users/{userId}", testUserId))
+                        .andExpect(status().isServiceUnavailable())
+                        .andExpect(jsonPath("$.isSuccess").value(false))
+                        .andExpect(jsonPath("$.code").value(_SERVICE_UNAVAILABLE.getCode()));
+            }
+        }
+
         @Test
         @DisplayName("잘못된 UUID 형식으로 조회 실패")
         @WithMockUser
@@ -360,4 +706,12 @@ class UserControllerTest {
                     .andExpect(status().isBadRequest());
         }
     }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException(
+                "could not execute statement",
+                new org.hibernate.exception.ConstraintViolationException(
+                        "duplicate key value violates unique constraint", new SQLException("duplicate key", "23505"), constraintName)
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package me.bang9.api.user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.bang9.api.support.AbstractPostgisContainerTest;
+import me.bang9.api.user.dto.req.UserCreateRequest;
+import me.bang9.api.user.model.Provider;
+import me.bang9.api.user.repository.UserJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_EMAIL;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_NICKNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("동시 회원가입 테스트 - PostGIS Container")
+class UserSignupConcurrencyTest extends AbstractPostgisContainerTest {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> String.valueOf(CONCURRENT_REQUESTS));
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 동시에 가입하면 1건만 성공하고 나머지는 DUPLICATE_EMAIL")
+    void concurrentSignups_WithSameEmail_ShouldCreateExactlyOneUser() throws Exception {
+        // When
+        List<MvcResult> results = signupConcurrently(i -> new UserCreateRequest(
+                "race@example.com", "password123!", "racer" + i, Provider.EMAIL));
+
+        // Then
+        assertThat(results).filteredOn(result -> result.getResponse().getStatus() == 201).hasSize(1);
+        assertThat(results).filteredOn(result -> result.getResponse().getStatus() == 409)
+                .hasSize(CONCURRENT_REQUESTS - 1)
+                .allSatisfy(result -> assertThat(result.getResponse().getContentAsString()).contains(DUPLICATE_EMAIL.getCode()));
+        assertThat(userRepository.findByEmail("race@example.com")).isPresent();
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 닉네임으로 동시에 가입하면 1건만 성공하고 나머지는 DUPLICATE_NICKNAME")
+    void concurrentSignups_WithSameNickname_ShouldCreateExactlyOneUser() throws Exception {
+        // When
+        List<MvcResult> results = signupConcurrently(i -> new UserCreateRequest(
+                "racer" + i + "@example.com", "password123!", "racer", Provider.EMAIL));
+
+        // Then
+        assertThat(results).filteredOn(result -> result.getResponse().getStatus() == 201).hasSize(1);
+        assertThat(results).filteredOn(result -> result.getResponse().getStatus() == 409)
+                .hasSize(CONCURRENT_REQUESTS - 1)
+                .allSatisfy(result -> assertThat(result.getResponse().getContentAsString()).contains(DUPLICATE_NICKNAME.getCode()));
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    private List<MvcResult> signupConcurrently(IntFunction<UserCreateRequest> requestFactory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<MvcResult>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                String body = objectMapper.writeValueAsString(requestFactory.apply(i));
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    return mockMvc.perform(post("/v1/users")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                            .andReturn();
+                }));
+            }
+            startGate.countDown();
+
+            List<MvcResult> results = new ArrayList<>();
+            for (Future<MvcResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
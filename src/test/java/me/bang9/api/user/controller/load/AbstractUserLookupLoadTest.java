@@ -0,0 +1,199 @@
+package me.bang9.api.user.controller.load;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import me.bang9.api.support.AbstractPostgisContainerTest;
+import me.bang9.api.user.entity.UserEntity;
+import me.bang9.api.user.model.Provider;
+import me.bang9.api.user.model.UserRole;
+import me.bang9.api.user.repository.UserJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /v1/users/{id} 부하 테스트 (플랫폼 스레드 / 가상 스레드 모드 비교)
+ * 유저 캐시를 끄고 커넥션 풀을 작게 두어 모든 요청이 JDBC에서 블로킹되도록 한 뒤,
+ * 동시 요청 수를 고정한 closed-loop 부하로 처리량과 p50/p99 지연 시간을 측정한다.
+ * 측정 중 JFR jdk.VirtualThreadPinned 이벤트를 수집하여 JDBC/Hikari 경로에서 pinning이 없는지 확인한다.
+ * ./gradlew performanceTest 로 실행한다.
+ */
+@Tag("performance")
+abstract class AbstractUserLookupLoadTest extends AbstractPostgisContainerTest {
+
+    private static final int USER_COUNT = 1_000;
+    private static final int CONCURRENCY = 400;
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final int REQUESTS = 30_000;
+    private static final int DB_POOL_SIZE = 10;
+
+    // 서버 측 요청 처리 중 DB 접근 경로 (클라이언트 측 가상 스레드의 pinning은 제외)
+    private static final List<String> JDBC_PATH_PACKAGES = List.of(
+            "org.postgresql.", "com.zaxxer.hikari.", "org.hibernate.", "me.bang9.api.user.service."
+    );
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+
+        // 측정 중 커넥션이 교체되지 않도록 풀 크기를 고정하고 Hikari 기본 수명을 사용한다
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> String.valueOf(DB_POOL_SIZE));
+        registry.add("spring.datasource.hikari.minimum-idle", () -> String.valueOf(DB_POOL_SIZE));
+        registry.add("spring.datasource.hikari.connection-timeout", () -> "30000");
+        registry.add("spring.datasource.hikari.max-lifetime", () -> "1800000");
+        registry.add("spring.datasource.hikari.idle-timeout", () -> "600000");
+        registry.add("bang9.datasource.virtual-threads.connection-timeout", () -> "30s");
+        // 캐시를 끄고 매 요청이 DB를 조회하도록 한다
+        registry.add("bang9.cache.user.max-size", () -> "0");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    protected abstract String mode();
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void getUserById_UnderHighConcurrency() throws Exception {
+        // Given
+        List<UUID> userIds = userRepository.saveAll(IntStream.range(0, USER_COUNT)
+                        .mapToObj(this::createUser)
+                        .toList())
+                .stream()
+                .map(UserEntity::getId)
+                .toList();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        run(client, userIds, WARMUP_REQUESTS);
+
+        // When
+        List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+        LoadResult result;
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1)).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinnedEvents::add);
+            recording.startAsync();
+            result = run(client, userIds, REQUESTS);
+            recording.stop();
+        }
+
+        // Then
+        List<RecordedEvent> jdbcPathPinning = pinnedEvents.stream()
+                .filter(AbstractUserLookupLoadTest::isInJdbcPath)
+                .toList();
+        System.out.printf("[%s] requests=%d concurrency=%d throughput=%.0f req/s p50=%.2fms p99=%.2fms errors=%d pinned=%d (jdbc path=%d)%n",
+                mode(), result.requests(), CONCURRENCY, result.throughput(),
+                result.p50Millis(), result.p99Millis(), result.errors(),
+                pinnedEvents.size(), jdbcPathPinning.size());
+        jdbcPathPinning.forEach(System.out::println);
+
+        assertThat(result.errors()).isZero();
+        assertThat(jdbcPathPinning).isEmpty();
+    }
+
+    private LoadResult run(HttpClient client, List<UUID> userIds, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        String baseUrl = "http://localhost:" + port + "/v1/users/";
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                inFlight.acquire();
+                executor.submit(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + userIds.get(index % userIds.size())))
+                            .GET()
+                            .build();
+                    long requestedAt = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - requestedAt;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        return new LoadResult(
+                requests,
+                requests / (elapsedNanos / 1_000_000_000.0),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                errors.get()
+        );
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.clamp(index, 0, sortedNanos.length - 1)] / 1_000_000.0;
+    }
+
+    private static boolean isInJdbcPath(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (JDBC_PATH_PACKAGES.stream().anyMatch(type::startsWith)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private UserEntity createUser(int index) {
+        UserEntity user = new UserEntity();
+        user.setEmail("load" + index + "@example.com");
+        user.setPassword("password123");
+        user.setNickname("load" + index);
+        user.setRole(UserRole.USER);
+        user.setProvider(Provider.EMAIL);
+        return user;
+    }
+
+    private record LoadResult(int requests, double throughput, double p50Millis, double p99Millis, int errors) {
+    }
+}
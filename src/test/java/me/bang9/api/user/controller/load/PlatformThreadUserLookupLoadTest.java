@@ -0,0 +1,17 @@
+package me.bang9.api.user.controller.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false"
+)
+@DisplayName("유저 조회 부하 테스트 - 플랫폼 스레드")
+class PlatformThreadUserLookupLoadTest extends AbstractUserLookupLoadTest {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
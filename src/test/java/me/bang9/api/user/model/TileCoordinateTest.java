@@ -0,0 +1,84 @@
+package me.bang9.api.user.model;
+
+import me.bang9.api.global.api.exception.Bang9Exception;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("TileCoordinate 테스트")
+class TileCoordinateTest {
+
+    @Test
+    @DisplayName("좌표가 속한 타일 계산")
+    void containing_ShouldReturnTileOfCoordinate() {
+        // When
+        TileCoordinate tile = TileCoordinate.containing(37.4979, 127.0276, 12);
+
+        // Then
+        assertThat(tile).isEqualTo(new TileCoordinate(12, 3493, 1587));
+        assertThat(TileCoordinate.containing(37.4979, 127.0276, 0)).isEqualTo(new TileCoordinate(0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("타일 영역은 타일에 속한 좌표를 포함")
+    void toBoundingBox_ShouldContainCoordinate() {
+        // When
+        BoundingBox box = new TileCoordinate(12, 3493, 1587).toBoundingBox();
+
+        // Then
+        assertThat(box.minLongitude()).isCloseTo(127.001953, within(1e-6));
+        assertThat(box.maxLongitude()).isCloseTo(127.089844, within(1e-6));
+        assertThat(box.minLatitude()).isCloseTo(37.439974, within(1e-6));
+        assertThat(box.maxLatitude()).isCloseTo(37.509726, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("메르카토르 범위를 벗어난 위도는 가장자리 타일")
+    void containing_ShouldClampPolarLatitude() {
+        // When & Then
+        assertThat(TileCoordinate.containing(89.9, 180.0, 3)).isEqualTo(new TileCoordinate(3, 7, 0));
+        assertThat(TileCoordinate.containing(-89.9, -180.0, 3)).isEqualTo(new TileCoordinate(3, 0, 7));
+    }
+
+    @Test
+    @DisplayName("버퍼 영역이 좌표를 포함하는 이웃 타일까지 반환")
+    void covering_ShouldIncludeNeighbours_WhenCoordinateInBuffer() {
+        // Given: 타일 (12, 3493, 1587)의 서쪽 경계에서 타일 폭의 0.2% 안쪽
+        double margin = 64.0 / 4096;
+
+        // When
+        List<TileCoordinate> nearEdge = TileCoordinate.covering(37.4979, 127.0021, 12, margin);
+        List<TileCoordinate> inside = TileCoordinate.covering(37.4979, 127.0276, 12, margin);
+
+        // Then
+        assertThat(nearEdge).containsExactlyInAnyOrder(
+                new TileCoordinate(12, 3492, 1587),
+                new TileCoordinate(12, 3493, 1587)
+        );
+        assertThat(inside).containsExactly(new TileCoordinate(12, 3493, 1587));
+    }
+
+    @Test
+    @DisplayName("세계 가장자리에서는 존재하는 타일만 반환")
+    void covering_ShouldClampToWorldEdge() {
+        // When & Then
+        assertThat(TileCoordinate.covering(37.4979, 127.0276, 0, 64.0 / 4096))
+                .containsExactly(new TileCoordinate(0, 0, 0));
+        assertThat(TileCoordinate.covering(89.9, 180.0, 3, 64.0 / 4096))
+                .containsExactly(new TileCoordinate(3, 7, 0));
+    }
+
+    @Test
+    @DisplayName("zoom 범위 밖이거나 x/y가 타일 수를 넘으면 생성 불가")
+    void constructor_ShouldRejectInvalidTile() {
+        // When & Then
+        assertThatThrownBy(() -> new TileCoordinate(21, 0, 0)).isInstanceOf(Bang9Exception.class);
+        assertThatThrownBy(() -> new TileCoordinate(2, 4, 0)).isInstanceOf(Bang9Exception.class);
+        assertThatThrownBy(() -> new TileCoordinate(2, 0, -1)).isInstanceOf(Bang9Exception.class);
+    }
+}
@@ -1,5 +1,6 @@
 package me.bang9.api.user.repository;
 
+import me.bang9.api.support.AbstractPostgisContainerTest;
 import me.bang9.api.user.entity.AgencyEntity;
 import me.bang9.api.user.entity.UserEntity;
 import me.bang9.api.user.model.Provider;
@@ -12,49 +13,22 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.transaction.annotation.Transactional;
-import org.testcontainers.containers.PostgreSQLContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
-import org.testcontainers.utility.DockerImageName;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
-@Testcontainers
 @Transactional
 @DisplayName("AgencyJpaRepository 테스트 - PostGIS Container")
-class AgencyJpaRepositoryTest {
-
-    @Container
-    static PostgreSQLContainer<?> postgis = new PostgreSQLContainer<>(
-            DockerImageName.parse("imresamu/postgis-arm64:17-3.5")
-                    .asCompatibleSubstituteFor("postgres")
-    )
-    .withDatabaseName("bang9")
-    .withUsername("bang9")
-    .withPassword("testpass")
-    .withEnv("POSTGRES_INITDB_ARGS", "--encoding=UTF8 --lc-collate=C.UTF-8 --lc-ctype=C.UTF-8")
-    .withInitScript("init-test-postgis.sql")
-    .withReuse(false)
-    .withStartupTimeoutSeconds(60)
-    .withConnectTimeoutSeconds(20);
+class AgencyJpaRepositoryTest extends AbstractPostgisContainerTest {
 
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
-        registry.add("spring.datasource.url", postgis::getJdbcUrl);
-        registry.add("spring.datasource.username", postgis::getUsername);
-        registry.add("spring.datasource.password", postgis::getPassword);
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
         registry.add("spring.flyway.enabled", () -> "false");
-        
-        // Optimized for fast shutdown
-        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "2");
-        registry.add("spring.datasource.hikari.minimum-idle", () -> "0");
-        registry.add("spring.datasource.hikari.connection-timeout", () -> "3000");
-        registry.add("spring.datasource.hikari.max-lifetime", () -> "10000");
-        registry.add("spring.datasource.hikari.idle-timeout", () -> "3000");
     }
 
     @Autowired
@@ -207,4 +181,72 @@ class AgencyJpaRepositoryTest {
         assertThat(agency.getRepresentingUser().getId())
                 .isEqualTo(agency.getMembers().iterator().next().getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("멤버 일괄 추가 - 활성 사용자만 INSERT 1회로 추가하고 기존 멤버는 건너뜀")
+    void insertActiveMembers_ShouldSkipInactiveAndExistingMembers() {
+        // Given
+        AgencyEntity savedAgency = agencyRepository.saveAndFlush(testAgency);
+        UserEntity existingMember = userRepository.saveAndFlush(testUser);
+        UserEntity newMember = userRepository.saveAndFlush(user("new@example.com", "newMember"));
+        UserEntity deletedUser = user("deleted@example.com", "deletedUser");
+        deletedUser.softDelete();
+        deletedUser = userRepository.saveAndFlush(deletedUser);
+        agencyRepository.insertActiveMembers(savedAgency.getId(), List.of(existingMember.getId()));
+
+        // When
+        int inserted = agencyRepository.insertActiveMembers(savedAgency.getId(), List.of(
+                existingMember.getId(), newMember.getId(), deletedUser.getId(), UUID.randomUUID()));
+
+        // Then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(agencyRepository.findById(savedAgency.getId()).orElseThrow().getMembers())
+                .extracting(UserEntity::getNickname)
+                .containsExactlyInAnyOrder("testUser", "newMember");
+    }
+
+    @Test
+    @DisplayName("멤버 일괄 제거 - DELETE 1회로 요청한 사용자만 제거")
+    void deleteMembers_ShouldRemoveRequestedMembersOnly() {
+        // Given
+        AgencyEntity savedAgency = agencyRepository.saveAndFlush(testAgency);
+        UserEntity remaining = userRepository.saveAndFlush(testUser);
+        UserEntity removed = userRepository.saveAndFlush(user("removed@example.com", "removedMember"));
+        agencyRepository.insertActiveMembers(savedAgency.getId(), List.of(remaining.getId(), removed.getId()));
+
+        // When
+        int deleted = agencyRepository.deleteMembers(savedAgency.getId(), List.of(removed.getId(), UUID.randomUUID()));
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(agencyRepository.findById(savedAgency.getId()).orElseThrow().getMembers())
+                .extracting(UserEntity::getNickname)
+                .containsExactly("testUser");
+    }
+
+    @Test
+    @DisplayName("기관 멤버 사용자 ID 조회 - 해당 기관의 멤버만 반환")
+    void findMemberIds_ShouldReturnMembersOfAgencyOnly() {
+        // Given
+        AgencyEntity savedAgency = agencyRepository.saveAndFlush(testAgency);
+        UserEntity member = userRepository.saveAndFlush(testUser);
+        userRepository.saveAndFlush(user("other@example.com", "otherUser"));
+        agencyRepository.insertActiveMembers(savedAgency.getId(), List.of(member.getId()));
+
+        // When
+        List<UUID> memberIds = agencyRepository.findMemberIds(savedAgency.getId());
+
+        // Then
+        assertThat(memberIds).containsExactly(member.getId());
+    }
+
+    private static UserEntity user(String email, String nickname) {
+        UserEntity user = new UserEntity();
+        user.setEmail(email);
+        user.setPassword("password123");
+        user.setNickname(nickname);
+        user.setRole(UserRole.USER);
+        user.setProvider(Provider.EMAIL);
+        return user;
+    }
+}
@@ -0,0 +1,184 @@
+package me.bang9.api.user.repository;
+
+import me.bang9.api.support.AbstractPostgisContainerTest;
+import me.bang9.api.user.entity.AgencyEntity;
+import me.bang9.api.user.repository.projection.AgencySearchView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기관명 trigram 검색 테스트
+ * pg_trgm 확장과 GIN 인덱스(idx_agency_active_name_trgm)는 Flyway 마이그레이션에만 정의되어 있으므로
+ * create-drop 대신 Flyway로 스키마를 만든다.
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("Agency 기관명 검색 테스트 - PostGIS Container + Flyway")
+class AgencyNameSearchTest extends AbstractPostgisContainerTest {
+
+    private static final int AGENCY_COUNT = 100_000;
+    private static final String INDEX_NAME = "idx_agency_active_name_trgm";
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Autowired
+    private AgencyJpaRepository agencyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Test
+    @DisplayName("오타가 있는 단어로 활성 기관 검색 - 삭제된 기관과 유사하지 않은 기관 제외")
+    void searchActiveAgencies_ShouldMatchMisspelledWord() {
+        // Given
+        AgencyEntity welfare = agencyRepository.save(createAgency("Bangu Welfare Center"));
+        agencyRepository.save(createAgency("Sunrise Senior Center"));
+        AgencyEntity deleted = createAgency("Bangu Welfare Annex");
+        deleted.softDelete();
+        agencyRepository.save(deleted);
+        agencyRepository.flush();
+
+        // When
+        List<AgencySearchView> result = agencyRepository.searchActiveAgencies("welfre", "%welfre%", 10);
+
+        // Then
+        assertThat(result).singleElement().satisfies(agency -> {
+            assertThat(agency.getId()).isEqualTo(welfare.getId());
+            assertThat(agency.getScore()).isBetween(0.6f, 1.0f);
+        });
+    }
+
+    @Test
+    @DisplayName("단어 중간의 부분 문자열도 검색 (ILIKE)")
+    void searchActiveAgencies_ShouldMatchSubstring() {
+        // Given
+        AgencyEntity bangu = agencyRepository.save(createAgency("방구복지관"));
+        AgencyEntity happy = agencyRepository.save(createAgency("해피복지관"));
+        agencyRepository.save(createAgency("방구센터"));
+        agencyRepository.flush();
+
+        // When
+        List<AgencySearchView> result = agencyRepository.searchActiveAgencies("복지관", "%복지관%", 10);
+
+        // Then
+        assertThat(result).extracting(AgencySearchView::getId)
+                .containsExactlyInAnyOrder(bangu.getId(), happy.getId());
+        assertThat(result).allSatisfy(agency -> assertThat(agency.getScore()).isGreaterThanOrEqualTo(1.0f));
+    }
+
+    @Test
+    @DisplayName("검색어를 그대로 포함하는 기관이 먼저 오고, (score, id) 커서로 다음 페이지 조회")
+    void searchActiveAgenciesAfter_ShouldPageByScoreAndId() {
+        // Given
+        AgencyEntity exact = agencyRepository.save(createAgency("Bangu Welfare Center"));
+        AgencyEntity similar = agencyRepository.save(createAgency("Welfair Center"));
+        agencyRepository.flush();
+
+        // When
+        List<AgencySearchView> firstPage = agencyRepository.searchActiveAgencies("welfare", "%welfare%", 1);
+        AgencySearchView last = firstPage.getLast();
+        List<AgencySearchView> secondPage = agencyRepository.searchActiveAgenciesAfter(
+                "welfare", "%welfare%", last.getScore(), last.getId(), 10);
+
+        // Then
+        assertThat(firstPage).extracting(AgencySearchView::getId).containsExactly(exact.getId());
+        assertThat(secondPage).extracting(AgencySearchView::getId).containsExactly(similar.getId());
+        assertThat(secondPage.getFirst().getScore()).isLessThan(last.getScore());
+    }
+
+    @Test
+    @Tag("performance")
+    @DisplayName("기관 10만 개에서 오타 검색 p99 50ms, 흔한 단어 검색 p99 200ms 이내 - trigram GIN 인덱스 사용")
+    void searchActiveAgencies_ShouldMeetLatencyTargets_With100kAgencies() {
+        // Given: 지역 x 기관 종류 x 고유 토큰(md5 앞 8자리) 조합의 기관명 10만 개
+        jdbcTemplate.update("""
+                INSERT INTO bang9.agency (id, status, created_at, modified_at, name, email, address, contact)
+                SELECT gen_random_uuid(), true, now(), now(),
+                       (ARRAY['Gangnam', 'Mapo', 'Songpa', 'Jongno', 'Haeundae', 'Suwon', 'Incheon', 'Daejeon'])[1 + i % 8]
+                           || ' ' || (ARRAY['Welfare Center', 'Senior Center', 'Youth Center', 'Health Clinic', 'Community Center'])[1 + i % 5]
+                           || ' ' || substr(md5(CAST(i AS text)), 1, 8),
+                       'agency' || i || '@example.com', '주소', '02-0000-0000'
+                FROM generate_series(1, ?) AS i
+                """, AGENCY_COUNT);
+        jdbcTemplate.execute("ANALYZE bang9.agency");
+
+        // 임의 기관 고유 토큰의 마지막 글자를 바꾼 오타 검색어
+        List<String> typoQueries = jdbcTemplate.queryForList(
+                "SELECT split_part(name, ' ', 4) FROM bang9.agency ORDER BY random() LIMIT 200", String.class).stream()
+                .map(token -> token.substring(0, 7) + (token.endsWith("x") ? "y" : "x"))
+                .toList();
+        List<String> broadQueries = List.of("welfare", "senior center", "gangnam", "clinic");
+
+        // When
+        String plan = explain(typoQueries.getFirst());
+        double[] typo = measure(typoQueries, query -> agencyRepository.searchActiveAgencies(query, "%" + query + "%", 21));
+        double[] broad = measure(broadQueries, query -> agencyRepository.searchActiveAgencies(query, "%" + query + "%", 21));
+
+        System.out.printf("[agency name search] rows=%d%n-- typo: p50=%.2fms p99=%.2fms%n-- broad: p50=%.2fms p99=%.2fms%n%s%n",
+                AGENCY_COUNT, typo[0], typo[1], broad[0], broad[1], plan);
+
+        // Then
+        assertThat(plan).contains(INDEX_NAME);
+        assertThat(Arrays.stream(plan.split("\n"))).noneMatch(line -> line.contains("Seq Scan"));
+        assertThat(agencyRepository.searchActiveAgencies(typoQueries.getFirst(), "%" + typoQueries.getFirst() + "%", 21))
+                .extracting(AgencySearchView::getName)
+                .anyMatch(name -> name.contains(typoQueries.getFirst().substring(0, 7)));
+        assertThat(typo[1]).isLessThan(50.0);
+        assertThat(broad[1]).isLessThan(200.0);
+    }
+
+    private String explain(String query) {
+        return String.join("\n", namedParameterJdbcTemplate.queryForList(
+                "EXPLAIN " + AgencyJpaRepository.SEARCH_ACTIVE_AGENCIES + AgencyJpaRepository.SEARCH_ACTIVE_AGENCIES_ORDER,
+                new MapSqlParameterSource()
+                        .addValue("query", query)
+                        .addValue("pattern", "%" + query + "%")
+                        .addValue("limit", 21),
+                String.class
+        ));
+    }
+
+    // 검색어별 지연 시간의 [p50, p99] (ms), 각 검색어는 워밍업 후 5회씩 측정
+    private double[] measure(List<String> queries, Function<String, List<AgencySearchView>> search) {
+        queries.forEach(search::apply);
+
+        long[] elapsedNanos = new long[queries.size() * 5];
+        for (int i = 0; i < elapsedNanos.length; i++) {
+            String query = queries.get(i % queries.size());
+            long startedAt = System.nanoTime();
+            search.apply(query);
+            elapsedNanos[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(elapsedNanos);
+        return new double[]{
+                elapsedNanos[elapsedNanos.length / 2] / 1_000_000.0,
+                elapsedNanos[(int) (elapsedNanos.length * 0.99)] / 1_000_000.0
+        };
+    }
+
+    private AgencyEntity createAgency(String name) {
+        AgencyEntity agency = new AgencyEntity();
+        agency.setName(name);
+        agency.setEmail("agency" + sequence.incrementAndGet() + "@example.com");
+        agency.setAddress("서울시 강남구");
+        agency.setContact("02-1234-5678");
+        return agency;
+    }
+}
@@ -0,0 +1,369 @@
+package me.bang9.api.user.repository;
+
+import me.bang9.api.support.AbstractPostgisContainerTest;
+import me.bang9.api.user.dto.res.AgencyTile;
+import me.bang9.api.user.entity.AgencyEntity;
+import me.bang9.api.user.model.BoundingBox;
+import me.bang9.api.user.model.TileCoordinate;
+import me.bang9.api.user.repository.projection.AgencyClusterView;
+import me.bang9.api.user.repository.projection.AgencyDistanceView;
+import me.bang9.api.user.service.AgencyUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공간(PostGIS) 쿼리 테스트
+ * location(geography) 생성 컬럼과 GiST 인덱스는 Flyway 마이그레이션에만 정의되어 있으므로
+ * create-drop 대신 Flyway로 스키마를 만들고 엔티티 매핑은 validate로 검증한다.
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("Agency 공간 쿼리 테스트 - PostGIS Container + Flyway")
+class AgencySpatialQueryTest extends AbstractPostgisContainerTest {
+
+    // 서울 강남역
+    private static final double LATITUDE = 37.4979;
+    private static final double LONGITUDE = 127.0276;
+
+    @Autowired
+    private AgencyJpaRepository agencyRepository;
+
+    @Autowired
+    private AgencyUseCase agencyUseCase;
+
+    @Autowired
+    private AgencyVectorTileRepository agencyVectorTileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Test
+    @DisplayName("가까운 활성 기관을 거리 오름차순으로 N개 조회")
+    void findNearestActiveAgencies_ShouldOrderByDistance() {
+        // Given
+        AgencyEntity near = agencyRepository.save(createAgency("가까운 기관", 37.4980, 127.0277));
+        AgencyEntity middle = agencyRepository.save(createAgency("중간 기관", 37.5050, 127.0300));
+        agencyRepository.save(createAgency("먼 기관", 37.5665, 126.9780));
+        AgencyEntity deleted = createAgency("삭제된 기관", 37.4979, 127.0276);
+        deleted.softDelete();
+        agencyRepository.save(deleted);
+        agencyRepository.save(createAgency("위치 없는 기관", null, null));
+        agencyRepository.flush();
+
+        // When
+        List<AgencyDistanceView> result = agencyRepository.findNearestActiveAgencies(LATITUDE, LONGITUDE, 2);
+
+        // Then
+        assertThat(result).extracting(AgencyDistanceView::getId)
+                .containsExactly(near.getId(), middle.getId());
+        assertThat(result.get(0).getDistanceMeters()).isBetween(5.0, 30.0);
+        assertThat(result.get(1).getDistanceMeters()).isBetween(700.0, 900.0);
+    }
+
+    @Test
+    @DisplayName("근처 기관 조회는 location GiST 부분 인덱스를 사용")
+    void findNearestActiveAgencies_ShouldUseGistIndex() {
+        // Given: 서울 일대 2만 개 기관
+        jdbcTemplate.update("""
+                INSERT INTO bang9.agency (id, status, created_at, modified_at, name, email, address, contact, latitude, longitude)
+                SELECT gen_random_uuid(), true, now(), now(), '기관 ' || i, 'agency' || i || '@example.com', '서울시', '02-0000-0000',
+                       37.4 + random() * 0.3, 126.8 + random() * 0.4
+                FROM generate_series(1, 20000) AS i
+                """);
+        jdbcTemplate.execute("ANALYZE bang9.agency");
+
+        // When
+        String plan = String.join("\n", namedParameterJdbcTemplate.queryForList(
+                "EXPLAIN " + AgencyJpaRepository.FIND_NEAREST_ACTIVE_AGENCIES,
+                new MapSqlParameterSource()
+                        .addValue("latitude", LATITUDE)
+                        .addValue("longitude", LONGITUDE)
+                        .addValue("size", 10),
+                String.class
+        ));
+
+        // Then
+        assertThat(plan).contains("idx_agency_active_location");
+        assertThat(Arrays.stream(plan.split("\n"))).noneMatch(line -> line.contains("Seq Scan"));
+    }
+
+    @Test
+    @DisplayName("영역 안의 활성 기관을 격자 셀 단위로 묶어 조회")
+    void findActiveAgencyClusters_ShouldGroupByGridCell() {
+        // Given: 강남역 주변 2개, 시청 주변 1개, 영역 밖 1개
+        agencyRepository.save(createAgency("강남 A", 37.4979, 127.0276));
+        agencyRepository.save(createAgency("강남 B", 37.4985, 127.0280));
+        AgencyEntity cityHall = agencyRepository.save(createAgency("시청", 37.5665, 126.9780));
+        agencyRepository.save(createAgency("부산", 35.1796, 129.0756));
+        agencyRepository.flush();
+
+        // When: 셀 크기 0.05도
+        List<AgencyClusterView> clusters = agencyRepository.findActiveAgencyClusters(
+                37.4, 126.8, 37.7, 127.2, 0.05, 100);
+
+        // Then
+        assertThat(clusters).hasSize(2);
+        assertThat(clusters.get(0).getCount()).isEqualTo(2L);
+        assertThat(clusters.get(0).getAgencyId()).isNull();
+        assertThat(clusters.get(0).getLatitude()).isBetween(37.4979, 37.4985);
+        assertThat(clusters.get(1).getCount()).isEqualTo(1L);
+        assertThat(clusters.get(1).getAgencyId()).isEqualTo(cityHall.getId());
+    }
+
+    @Test
+    @DisplayName("z=0, z=1 타일처럼 경도 폭이 180도 이상인 영역에서도 서울 기관을 포함 (평면 영역 필터)")
+    void findActiveAgencyClusters_ShouldIncludeAgencies_InWorldAndContinentTiles() {
+        // Given
+        AgencyEntity gangnam = agencyRepository.save(createAgency("강남 기관", LATITUDE, LONGITUDE));
+        agencyRepository.save(createAgency("런던 기관", 51.5072, -0.1276));
+        agencyRepository.flush();
+        BoundingBox world = new TileCoordinate(0, 0, 0).toBoundingBox();
+        BoundingBox eastHemisphere = TileCoordinate.containing(LATITUDE, LONGITUDE, 1).toBoundingBox();
+
+        // When
+        List<AgencyClusterView> worldClusters = agencyRepository.findActiveAgencyClusters(
+                world.minLatitude(), world.minLongitude(), world.maxLatitude(), world.maxLongitude(), 90.0, 100);
+        List<AgencyClusterView> eastClusters = agencyRepository.findActiveAgencyClusters(
+                eastHemisphere.minLatitude(), eastHemisphere.minLongitude(),
+                eastHemisphere.maxLatitude(), eastHemisphere.maxLongitude(), 45.0, 100);
+
+        // Then
+        assertThat(worldClusters).extracting(AgencyClusterView::getCount).containsExactly(1L, 1L);
+        assertThat(worldClusters).extracting(AgencyClusterView::getAgencyId).contains(gangnam.getId());
+        assertThat(eastClusters).singleElement()
+                .satisfies(cluster -> assertThat(cluster.getAgencyId()).isEqualTo(gangnam.getId()));
+        assertThat(new String(agencyUseCase.getClusterTile(new TileCoordinate(0, 0, 0)).body(), StandardCharsets.UTF_8))
+                .contains(gangnam.getId().toString());
+    }
+
+    @Test
+    @DisplayName("영역 필터는 평면(geometry) GiST 부분 인덱스를 사용")
+    void findActiveAgencyClusters_ShouldUseGeometryIndex() {
+        // Given
+        jdbcTemplate.update("""
+                INSERT INTO bang9.agency (id, status, created_at, modified_at, name, email, address, contact, latitude, longitude)
+                SELECT gen_random_uuid(), true, now(), now(), '기관 ' || i, 'agency' || i || '@example.com', '서울시', '02-0000-0000',
+                       33.1 + random() * 5.5, 125.0 + random() * 4.5
+                FROM generate_series(1, 20000) AS i
+                """);
+        jdbcTemplate.execute("ANALYZE bang9.agency");
+
+        // When
+        String plan = String.join("\n", namedParameterJdbcTemplate.queryForList(
+                "EXPLAIN " + AgencyJpaRepository.FIND_ACTIVE_AGENCY_CLUSTERS,
+                new MapSqlParameterSource()
+                        .addValue("minLatitude", 37.49)
+                        .addValue("minLongitude", 127.02)
+                        .addValue("maxLatitude", 37.50)
+                        .addValue("maxLongitude", 127.03)
+                        .addValue("cellSize", 0.001)
+                        .addValue("maxCells", 100),
+                String.class
+        ));
+
+        // Then
+        assertThat(plan).contains("idx_agency_active_location_geom");
+    }
+
+    @Test
+    @DisplayName("클러스터 수는 maxCells로 제한")
+    void findActiveAgencyClusters_ShouldLimitCells() {
+        // Given
+        jdbcTemplate.update("""
+                INSERT INTO bang9.agency (id, status, created_at, modified_at, name, email, address, contact, latitude, longitude)
+                SELECT gen_random_uuid(), true, now(), now(), '기관 ' || i, 'agency' || i || '@example.com', '서울시', '02-0000-0000',
+                       37.4 + random() * 0.3, 126.8 + random() * 0.4
+                FROM generate_series(1, 5000) AS i
+                """);
+
+        // When: 매우 작은 셀 -> 거의 모든 기관이 각자 셀
+        List<AgencyClusterView> clusters = agencyRepository.findActiveAgencyClusters(
+                37.4, 126.8, 37.7, 127.2, 0.00001, 500);
+
+        // Then
+        assertThat(clusters).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("기관 이동/삭제 시 이전/새 위치의 타일 캐시가 무효화")
+    void agencyChanges_ShouldInvalidateAffectedTiles() {
+        // Given
+        TileCoordinate gangnam = TileCoordinate.containing(LATITUDE, LONGITUDE, 12);
+        TileCoordinate cityHall = TileCoordinate.containing(37.5665, 126.9780, 12);
+        AgencyEntity agency = agencyRepository.saveAndFlush(createAgency("이동하는 기관", LATITUDE, LONGITUDE));
+        AgencyTile gangnamBefore = agencyUseCase.getClusterTile(gangnam);
+        AgencyTile cityHallBefore = agencyUseCase.getClusterTile(cityHall);
+        assertThat(agencyUseCase.getClusterTile(gangnam)).isSameAs(gangnamBefore);
+
+        // When: 시청으로 이동
+        agency.setLatitude(37.5665);
+        agency.setLongitude(126.9780);
+        agencyRepository.flush();
+
+        // Then
+        assertThat(agencyUseCase.getClusterTile(gangnam).etag()).isNotEqualTo(gangnamBefore.etag());
+        AgencyTile cityHallAfterMove = agencyUseCase.getClusterTile(cityHall);
+        assertThat(cityHallAfterMove.etag()).isNotEqualTo(cityHallBefore.etag());
+
+        // When: soft delete
+        agency.softDelete();
+        agencyRepository.flush();
+
+        // Then
+        assertThat(agencyUseCase.getClusterTile(cityHall).etag()).isEqualTo(cityHallBefore.etag());
+    }
+
+    @Test
+    @DisplayName("ST_AsMVT로 타일 영역의 활성 기관 벡터 타일 생성")
+    void findActiveAgencyTile_ShouldEncodeAgenciesInTile() {
+        // Given
+        AgencyEntity agency = agencyRepository.save(createAgency("강남 기관", LATITUDE, LONGITUDE));
+        agencyRepository.flush();
+        TileCoordinate gangnam = TileCoordinate.containing(LATITUDE, LONGITUDE, 14);
+        TileCoordinate busan = TileCoordinate.containing(35.1796, 129.0756, 14);
+
+        // When
+        byte[] tile = agencyVectorTileRepository.findActiveAgencyTile(gangnam.z(), gangnam.x(), gangnam.y());
+        byte[] emptyTile = agencyVectorTileRepository.findActiveAgencyTile(busan.z(), busan.x(), busan.y());
+
+        // Then: 레이어 이름과 단일 기관의 id 속성이 인코딩됨
+        String decoded = new String(tile, StandardCharsets.ISO_8859_1);
+        assertThat(decoded).contains(AgencyVectorTileRepository.LAYER_NAME);
+        assertThat(decoded).contains(agency.getId().toString());
+        assertThat(emptyTile).isEmpty();
+    }
+
+    @Test
+    @DisplayName("타일 경계 근처 기관은 이웃 타일 버퍼에도 그려지고, 이동 시 이웃 타일 캐시도 무효화")
+    void agencyChanges_ShouldInvalidateNeighbourTiles_WhenAgencyInBuffer() {
+        // Given: 강남 타일 (12, 3493, 1587)의 서쪽 경계 바로 안쪽
+        AgencyEntity agency = agencyRepository.saveAndFlush(createAgency("경계 기관", LATITUDE, 127.0021));
+        TileCoordinate westNeighbour = new TileCoordinate(12, 3492, 1587);
+        assertThat(TileCoordinate.containing(LATITUDE, 127.0021, 12)).isNotEqualTo(westNeighbour);
+        AgencyTile before = agencyUseCase.getVectorTile(westNeighbour);
+        assertThat(new String(before.body(), StandardCharsets.ISO_8859_1)).contains(agency.getId().toString());
+
+        // When: 부산으로 이동
+        agency.setLatitude(35.1796);
+        agency.setLongitude(129.0756);
+        agencyRepository.flush();
+
+        // Then
+        AgencyTile after = agencyUseCase.getVectorTile(westNeighbour);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(new String(after.body(), StandardCharsets.ISO_8859_1)).doesNotContain(agency.getId().toString());
+    }
+
+    @Test
+    @DisplayName("기관 이름 변경 시 이름이 포함된 타일 캐시가 무효화")
+    void agencyRename_ShouldInvalidateTilesContainingName() {
+        // Given
+        AgencyEntity agency = agencyRepository.saveAndFlush(createAgency("이름 변경 전 기관", LATITUDE, LONGITUDE));
+        TileCoordinate gangnam = TileCoordinate.containing(LATITUDE, LONGITUDE, 14);
+        AgencyTile before = agencyUseCase.getVectorTile(gangnam);
+        assertThat(new String(before.body(), StandardCharsets.UTF_8)).contains("이름 변경 전 기관");
+
+        // When
+        agency.setName("이름 변경 후 기관");
+        agencyRepository.flush();
+
+        // Then
+        AgencyTile after = agencyUseCase.getVectorTile(gangnam);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(new String(after.body(), StandardCharsets.UTF_8))
+                .contains("이름 변경 후 기관")
+                .doesNotContain("이름 변경 전 기관");
+    }
+
+    @Test
+    @DisplayName("벡터 타일 영역 필터는 geometry 인덱스 사용")
+    void findActiveAgencyTile_ShouldUseGeometryIndex() {
+        // Given
+        jdbcTemplate.update("""
+                INSERT INTO bang9.agency (id, status, created_at, modified_at, name, email, address, contact, latitude, longitude)
+                SELECT gen_random_uuid(), true, now(), now(), '기관 ' || i, 'agency' || i || '@example.com', '서울시', '02-0000-0000',
+                       33.1 + random() * 5.5, 125.0 + random() * 4.5
+                FROM generate_series(1, 20000) AS i
+                """);
+        jdbcTemplate.execute("ANALYZE bang9.agency");
+        TileCoordinate gangnam = TileCoordinate.containing(LATITUDE, LONGITUDE, 14);
+
+        // When
+        String plan = String.join("\n", namedParameterJdbcTemplate.queryForList(
+                "EXPLAIN " + AgencyVectorTileRepository.ACTIVE_AGENCY_TILE,
+                new MapSqlParameterSource()
+                        .addValue("z", gangnam.z())
+                        .addValue("x", gangnam.x())
+                        .addValue("y", gangnam.y())
+                        .addValue("margin", AgencyVectorTileRepository.TILE_MARGIN)
+                        .addValue("extent", 4096)
+                        .addValue("buffer", 64)
+                        .addValue("gridSize", 256.0)
+                        .addValue("layer", AgencyVectorTileRepository.LAYER_NAME),
+                String.class
+        ));
+
+        // Then
+        assertThat(plan).contains("idx_agency_active_location_geom");
+    }
+
+    @Test
+    @Tag("performance")
+    @DisplayName("기관 10만 개에서 근처 기관 조회 p50 10ms 미만")
+    void findNearestActiveAgencies_ShouldStayUnder10ms_With100kAgencies() {
+        // Given: 전국 범위 10만 개 기관
+        jdbcTemplate.update("""
+                INSERT INTO bang9.agency (id, status, created_at, modified_at, name, email, address, contact, latitude, longitude)
+                SELECT gen_random_uuid(), i % 20 <> 0, now(), now(), '기관 ' || i, 'agency' || i || '@example.com', '주소', '02-0000-0000',
+                       33.1 + random() * 5.5, 125.0 + random() * 4.5
+                FROM generate_series(1, 100000) AS i
+                """);
+        jdbcTemplate.execute("ANALYZE bang9.agency");
+        for (int i = 0; i < 50; i++) {
+            agencyRepository.findNearestActiveAgencies(LATITUDE, LONGITUDE, 20);
+        }
+
+        // When
+        long[] elapsedNanos = new long[200];
+        for (int i = 0; i < elapsedNanos.length; i++) {
+            double latitude = 33.5 + (i % 50) * 0.1;
+            long startedAt = System.nanoTime();
+            agencyRepository.findNearestActiveAgencies(latitude, LONGITUDE, 20);
+            elapsedNanos[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(elapsedNanos);
+        double p50Millis = elapsedNanos[elapsedNanos.length / 2] / 1_000_000.0;
+        double p99Millis = elapsedNanos[(int) (elapsedNanos.length * 0.99)] / 1_000_000.0;
+        System.out.printf("[nearest agencies] rows=100000 p50=%.2fms p99=%.2fms%n", p50Millis, p99Millis);
+
+        // Then
+        assertThat(p50Millis).isLessThan(10.0);
+    }
+
+    private AgencyEntity createAgency(String name, Double latitude, Double longitude) {
+        AgencyEntity agency = new AgencyEntity();
+        agency.setName(name);
+        agency.setEmail(name.hashCode() + "@agency.com");
+        agency.setAddress("서울시");
+        agency.setContact("02-1234-5678");
+        agency.setLatitude(latitude);
+        agency.setLongitude(longitude);
+        return agency;
+    }
+}
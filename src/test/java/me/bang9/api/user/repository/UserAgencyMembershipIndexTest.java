@@ -0,0 +1,118 @@
+package me.bang9.api.user.repository;
+
+import me.bang9.api.support.AbstractPostgisContainerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * user_agency_membership 역방향(user_id) 인덱스 효과 측정
+ * 멤버십 100만 행에서 사용자별 소속 기관 조회(UserResponse 생성 시 사용)의 실행 계획과 지연 시간을
+ * 인덱스(idx_user_agency_membership_user_agency) 유무에 따라 비교한다.
+ * 인덱스 삭제는 테스트 트랜잭션 안에서 수행되어 종료 시 롤백된다.
+ */
+@SpringBootTest
+@Transactional
+@Tag("performance")
+@DisplayName("user_agency_membership 인덱스 테스트 - PostGIS Container + Flyway")
+class UserAgencyMembershipIndexTest extends AbstractPostgisContainerTest {
+
+    private static final int USER_COUNT = 100_000;
+    private static final int AGENCY_COUNT = 10_000;
+    private static final int AGENCIES_PER_USER = 10;
+
+    private static final String INDEX_NAME = "idx_user_agency_membership_user_agency";
+    private static final String MEMBERSHIP_BY_USER = "SELECT agency_id FROM bang9.user_agency_membership WHERE user_id = ?";
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("멤버십 100만 행에서 사용자별 소속 기관 조회 - 인덱스 사용 시 실행 계획과 지연 시간 비교")
+    void findAgencyNamesByUserIds_ShouldUseUserIndex_With1mMemberships() {
+        // Given: 사용자 10만 명 x 기관 10개 = 멤버십 100만 행
+        seedMemberships();
+        List<UUID> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM bang9.\"user\" ORDER BY random() LIMIT 200", UUID.class);
+
+        // When: 인덱스 사용
+        String indexedPlan = explain(userIds.getFirst());
+        double[] indexed = measure(userIds);
+
+        // When: 인덱스 없이 PK(agency_id, user_id)만 있는 경우
+        jdbcTemplate.execute("DROP INDEX bang9." + INDEX_NAME);
+        jdbcTemplate.execute("ANALYZE bang9.user_agency_membership");
+        String pkOnlyPlan = explain(userIds.getFirst());
+        double[] pkOnly = measure(userIds);
+
+        System.out.printf("[membership by user] rows=%d%n-- with %s: p50=%.2fms p99=%.2fms%n%s%n-- pk only: p50=%.2fms p99=%.2fms%n%s%n",
+                USER_COUNT * AGENCIES_PER_USER, INDEX_NAME, indexed[0], indexed[1], indexedPlan,
+                pkOnly[0], pkOnly[1], pkOnlyPlan);
+
+        // Then
+        assertThat(indexedPlan).contains(INDEX_NAME);
+        assertThat(pkOnlyPlan).doesNotContain(INDEX_NAME);
+        assertThat(indexed[0]).isLessThan(pkOnly[0]);
+    }
+
+    private void seedMemberships() {
+        jdbcTemplate.update("""
+                INSERT INTO bang9.agency (id, status, created_at, modified_at, name, email, address, contact)
+                SELECT gen_random_uuid(), true, now(), now(), '기관 ' || i, 'agency' || i || '@example.com', '주소', '02-0000-0000'
+                FROM generate_series(1, ?) AS i
+                """, AGENCY_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO bang9."user" (id, status, created_at, modified_at, email, nickname, role, provider)
+                SELECT gen_random_uuid(), true, now(), now(), 'user' || i || '@example.com', 'user' || i, 'USER', 'EMAIL'
+                FROM generate_series(1, ?) AS i
+                """, USER_COUNT);
+        // 사용자마다 서로 다른 기관 10개 (j * 1000 간격이므로 한 사용자 안에서 중복 없음)
+        jdbcTemplate.update("""
+                INSERT INTO bang9.user_agency_membership (agency_id, user_id)
+                SELECT a.id, u.id
+                FROM (SELECT id, row_number() OVER (ORDER BY id) AS rn FROM bang9."user") u
+                CROSS JOIN generate_series(0, ? - 1) AS j
+                JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 AS rn FROM bang9.agency) a
+                  ON a.rn = (u.rn * 7 + j * 1000) % ?
+                """, AGENCIES_PER_USER, AGENCY_COUNT);
+        jdbcTemplate.execute("ANALYZE bang9.agency");
+        jdbcTemplate.execute("ANALYZE bang9.\"user\"");
+        jdbcTemplate.execute("ANALYZE bang9.user_agency_membership");
+    }
+
+    private String explain(UUID userId) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + MEMBERSHIP_BY_USER, String.class, userId));
+    }
+
+    // 소속 기관명 조회(findAgencyNamesByUserIds)를 사용자별로 실행한 지연 시간의 [p50, p99] (ms)
+    private double[] measure(List<UUID> userIds) {
+        for (int i = 0; i < 20; i++) {
+            userRepository.findAgencyNamesByUserIds(List.of(userIds.get(i)));
+        }
+
+        long[] elapsedNanos = new long[userIds.size()];
+        for (int i = 0; i < elapsedNanos.length; i++) {
+            long startedAt = System.nanoTime();
+            userRepository.findAgencyNamesByUserIds(List.of(userIds.get(i)));
+            elapsedNanos[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(elapsedNanos);
+        return new double[]{
+                elapsedNanos[elapsedNanos.length / 2] / 1_000_000.0,
+                elapsedNanos[(int) (elapsedNanos.length * 0.99)] / 1_000_000.0
+        };
+    }
+}
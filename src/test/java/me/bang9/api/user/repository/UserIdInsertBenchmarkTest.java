@@ -0,0 +1,94 @@
+package me.bang9.api.user.repository;
+
+import me.bang9.api.global.entity.UuidV7Generator;
+import me.bang9.api.support.AbstractPostgisContainerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * bang9."user" PK 생성 방식별 INSERT 처리량과 인덱스 크기 비교 (랜덤 UUIDv4 vs 시간순 UUIDv7)
+ * 같은 행을 ID 생성 방식만 바꾸어 배치 INSERT 하고, 처리량/PK 인덱스 크기/WAL 생성량을 출력한다.
+ * email/nickname 유니크 인덱스는 두 경우 모두 동일하게 갱신된다.
+ */
+@SpringBootTest
+@Tag("performance")
+@DisplayName("사용자 PK UUIDv4 vs UUIDv7 INSERT 벤치마크 - PostGIS Container + Flyway")
+class UserIdInsertBenchmarkTest extends AbstractPostgisContainerTest {
+
+    private static final int ROW_COUNT = 500_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String INSERT_USER = """
+            INSERT INTO bang9."user" (id, status, created_at, modified_at, email, nickname, role, provider)
+            VALUES (?, true, ?, ?, ?, ?, 'USER', 'EMAIL')
+            """;
+    private static final String PRIMARY_KEY_SIZE = """
+            SELECT pg_relation_size(i.indexrelid)
+            FROM pg_index i
+            WHERE i.indrelid = CAST('bang9."user"' AS regclass) AND i.indisprimary
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("50만 행 INSERT - UUIDv7 PK 는 UUIDv4 보다 인덱스가 작고 WAL 이 적음")
+    void insertUsers_ShouldProduceSmallerPrimaryKey_WithUuidV7() {
+        // Given: 워밍업 (JIT, 커넥션, 공유 버퍼)
+        insertUsers(UUID::randomUUID, 50_000);
+
+        // When
+        Result v4 = insertUsers(UUID::randomUUID, ROW_COUNT);
+        Result v7 = insertUsers(UuidV7Generator::next, ROW_COUNT);
+
+        System.out.printf("[user insert] rows=%d batch=%d%n-- uuid v4: %s%n-- uuid v7: %s%n", ROW_COUNT, BATCH_SIZE, v4, v7);
+
+        // Then: 순차 삽입은 오른쪽 끝 페이지만 분할하므로 리프 페이지가 거의 가득 찬다 (랜덤 삽입은 약 70%)
+        assertThat(v7.primaryKeyBytes()).isLessThan(v4.primaryKeyBytes());
+        assertThat(v7.walBytes()).isLessThan(v4.walBytes());
+    }
+
+    private Result insertUsers(Supplier<UUID> idGenerator, int rowCount) {
+        jdbcTemplate.execute("TRUNCATE bang9.\"user\" CASCADE");
+        jdbcTemplate.execute("CHECKPOINT");
+        String walStart = jdbcTemplate.queryForObject("SELECT CAST(pg_current_wal_insert_lsn() AS text)", String.class);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long startedAt = System.nanoTime();
+        for (int offset = 0; offset < rowCount; offset += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = offset; i < Math.min(offset + BATCH_SIZE, rowCount); i++) {
+                batch.add(new Object[]{idGenerator.get(), now, now, "user" + i + "@example.com", "user" + i});
+            }
+            jdbcTemplate.batchUpdate(INSERT_USER, batch);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Long walBytes = jdbcTemplate.queryForObject(
+                "SELECT CAST(pg_wal_lsn_diff(pg_current_wal_insert_lsn(), CAST(? AS pg_lsn)) AS bigint)", Long.class, walStart);
+        Long primaryKeyBytes = jdbcTemplate.queryForObject(PRIMARY_KEY_SIZE, Long.class);
+        return new Result(rowCount * 1_000_000_000.0 / elapsedNanos, primaryKeyBytes, walBytes);
+    }
+
+    private record Result(double rowsPerSecond, long primaryKeyBytes, long walBytes) {
+
+        @Override
+        public String toString() {
+            return String.format("%.0f rows/s, pk index=%.1fMB, wal=%.1fMB",
+                    rowsPerSecond, primaryKeyBytes / 1_048_576.0, walBytes / 1_048_576.0);
+        }
+    }
+}
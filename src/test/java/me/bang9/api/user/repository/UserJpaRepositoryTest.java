@@ -1,61 +1,47 @@
 package me.bang9.api.user.repository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import me.bang9.api.support.AbstractPostgisContainerTest;
 import me.bang9.api.user.entity.AgencyEntity;
 import me.bang9.api.user.entity.UserEntity;
 import me.bang9.api.user.model.Provider;
 import me.bang9.api.user.model.UserRole;
+import me.bang9.api.user.repository.projection.UpdatedUserView;
+import me.bang9.api.user.repository.projection.UserAgencyNameView;
+import me.bang9.api.user.repository.projection.UserExportView;
+import me.bang9.api.user.repository.projection.UserSummaryView;
+import me.bang9.api.user.service.UserAuthUseCase;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.transaction.annotation.Transactional;
-import org.testcontainers.containers.PostgreSQLContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
-import org.testcontainers.utility.DockerImageName;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
-@Testcontainers
 @Transactional
 @DisplayName("UserJpaRepository 테스트 - PostGIS Container")
-class UserJpaRepositoryTest {
-
-    @Container
-    static PostgreSQLContainer<?> postgis = new PostgreSQLContainer<>(
-            DockerImageName.parse("imresamu/postgis-arm64:17-3.5")
-                    .asCompatibleSubstituteFor("postgres")
-    )
-    .withDatabaseName("bang9")
-    .withUsername("bang9")
-    .withPassword("testpass")
-    .withEnv("POSTGRES_INITDB_ARGS", "--encoding=UTF8 --lc-collate=C.UTF-8 --lc-ctype=C.UTF-8")
-    .withInitScript("init-test-postgis.sql")
-    .withReuse(false)
-    .withStartupTimeoutSeconds(60)
-    .withConnectTimeoutSeconds(20);
+class UserJpaRepositoryTest extends AbstractPostgisContainerTest {
 
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
-        registry.add("spring.datasource.url", postgis::getJdbcUrl);
-        registry.add("spring.datasource.username", postgis::getUsername);
-        registry.add("spring.datasource.password", postgis::getPassword);
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
         registry.add("spring.flyway.enabled", () -> "false");
-        
-        // Optimized for fast shutdown
-        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "2");
-        registry.add("spring.datasource.hikari.minimum-idle", () -> "0");
-        registry.add("spring.datasource.hikari.connection-timeout", () -> "3000");
-        registry.add("spring.datasource.hikari.max-lifetime", () -> "10000");
-        registry.add("spring.datasource.hikari.idle-timeout", () -> "3000");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
     }
 
     @Autowired
@@ -64,6 +50,18 @@ class UserJpaRepositoryTest {
     @Autowired
     private AgencyJpaRepository agencyRepository;
 
+    @Autowired
+    private UserExportRepository userExportRepository;
+
+    @Autowired
+    private UserAuthUseCase userAuthUseCase;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private UserEntity testUser;
     private AgencyEntity testAgency;
 
@@ -85,6 +83,20 @@ class UserJpaRepositoryTest {
         testAgency.setContact("02-1234-5678");
     }
 
+    @Test
+    @DisplayName("저장 시 시간순 UUIDv7 ID 생성 - 사용자, 기관")
+    void save_ShouldGenerateTimeOrderedUuidV7() {
+        // When
+        UserEntity first = userRepository.save(testUser);
+        UserEntity second = userRepository.save(createUser("test2@example.com", "testUser2"));
+        AgencyEntity agency = agencyRepository.save(testAgency);
+
+        // Then
+        assertThat(first.getId().version()).isEqualTo(7);
+        assertThat(agency.getId().version()).isEqualTo(7);
+        assertThat(second.getId().toString()).isGreaterThan(first.getId().toString());
+    }
+
     @Test
     @DisplayName("이메일로 사용자 조회 - 존재하는 경우")
     void findByEmail_ShouldReturnUser_WhenEmailExists() {
@@ -158,6 +170,135 @@ class UserJpaRepositoryTest {
         assertThat(exists).isFalse();
     }
 
+    @Test
+    @DisplayName("활성 사용자 keyset 페이지 조회 - 삭제된 사용자 제외")
+    void findActiveUsers_ShouldPageByCreatedAtAndId_ExcludingDeleted() {
+        // Given
+        userRepository.save(testUser);
+        UserEntity deletedUser = createUser("deleted@example.com", "deletedUser");
+        deletedUser.softDelete();
+        userRepository.save(deletedUser);
+        userRepository.save(createUser("test2@example.com", "testUser2"));
+        userRepository.save(createUser("test3@example.com", "testUser3"));
+
+        // When
+        List<UserEntity> firstPage = userRepository.findActiveUsers(PageRequest.of(0, 2));
+        UserEntity last = firstPage.get(firstPage.size() - 1);
+        List<UserEntity> secondPage = userRepository.findActiveUsersAfter(last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(firstPage).extracting(UserEntity::getNickname)
+                .doesNotContain("deletedUser")
+                .doesNotContain(secondPage.get(0).getNickname());
+        assertThat(secondPage.get(0).getNickname()).isNotEqualTo("deletedUser");
+    }
+
+    @Test
+    @DisplayName("활성 사용자 닉네임 수정 - 수정된 사용자와 활성 소속 기관명을 함께 반환, 삭제된 사용자는 수정되지 않음")
+    void updateNicknameIfActive_ShouldUpdateOnlyActiveUser() {
+        // Given
+        AgencyEntity activeAgency = agencyRepository.save(testAgency);
+        AgencyEntity deletedAgency = createAgency("삭제된 기관");
+        deletedAgency.softDelete();
+        agencyRepository.save(deletedAgency);
+        testUser.getMemberAgencyList().addAll(List.of(activeAgency, deletedAgency));
+        UserEntity savedUser = userRepository.save(testUser);
+        UserEntity nonMember = userRepository.save(createUser("test2@example.com", "testUser2"));
+        UserEntity deletedUser = createUser("deleted@example.com", "deletedUser");
+        deletedUser.softDelete();
+        userRepository.save(deletedUser);
+        userRepository.flush();
+
+        // When
+        List<UpdatedUserView> updated = userRepository.updateNicknameIfActive(savedUser.getId(), "renamedUser", LocalDateTime.now());
+        List<UpdatedUserView> nonMemberUpdated = userRepository.updateNicknameIfActive(nonMember.getId(), "renamedUser2", LocalDateTime.now());
+        List<UpdatedUserView> deletedUserRows = userRepository.updateNicknameIfActive(deletedUser.getId(), "renamedDeleted", LocalDateTime.now());
+        List<UpdatedUserView> unknownRows = userRepository.updateNicknameIfActive(UUID.randomUUID(), "renamedUnknown", LocalDateTime.now());
+
+        // Then
+        assertThat(updated).singleElement().satisfies(row -> {
+            assertThat(row.getId()).isEqualTo(savedUser.getId());
+            assertThat(row.getEmail()).isEqualTo("test@example.com");
+            assertThat(row.getNickname()).isEqualTo("renamedUser");
+            assertThat(row.getRole()).isEqualTo("USER");
+            assertThat(row.getAgencyName()).isEqualTo("테스트 기관");
+        });
+        assertThat(nonMemberUpdated).singleElement().satisfies(row -> {
+            assertThat(row.getNickname()).isEqualTo("renamedUser2");
+            assertThat(row.getAgencyName()).isNull();
+        });
+        assertThat(deletedUserRows).isEmpty();
+        assertThat(unknownRows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("활성 사용자 소프트 삭제 - 두 번째 삭제는 영향받는 행 없음")
+    void softDeleteIfActive_ShouldDeleteOnlyOnce() {
+        // Given
+        UserEntity savedUser = userRepository.save(testUser);
+
+        // When
+        int firstRows = userRepository.softDeleteIfActive(savedUser.getId(), LocalDateTime.now());
+        int secondRows = userRepository.softDeleteIfActive(savedUser.getId(), LocalDateTime.now());
+
+        // Then
+        assertThat(firstRows).isEqualTo(1);
+        assertThat(secondRows).isZero();
+        assertThat(userRepository.findByIdAndStatusTrue(savedUser.getId())).isEmpty();
+        assertThat(userRepository.findById(savedUser.getId()).get().getStatus()).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 ID 목록으로 소속 기관명 일괄 조회")
+    void findAgencyNamesByUserIds_ShouldReturnAgencyNamesPerUser() {
+        // Given
+        AgencyEntity savedAgency = agencyRepository.save(testAgency);
+        testUser.getMemberAgencyList().add(savedAgency);
+        UserEntity member = userRepository.save(testUser);
+        UserEntity nonMember = userRepository.save(createUser("test2@example.com", "testUser2"));
+
+        // When
+        var result = userRepository.findAgencyNamesByUserIds(List.of(member.getId(), nonMember.getId()));
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getUserId()).isEqualTo(member.getId());
+        assertThat(result.get(0).getAgencyName()).isEqualTo("테스트 기관");
+    }
+
+    @Test
+    @DisplayName("소속 기관명 일괄 조회 시 소프트 삭제된 기관은 제외")
+    void findAgencyNamesByUserIds_ShouldExcludeDeletedAgencies() {
+        // Given
+        AgencyEntity activeAgency = agencyRepository.save(testAgency);
+        AgencyEntity deletedAgency = createAgency("삭제된 기관");
+        deletedAgency.softDelete();
+        agencyRepository.save(deletedAgency);
+        testUser.getMemberAgencyList().add(activeAgency);
+        testUser.getMemberAgencyList().add(deletedAgency);
+        UserEntity member = userRepository.save(testUser);
+
+        // When
+        var result = userRepository.findAgencyNamesByUserIds(List.of(member.getId()));
+
+        // Then
+        assertThat(result).extracting(UserAgencyNameView::getAgencyName).containsExactly("테스트 기관");
+    }
+
+    @Test
+    @DisplayName("사용자 목록 조회 SQL 실행 수는 사용자 수와 무관하게 일정 (N+1 없음)")
+    void getUsers_ShouldExecuteConstantStatements_RegardlessOfUserCount() {
+        // Given & When
+        long statementsForFewUsers = countStatementsForListing(3, "few");
+        long statementsForManyUsers = countStatementsForListing(15, "many");
+
+        // Then: 사용자 페이지 조회 1회 + 소속 기관명 일괄 조회 1회
+        assertThat(statementsForFewUsers).isEqualTo(2);
+        assertThat(statementsForManyUsers).isEqualTo(statementsForFewUsers);
+    }
+
     @Test
     @DisplayName("사용자-기관 OneToOne 관계 테스트")
     void userAgencyRepresentation_ShouldWork() {
@@ -215,34 +356,153 @@ class UserJpaRepositoryTest {
     }
 
     @Test
-    @DisplayName("같은 기관의 다른 멤버들 조회 - TDD 실패 테스트")
-    void findCoMembersInSameAgencies_ShouldReturnCoMembers() {
+    @DisplayName("같은 기관의 다른 멤버들 조회 - 여러 기관을 공유해도 한 번만, 닉네임 순으로 반환")
+    void findCoMembers_ShouldReturnDistinctCoMembersOrderedByNickname() {
+        // Given
+        AgencyEntity firstAgency = agencyRepository.save(testAgency);
+        AgencyEntity secondAgency = agencyRepository.save(createAgency("두번째 기관"));
+
+        UserEntity me = createUser("me@example.com", "me");
+        me.getMemberAgencyList().addAll(List.of(firstAgency, secondAgency));
+        UserEntity savedMe = userRepository.save(me);
+
+        // 두 기관 모두 공유하는 멤버, 한 기관만 공유하는 멤버, 다른 기관 멤버
+        UserEntity both = createUser("both@example.com", "bravo");
+        both.getMemberAgencyList().addAll(List.of(firstAgency, secondAgency));
+        userRepository.save(both);
+        UserEntity one = createUser("one@example.com", "alpha");
+        one.getMemberAgencyList().add(secondAgency);
+        userRepository.save(one);
+        userRepository.save(createUser("other@example.com", "charlie"));
+        userRepository.flush();
+
+        // When
+        List<UserSummaryView> coMembers = userRepository.findCoMembers(savedMe.getId(), 10);
+
+        // Then
+        assertThat(coMembers).extracting(UserSummaryView::getNickname).containsExactly("alpha", "bravo");
+    }
+
+    @Test
+    @DisplayName("같은 기관의 다른 멤버들 조회 - 닉네임 커서 이후 페이지와 LIMIT")
+    void findCoMembersAfter_ShouldReturnNextPage() {
         // Given
         AgencyEntity savedAgency = agencyRepository.save(testAgency);
-        
-        // 첫 번째 사용자
-        testUser.getMemberAgencyList().add(savedAgency);
-        savedAgency.getMembers().add(testUser);
-        UserEntity savedUser1 = userRepository.save(testUser);
-        
-        // 두 번째 사용자 (같은 기관 멤버)
-        UserEntity testUser2 = new UserEntity();
-        testUser2.setEmail("test2@example.com");
-        testUser2.setPassword("password123");
-        testUser2.setNickname("testUser2");
-        testUser2.setRole(UserRole.USER);
-        testUser2.setProvider(Provider.EMAIL);
-        testUser2.getMemberAgencyList().add(savedAgency);
-        savedAgency.getMembers().add(testUser2);
-        userRepository.save(testUser2);
-        
-        agencyRepository.save(savedAgency);
+        UserEntity me = createUser("me@example.com", "me");
+        me.getMemberAgencyList().add(savedAgency);
+        UserEntity savedMe = userRepository.save(me);
+        for (String nickname : List.of("alpha", "bravo", "charlie", "delta")) {
+            UserEntity member = createUser(nickname + "@example.com", nickname);
+            member.getMemberAgencyList().add(savedAgency);
+            userRepository.save(member);
+        }
+        userRepository.flush();
+
+        // When
+        List<UserSummaryView> firstPage = userRepository.findCoMembers(savedMe.getId(), 2);
+        List<UserSummaryView> secondPage = userRepository.findCoMembersAfter(
+                savedMe.getId(), firstPage.getLast().getNickname(), 2);
+
+        // Then
+        assertThat(firstPage).extracting(UserSummaryView::getNickname).containsExactly("alpha", "bravo");
+        assertThat(secondPage).extracting(UserSummaryView::getNickname).containsExactly("charlie", "delta");
+    }
+
+    @Test
+    @DisplayName("같은 기관의 다른 멤버들 조회 - 삭제된 사용자와 삭제된 기관 제외")
+    void findCoMembers_ShouldExcludeDeletedUsersAndAgencies() {
+        // Given
+        AgencyEntity activeAgency = agencyRepository.save(testAgency);
+        AgencyEntity deletedAgency = createAgency("삭제된 기관");
+        deletedAgency.softDelete();
+        deletedAgency = agencyRepository.save(deletedAgency);
+
+        UserEntity me = createUser("me@example.com", "me");
+        me.getMemberAgencyList().addAll(List.of(activeAgency, deletedAgency));
+        UserEntity savedMe = userRepository.save(me);
+
+        UserEntity deletedUser = createUser("deleted@example.com", "deletedUser");
+        deletedUser.getMemberAgencyList().add(activeAgency);
+        deletedUser.softDelete();
+        userRepository.save(deletedUser);
+        UserEntity deletedAgencyMember = createUser("former@example.com", "formerMember");
+        deletedAgencyMember.getMemberAgencyList().add(deletedAgency);
+        userRepository.save(deletedAgencyMember);
+        userRepository.flush();
+
+        // When
+        List<UserSummaryView> coMembers = userRepository.findCoMembers(savedMe.getId(), 10);
+
+        // Then
+        assertThat(coMembers).isEmpty();
+    }
+
+    @Test
+    @DisplayName("활성 사용자 스트리밍 조회 - 가입 순, 소속 기관명은 이름순, 삭제된 사용자 제외")
+    void streamActiveUsers_ShouldStreamActiveUsersWithAgencyNames() {
+        // Given
+        AgencyEntity agencyB = agencyRepository.save(createAgency("나 기관"));
+        AgencyEntity agencyA = agencyRepository.save(createAgency("가 기관"));
+        testUser.getMemberAgencyList().addAll(List.of(agencyB, agencyA));
+        UserEntity member = userRepository.save(testUser);
+        UserEntity nonMember = userRepository.save(createUser("test2@example.com", "testUser2"));
+        UserEntity deletedUser = createUser("deleted@example.com", "deletedUser");
+        deletedUser.softDelete();
+        userRepository.save(deletedUser);
+        userRepository.flush();
 
         // When
-        List<UserEntity> coMembers = userRepository.findCoMembersInSameAgencies(savedUser1.getId());
+        List<UserExportView> exported = new ArrayList<>();
+        userExportRepository.streamActiveUsers(exported::add);
 
         // Then
-        assertThat(coMembers).hasSize(1);
-        assertThat(coMembers.get(0).getNickname()).isEqualTo("testUser2");
+        assertThat(exported).extracting(UserExportView::id).containsExactly(member.getId(), nonMember.getId());
+        assertThat(exported.get(0).agencyNames()).containsExactly("가 기관", "나 기관");
+        assertThat(exported.get(0).role()).isEqualTo("USER");
+        assertThat(exported.get(1).agencyNames()).isEmpty();
+    }
+
+    private AgencyEntity createAgency(String name) {
+        AgencyEntity agency = new AgencyEntity();
+        agency.setName(name);
+        agency.setEmail("agency@example.com");
+        agency.setAddress("서울시 강남구");
+        agency.setContact("02-1234-5678");
+        return agency;
+    }
+
+    private UserEntity createUser(String email, String nickname) {
+        UserEntity user = new UserEntity();
+        user.setEmail(email);
+        user.setPassword("password123");
+        user.setNickname(nickname);
+        user.setRole(UserRole.USER);
+        user.setProvider(Provider.EMAIL);
+        return user;
+    }
+
+    private long countStatementsForListing(int userCount, String prefix) {
+        AgencyEntity agency = new AgencyEntity();
+        agency.setName(prefix + " 기관");
+        agency.setEmail(prefix + "@agency.com");
+        agency.setAddress("서울시 강남구");
+        agency.setContact("02-1234-5678");
+        AgencyEntity savedAgency = agencyRepository.save(agency);
+
+        for (int i = 0; i < userCount; i++) {
+            UserEntity user = createUser(prefix + i + "@example.com", prefix + "User" + i);
+            user.getMemberAgencyList().add(savedAgency);
+            userRepository.save(user);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var page = userAuthUseCase.getUsers(null, userCount);
+        page.content().forEach(response -> assertThat(response.agency()).isNotEmpty());
+
+        return statistics.getPrepareStatementCount();
     }
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+package me.bang9.api.user.repository;
+
+import me.bang9.api.support.AbstractPostgisContainerTest;
+import me.bang9.api.user.entity.UserEntity;
+import me.bang9.api.user.model.Provider;
+import me.bang9.api.user.model.UserRole;
+import me.bang9.api.user.repository.projection.UserSummaryView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 닉네임 접두사 자동완성 테스트
+ * C collation 부분 인덱스(idx_user_active_nickname_c)는 Flyway 마이그레이션에만 정의되어 있으므로
+ * create-drop 대신 Flyway로 스키마를 만든다.
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("User 닉네임 자동완성 테스트 - PostGIS Container + Flyway")
+class UserNicknameAutocompleteTest extends AbstractPostgisContainerTest {
+
+    private static final int USER_COUNT = 1_000_000;
+    private static final String INDEX_NAME = "idx_user_active_nickname_c";
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Test
+    @DisplayName("접두사로 시작하는 활성 사용자만 닉네임 바이트 순으로 조회 - 대소문자 구분, 삭제된 사용자 제외")
+    void autocompleteNicknames_ShouldReturnActiveUsersWithPrefix() {
+        // Given
+        UserEntity banana = userRepository.save(createUser("banana"));
+        UserEntity bang9 = userRepository.save(createUser("bang9"));
+        UserEntity bangDot = userRepository.save(createUser("ban.g"));
+        userRepository.save(createUser("bao"));
+        userRepository.save(createUser("Bang"));
+        UserEntity deleted = createUser("bandit");
+        deleted.softDelete();
+        userRepository.save(deleted);
+        userRepository.flush();
+
+        // When
+        List<UserSummaryView> result = userRepository.autocompleteNicknames("ban", "bao", 10);
+
+        // Then
+        assertThat(result).extracting(UserSummaryView::getId)
+                .containsExactly(bangDot.getId(), banana.getId(), bang9.getId());
+    }
+
+    @Test
+    @DisplayName("결과 수 제한")
+    void autocompleteNicknames_ShouldLimitResults() {
+        // Given
+        userRepository.save(createUser("alpha"));
+        userRepository.save(createUser("alps"));
+        userRepository.save(createUser("altitude"));
+        userRepository.flush();
+
+        // When
+        List<UserSummaryView> result = userRepository.autocompleteNicknames("al", "am", 2);
+
+        // Then
+        assertThat(result).extracting(UserSummaryView::getNickname).containsExactly("alpha", "alps");
+    }
+
+    @Test
+    @Tag("performance")
+    @DisplayName("사용자 100만 명에서 접두사 자동완성 p99 10ms 이내 - C collation 부분 인덱스 범위 검색 (정렬 없음)")
+    void autocompleteNicknames_ShouldMeetLatencyTarget_With1mUsers() {
+        // Given: md5 기반 임의 닉네임 100만 개 (영문자로 시작하도록 'u' 접두)
+        jdbcTemplate.update("""
+                INSERT INTO bang9."user" (id, status, created_at, modified_at, email, nickname, role, provider)
+                SELECT gen_random_uuid(), i % 20 <> 0, now(), now(), 'user' || i || '@example.com',
+                       'u' || substr(md5(CAST(i AS text)), 1, 12), 'USER', 'EMAIL'
+                FROM generate_series(1, ?) AS i
+                """, USER_COUNT);
+        jdbcTemplate.execute("ANALYZE bang9.\"user\"");
+
+        // 'u' + 1 ~ 4 글자 접두사 (짧을수록 후보가 많음)
+        List<String> prefixes = jdbcTemplate.queryForList(
+                "SELECT substr(nickname, 1, 2 + CAST(random() * 3 AS int)) FROM bang9.\"user\" ORDER BY random() LIMIT 200",
+                String.class);
+
+        // When
+        String plan = explain(prefixes.getFirst());
+        double[] latency = measure(prefixes);
+
+        System.out.printf("[nickname autocomplete] rows=%d%n-- p50=%.2fms p99=%.2fms%n%s%n",
+                USER_COUNT, latency[0], latency[1], plan);
+
+        // Then
+        // 테스트 트랜잭션 안의 행은 visibility map 에 반영되지 않으므로 index-only 여부는 검증하지 않는다
+        assertThat(plan).contains(INDEX_NAME);
+        assertThat(Arrays.stream(plan.split("\n"))).noneMatch(line -> line.contains("Sort"));
+        assertThat(latency[1]).isLessThan(10.0);
+    }
+
+    private String explain(String prefix) {
+        return String.join("\n", namedParameterJdbcTemplate.queryForList(
+                "EXPLAIN " + UserJpaRepository.AUTOCOMPLETE_NICKNAMES,
+                new MapSqlParameterSource()
+                        .addValue("prefix", prefix)
+                        .addValue("upperBound", upperBound(prefix))
+                        .addValue("limit", 10),
+                String.class
+        ));
+    }
+
+    // 접두사별 지연 시간의 [p50, p99] (ms)
+    private double[] measure(List<String> prefixes) {
+        prefixes.forEach(prefix -> userRepository.autocompleteNicknames(prefix, upperBound(prefix), 10));
+
+        long[] elapsedNanos = new long[prefixes.size()];
+        for (int i = 0; i < elapsedNanos.length; i++) {
+            String prefix = prefixes.get(i);
+            long startedAt = System.nanoTime();
+            userRepository.autocompleteNicknames(prefix, upperBound(prefix), 10);
+            elapsedNanos[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(elapsedNanos);
+        return new double[]{
+                elapsedNanos[elapsedNanos.length / 2] / 1_000_000.0,
+                elapsedNanos[(int) (elapsedNanos.length * 0.99)] / 1_000_000.0
+        };
+    }
+
+    private static String upperBound(String prefix) {
+        int last = prefix.length() - 1;
+        return prefix.substring(0, last) + (char) (prefix.charAt(last) + 1);
+    }
+
+    private static UserEntity createUser(String nickname) {
+        UserEntity user = new UserEntity();
+        user.setEmail(nickname + "@example.com");
+        user.setPassword("password123");
+        user.setNickname(nickname);
+        user.setRole(UserRole.USER);
+        user.setProvider(Provider.EMAIL);
+        return user;
+    }
+}
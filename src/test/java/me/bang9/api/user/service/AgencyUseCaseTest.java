@@ -0,0 +1,628 @@
+package me.bang9.api.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.bang9.api.global.api.CursorPageResponse;
+import me.bang9.api.global.api.exception.Bang9Exception;
+import me.bang9.api.user.dto.req.AgencyCreateRequest;
+import me.bang9.api.user.dto.req.AgencyMembersRequest;
+import me.bang9.api.user.dto.req.AgencySearchCursor;
+import me.bang9.api.user.dto.req.AgencyUpdateRequest;
+import me.bang9.api.user.dto.res.AgencyClusterResponse;
+import me.bang9.api.user.dto.res.AgencyMembersResponse;
+import me.bang9.api.user.dto.res.AgencyResponse;
+import me.bang9.api.user.dto.res.AgencySearchResponse;
+import me.bang9.api.user.dto.res.AgencyTile;
+import me.bang9.api.user.dto.res.NearbyAgencyResponse;
+import me.bang9.api.user.dto.res.UserResponse;
+import me.bang9.api.user.entity.AgencyEntity;
+import me.bang9.api.user.model.BoundingBox;
+import me.bang9.api.user.model.TileCoordinate;
+import me.bang9.api.user.repository.AgencyJpaRepository;
+import me.bang9.api.user.repository.AgencyVectorTileRepository;
+import me.bang9.api.user.repository.projection.AgencyClusterView;
+import me.bang9.api.user.repository.projection.AgencyDistanceView;
+import me.bang9.api.user.repository.projection.AgencySearchView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.AGENCY_NOT_FOUND;
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_COORDINATES;
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_SEARCH_CURSOR;
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_SEARCH_QUERY;
+import static me.bang9.api.global.api.code.status.AgencyErrorStatus.INVALID_VIEWPORT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AgencyUseCase 서비스 테스트")
+class AgencyUseCaseTest {
+
+    @Mock
+    private AgencyJpaRepository agencyRepository;
+
+    @Mock
+    private AgencyVectorTileRepository agencyVectorTileRepository;
+
+    private AgencyTileCache agencyTileCache;
+
+    private UserResponseCache userResponseCache;
+
+    private AgencyUseCase agencyUseCase;
+
+    @BeforeEach
+    void setUp() {
+        agencyTileCache = new AgencyTileCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+        userResponseCache = new UserResponseCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+        agencyUseCase = new AgencyService(agencyRepository, agencyVectorTileRepository, agencyTileCache, new ObjectMapper(), userResponseCache);
+    }
+
+    @Nested
+    @DisplayName("근처 기관 조회 테스트")
+    class FindNearbyAgenciesTest {
+
+        @Test
+        @DisplayName("조회 결과를 거리 포함 응답으로 변환")
+        void findNearbyAgencies_Success() {
+            // Given
+            AgencyDistanceView agency = distanceView("강남 기관", 37.4980, 127.0277, 14.2);
+            given(agencyRepository.findNearestActiveAgencies(37.4979, 127.0276, 10))
+                    .willReturn(List.of(agency));
+
+            // When
+            List<NearbyAgencyResponse> result = agencyUseCase.findNearbyAgencies(37.4979, 127.0276, 10);
+
+            // Then
+            assertThat(result).singleElement().satisfies(response -> {
+                assertThat(response.id()).isEqualTo(agency.getId());
+                assertThat(response.name()).isEqualTo("강남 기관");
+                assertThat(response.distanceMeters()).isEqualTo(14.2);
+            });
+        }
+
+        @Test
+        @DisplayName("조회 개수는 최대 50개로 제한")
+        void findNearbyAgencies_ShouldClampSize() {
+            // Given
+            given(agencyRepository.findNearestActiveAgencies(37.4979, 127.0276, 50)).willReturn(List.of());
+
+            // When
+            List<NearbyAgencyResponse> result = agencyUseCase.findNearbyAgencies(37.4979, 127.0276, 1000);
+
+            // Then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("좌표 범위를 벗어나면 INVALID_COORDINATES")
+        void findNearbyAgencies_ShouldFail_WhenCoordinatesInvalid() {
+            // When & Then
+            assertThatThrownBy(() -> agencyUseCase.findNearbyAgencies(37.0, 181.0, 10))
+                    .isInstanceOf(Bang9Exception.class)
+                    .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", INVALID_COORDINATES.getCode());
+            assertThatThrownBy(() -> agencyUseCase.findNearbyAgencies(Double.NaN, 127.0, 10))
+                    .isInstanceOf(Bang9Exception.class);
+
+            verify(agencyRepository, never()).findNearestActiveAgencies(anyDouble(), anyDouble(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("기관명 검색 테스트")
+    class SearchAgenciesTest {
+
+        @Test
+        @DisplayName("검색어를 ILIKE 패턴으로 이스케이프하고 1건 더 조회하여 다음 페이지 커서 생성")
+        void searchAgencies_ShouldReturnPageWithNextCursor() {
+            // Given
+            AgencySearchView first = searchView("방구 복지관", 1.8f);
+            AgencySearchView second = searchView("방구 센터", 0.7f);
+            AgencySearchView extra = searchView("방구리 센터", 0.65f);
+            given(agencyRepository.searchActiveAgencies("방구_100%", "%방구\\_100\\%%", 3))
+                    .willReturn(List.of(first, second, extra));
+
+            // When
+            CursorPageResponse<AgencySearchResponse> result = agencyUseCase.searchAgencies("  방구_100%  ", null, 2);
+
+            // Then
+            assertThat(result.content()).extracting(AgencySearchResponse::name).containsExactly("방구 복지관", "방구 센터");
+            assertThat(result.hasNext()).isTrue();
+            AgencySearchCursor cursor = AgencySearchCursor.decode(result.nextCursor());
+            assertThat(cursor.score()).isEqualTo(0.7f);
+            assertThat(cursor.id()).isEqualTo(second.getId());
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 (score, id) 이후부터 조회")
+        void searchAgencies_ShouldSearchAfterCursor() {
+            // Given
+            UUID lastId = UUID.randomUUID();
+            String cursor = new AgencySearchCursor(0.7f, lastId).encode();
+            given(agencyRepository.searchActiveAgenciesAfter("방구", "%방구%", 0.7f, lastId, 21)).willReturn(List.of());
+
+            // When
+            CursorPageResponse<AgencySearchResponse> result = agencyUseCase.searchAgencies("방구", cursor, 20);
+
+            // Then
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("검색어가 2자 미만이거나 100자 초과면 INVALID_SEARCH_QUERY")
+        void searchAgencies_ShouldFail_WhenQueryLengthInvalid() {
+            // When & Then
+            assertThatThrownBy(() -> agencyUseCase.searchAgencies(" 방 ", null, 20))
+                    .isInstanceOf(Bang9Exception.class)
+                    .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", INVALID_SEARCH_QUERY.getCode());
+            assertThatThrownBy(() -> agencyUseCase.searchAgencies("가".repeat(101), null, 20))
+                    .isInstanceOf(Bang9Exception.class)
+                    .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", INVALID_SEARCH_QUERY.getCode());
+
+            verify(agencyRepository, never()).searchActiveAgencies(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("잘못된 커서면 INVALID_SEARCH_CURSOR")
+        void searchAgencies_ShouldFail_WhenCursorInvalid() {
+            // When & Then
+            assertThatThrownBy(() -> agencyUseCase.searchAgencies("방구", "not-a-cursor", 20))
+                    .isInstanceOf(Bang9Exception.class)
+                    .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", INVALID_SEARCH_CURSOR.getCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("지도 영역 클러스터 조회 테스트")
+    class FindClustersTest {
+
+        private final BoundingBox viewport = new BoundingBox(37.4, 126.8, 37.7, 127.2);
+
+        @Test
+        @DisplayName("줌 레벨에 따라 타일당 4x4 격자 크기로 클러스터 조회")
+        void findClusters_ShouldUseCellSizeForZoom() {
+            // Given: zoom 10 -> 360 / (1024 * 4) 도
+            UUID agencyId = UUID.randomUUID();
+            given(agencyRepository.findActiveAgencyClusters(37.4, 126.8, 37.7, 127.2, 360.0 / 4096, 1000))
+                    .willReturn(List.of(clusterView(1L, agencyId)));
+
+            // When
+            List<AgencyClusterResponse> result = agencyUseCase.findClusters(viewport, 10);
+
+            // Then
+            assertThat(result).containsExactly(new AgencyClusterResponse(37.5, 127.0, 1, agencyId));
+        }
+
+        @Test
+        @DisplayName("영역의 격자 셀 수가 최대치를 넘으면 셀을 넓혀 클러스터가 잘리지 않게 조회")
+        void findClusters_ShouldWidenCells_WhenViewportTooLarge() {
+            // Given: 대한민국 전체(약 5.5 x 4.5도)를 zoom 10으로 요청 -> 원래 셀(360/4096도)이면 약 3400개 셀
+            BoundingBox korea = new BoundingBox(33.1, 125.0, 38.6, 129.5);
+            given(agencyRepository.findActiveAgencyClusters(33.1, 125.0, 38.6, 129.5, 360.0 / 2048, 1000))
+                    .willReturn(List.of());
+
+            // When
+            List<AgencyClusterResponse> result = agencyUseCase.findClusters(korea, 10);
+
+            // Then: 셀을 2배로 넓혀(약 900개 셀) 조회
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("줌 레벨이 범위를 벗어나면 INVALID_VIEWPORT")
+        void findClusters_ShouldFail_WhenZoomInvalid() {
+            // When & Then
+            assertThatThrownBy(() -> agencyUseCase.findClusters(viewport, 21))
+                    .isInstanceOf(Bang9Exception.class)
+                    .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", INVALID_VIEWPORT.getCode());
+        }
+
+        @Test
+        @DisplayName("최소값이 최대값보다 큰 영역은 생성할 수 없음")
+        void boundingBox_ShouldRejectInvertedViewport() {
+            // When & Then
+            assertThatThrownBy(() -> new BoundingBox(37.7, 126.8, 37.4, 127.2))
+                    .isInstanceOf(Bang9Exception.class);
+            assertThatThrownBy(() -> new BoundingBox(37.4, 170.0, 37.7, -170.0))
+                    .isInstanceOf(Bang9Exception.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("지도 타일 클러스터 조회 테스트")
+    class GetClusterTileTest {
+
+        private final TileCoordinate tile = new TileCoordinate(12, 3493, 1587);
+
+        @Test
+        @DisplayName("타일 영역의 클러스터를 직렬화하고 ETag를 계산")
+        void getClusterTile_ShouldSerializeClusters() {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            given(agencyRepository.findActiveAgencyClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                    .willReturn(List.of(clusterView(1L, agencyId)));
+
+            // When
+            AgencyTile result = agencyUseCase.getClusterTile(tile);
+
+            // Then
+            assertThat(new String(result.body(), StandardCharsets.UTF_8))
+                    .startsWith("{\"isSuccess\":true")
+                    .contains(agencyId.toString());
+            assertThat(result.etag()).matches("\"[0-9a-f]{32}\"");
+        }
+
+        @Test
+        @DisplayName("같은 타일의 반복 조회는 캐시에서 응답")
+        void getClusterTile_ShouldHitCache_OnRepeatedCalls() {
+            // Given
+            given(agencyRepository.findActiveAgencyClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                    .willReturn(List.of(clusterView(3L, null)));
+
+            // When
+            AgencyTile first = agencyUseCase.getClusterTile(tile);
+            AgencyTile second = agencyUseCase.getClusterTile(tile);
+
+            // Then
+            assertThat(second).isSameAs(first);
+            verify(agencyRepository, times(1))
+                    .findActiveAgencyClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+        }
+
+        @Test
+        @DisplayName("무효화된 타일은 다시 조회")
+        void getClusterTile_ShouldReload_AfterInvalidation() {
+            // Given
+            given(agencyRepository.findActiveAgencyClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                    .willReturn(List.of(clusterView(3L, null)))
+                    .willReturn(List.of(clusterView(4L, null)));
+            AgencyTile before = agencyUseCase.getClusterTile(tile);
+
+            // When
+            agencyTileCache.invalidateAll(List.of(tile));
+            AgencyTile after = agencyUseCase.getClusterTile(tile);
+
+            // Then
+            assertThat(after.etag()).isNotEqualTo(before.etag());
+        }
+    }
+
+    @Nested
+    @DisplayName("벡터 타일 조회 테스트")
+    class GetVectorTileTest {
+
+        private final TileCoordinate tile = new TileCoordinate(12, 3493, 1587);
+        private final byte[] mvt = {0x1a, 0x08, 0x61, 0x67, 0x65, 0x6e, 0x63, 0x69, 0x65, 0x73};
+
+        @Test
+        @DisplayName("PostGIS가 인코딩한 바이트를 그대로 반환하고 캐싱")
+        void getVectorTile_ShouldReturnAndCacheEncodedTile() {
+            // Given
+            given(agencyVectorTileRepository.findActiveAgencyTile(12, 3493, 1587)).willReturn(mvt);
+
+            // When
+            AgencyTile first = agencyUseCase.getVectorTile(tile);
+            AgencyTile second = agencyUseCase.getVectorTile(tile);
+
+            // Then
+            assertThat(first.body()).isEqualTo(mvt);
+            assertThat(second).isSameAs(first);
+            verify(agencyVectorTileRepository, times(1)).findActiveAgencyTile(12, 3493, 1587);
+        }
+
+        @Test
+        @DisplayName("타일 무효화 시 JSON/MVT 형식 모두 제거")
+        void invalidateAll_ShouldEvictAllFormats() {
+            // Given
+            given(agencyVectorTileRepository.findActiveAgencyTile(12, 3493, 1587)).willReturn(mvt);
+            given(agencyRepository.findActiveAgencyClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                    .willReturn(List.of());
+            agencyUseCase.getVectorTile(tile);
+            agencyUseCase.getClusterTile(tile);
+
+            // When
+            agencyTileCache.invalidateAll(List.of(tile));
+            agencyUseCase.getVectorTile(tile);
+            agencyUseCase.getClusterTile(tile);
+
+            // Then
+            verify(agencyVectorTileRepository, times(2)).findActiveAgencyTile(12, 3493, 1587);
+            verify(agencyRepository, times(2))
+                    .findActiveAgencyClusters(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("기관 생성 테스트")
+    class CreateAgencyTest {
+
+        @Test
+        @DisplayName("기관 정보와 위치를 저장")
+        void createAgency_Success() {
+            // Given
+            AgencyCreateRequest request = new AgencyCreateRequest(
+                    "강남 기관", "agency@example.com", "서울시 강남구", "02-1234-5678", 37.4979, 127.0276);
+            given(agencyRepository.save(any(AgencyEntity.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            AgencyResponse result = agencyUseCase.createAgency(request);
+
+            // Then
+            assertThat(result.name()).isEqualTo("강남 기관");
+            assertThat(result.email()).isEqualTo("agency@example.com");
+            assertThat(result.latitude()).isEqualTo(37.4979);
+            assertThat(result.longitude()).isEqualTo(127.0276);
+        }
+
+        @Test
+        @DisplayName("위도/경도 중 하나만 지정하면 INVALID_COORDINATES")
+        void createAgency_PartialCoordinates_ThrowsException() {
+            // Given
+            AgencyCreateRequest request = new AgencyCreateRequest(
+                    "강남 기관", "agency@example.com", "서울시 강남구", "02-1234-5678", 37.4979, null);
+
+            // When & Then
+            assertThatThrownBy(() -> agencyUseCase.createAgency(request))
+                    .isInstanceOf(Bang9Exception.class)
+                    .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", INVALID_COORDINATES.getCode());
+            verify(agencyRepository, never()).save(any(AgencyEntity.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("기관 조회/수정/삭제 테스트")
+    class ManageAgencyTest {
+
+        @Test
+        @DisplayName("존재하지 않거나 삭제된 기관 조회 시 AGENCY_NOT_FOUND")
+        void getAgency_NotFound_ThrowsException() {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            given(agencyRepository.findByIdAndStatusTrue(agencyId)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> agencyUseCase.getAgency(agencyId))
+                    .isInstanceOf(Bang9Exception.class)
+                    .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", AGENCY_NOT_FOUND.getCode());
+        }
+
+        @Test
+        @DisplayName("null 이 아닌 필드만 수정하고, 기관명이 바뀌면 해당 기관 멤버의 사용자 응답 캐시만 제거")
+        void updateAgency_PartialUpdate() {
+            // Given
+            AgencyEntity agency = agency();
+            given(agencyRepository.findByIdAndStatusTrue(agency.getId())).willReturn(Optional.of(agency));
+            UUID memberId = UUID.randomUUID();
+            UUID otherUserId = UUID.randomUUID();
+            given(agencyRepository.findMemberIds(agency.getId())).willReturn(List.of(memberId));
+            userResponseCache.get(memberId, id -> Optional.of(new UserResponse(
+                    id, "member@example.com", "member", null, null, Set.of("강남 기관"))));
+            userResponseCache.get(otherUserId, id -> Optional.of(new UserResponse(
+                    id, "other@example.com", "other", null, null, Set.of())));
+
+            // When
+            AgencyResponse result = agencyUseCase.updateAgency(agency.getId(),
+                    new AgencyUpdateRequest("서초 기관", null, null, null, 37.4837, 127.0324));
+
+            // Then
+            assertThat(result.name()).isEqualTo("서초 기관");
+            assertThat(result.email()).isEqualTo("agency@example.com");
+            assertThat(result.latitude()).isEqualTo(37.4837);
+            assertThat(result.longitude()).isEqualTo(127.0324);
+            assertThat(userResponseCache.get(memberId, id -> Optional.empty())).isEmpty();
+            assertThat(userResponseCache.get(otherUserId, id -> Optional.empty())).isPresent();
+        }
+
+        @Test
+        @DisplayName("기관 삭제 시 소프트 삭제하고 해당 기관 멤버의 사용자 응답 캐시 제거")
+        void softDeleteAgency_Success() {
+            // Given
+            AgencyEntity agency = agency();
+            given(agencyRepository.findByIdAndStatusTrue(agency.getId())).willReturn(Optional.of(agency));
+            UUID memberId = UUID.randomUUID();
+            given(agencyRepository.findMemberIds(agency.getId())).willReturn(List.of(memberId));
+            userResponseCache.get(memberId, id -> Optional.of(new UserResponse(
+                    id, "member@example.com", "member", null, null, Set.of("강남 기관"))));
+
+            // When
+            agencyUseCase.softDeleteAgency(agency.getId());
+
+            // Then
+            assertThat(agency.getStatus()).isFalse();
+            assertThat(userResponseCache.get(memberId, id -> Optional.empty())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("기관 멤버 일괄 추가/제거 테스트")
+    class ManageMembersTest {
+
+        @Test
+        @DisplayName("중복을 제거한 사용자 ID로 INSERT 1회 실행")
+        void addMembers_Success() {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            given(agencyRepository.existsByIdAndStatusTrue(agencyId)).willReturn(true);
+            given(agencyRepository.insertActiveMembers(agencyId, Set.of(first, second))).willReturn(1);
+
+            // When
+            AgencyMembersResponse result = agencyUseCase.addMembers(agencyId,
+                    new AgencyMembersRequest(List.of(first, second, first)));
+
+            // Then
+            assertThat(result.agencyId()).isEqualTo(agencyId);
+            assertThat(result.requested()).isEqualTo(2);
+            assertThat(result.affected()).isEqualTo(1);
+            verify(agencyRepository, times(1)).insertActiveMembers(agencyId, Set.of(first, second));
+        }
+
+        @Test
+        @DisplayName("멤버 추가 시 사용자 응답 캐시 제거")
+        void addMembers_InvalidatesUserResponses() {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            UUID userId = UUID.randomUUID();
+            given(agencyRepository.existsByIdAndStatusTrue(agencyId)).willReturn(true);
+            given(agencyRepository.insertActiveMembers(agencyId, Set.of(userId))).willReturn(1);
+            userResponseCache.get(userId, id -> Optional.of(new UserResponse(
+                    id, "member@example.com", "member", null, null, Set.of())));
+
+            // When
+            agencyUseCase.addMembers(agencyId, new AgencyMembersRequest(List.of(userId)));
+
+            // Then
+            assertThat(userResponseCache.get(userId, id -> Optional.empty())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 기관이면 AGENCY_NOT_FOUND, INSERT 실행 안 함")
+        void addMembers_AgencyNotFound_ThrowsException() {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            given(agencyRepository.existsByIdAndStatusTrue(agencyId)).willReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> agencyUseCase.addMembers(agencyId,
+                    new AgencyMembersRequest(List.of(UUID.randomUUID()))))
+                    .isInstanceOf(Bang9Exception.class)
+                    .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", AGENCY_NOT_FOUND.getCode());
+            verify(agencyRepository, never()).insertActiveMembers(any(), any());
+        }
+
+        @Test
+        @DisplayName("DELETE 1회로 멤버 제거")
+        void removeMembers_Success() {
+            // Given
+            UUID agencyId = UUID.randomUUID();
+            UUID userId = UUID.randomUUID();
+            given(agencyRepository.existsByIdAndStatusTrue(agencyId)).willReturn(true);
+            given(agencyRepository.deleteMembers(agencyId, Set.of(userId))).willReturn(1);
+
+            // When
+            AgencyMembersResponse result = agencyUseCase.removeMembers(agencyId,
+                    new AgencyMembersRequest(List.of(userId)));
+
+            // Then
+            assertThat(result.requested()).isEqualTo(1);
+            assertThat(result.affected()).isEqualTo(1);
+        }
+    }
+
+    private static AgencyEntity agency() {
+        AgencyEntity agency = new AgencyEntity();
+        agency.setId(UUID.randomUUID());
+        agency.setName("강남 기관");
+        agency.setEmail("agency@example.com");
+        agency.setAddress("서울시 강남구");
+        agency.setContact("02-1234-5678");
+        agency.setLatitude(37.4979);
+        agency.setLongitude(127.0276);
+        return agency;
+    }
+
+    private static AgencyClusterView clusterView(Long count, UUID agencyId) {
+        return new AgencyClusterView() {
+            @Override
+            public Long getCount() {
+                return count;
+            }
+
+            @Override
+            public Double getLatitude() {
+                return 37.5;
+            }
+
+            @Override
+            public Double getLongitude() {
+                return 127.0;
+            }
+
+            @Override
+            public UUID getAgencyId() {
+                return agencyId;
+            }
+        };
+    }
+
+    private static AgencyDistanceView distanceView(String name, double latitude, double longitude, double distanceMeters) {
+        UUID id = UUID.randomUUID();
+        return new AgencyDistanceView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getAddress() {
+                return "서울시 강남구";
+            }
+
+            @Override
+            public Double getLatitude() {
+                return latitude;
+            }
+
+            @Override
+            public Double getLongitude() {
+                return longitude;
+            }
+
+            @Override
+            public Double getDistanceMeters() {
+                return distanceMeters;
+            }
+        };
+    }
+
+    private static AgencySearchView searchView(String name, float score) {
+        UUID id = UUID.randomUUID();
+        return new AgencySearchView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getAddress() {
+                return "서울시 강남구";
+            }
+
+            @Override
+            public Float getScore() {
+                return score;
+            }
+        };
+    }
+}
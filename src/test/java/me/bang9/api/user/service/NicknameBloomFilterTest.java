@@ -0,0 +1,83 @@
+package me.bang9.api.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NicknameBloomFilter 테스트")
+class NicknameBloomFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NicknameBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new NicknameBloomFilter(meterRegistry, EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 추가 여부와 무관하게 항상 true (DB 로 확인)")
+    void mightContain_ShouldReturnTrue_BeforeReady() {
+        // When & Then
+        assertThat(filter.mightContain("absent")).isTrue();
+        assertThat(meterRegistry.get("bang9.nickname.filter.checks").tag("result", "not_ready").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추가한 닉네임은 항상 true (false negative 없음)")
+    void mightContain_ShouldNeverMissAddedNicknames() {
+        // Given
+        IntStream.range(0, EXPECTED_INSERTIONS).forEach(i -> filter.put("user" + i));
+        filter.markReady();
+
+        // When & Then
+        assertThat(IntStream.range(0, EXPECTED_INSERTIONS).allMatch(i -> filter.mightContain("user" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("예상 개수만큼 추가했을 때 오탐률은 목표치 근처")
+    void mightContain_ShouldKeepFalsePositiveRateNearTarget() {
+        // Given
+        IntStream.range(0, EXPECTED_INSERTIONS).forEach(i -> filter.put("user" + i));
+        filter.markReady();
+
+        // When
+        long falsePositives = IntStream.range(0, EXPECTED_INSERTIONS)
+                .filter(i -> filter.mightContain("other" + i))
+                .count();
+
+        // Then
+        double rate = (double) falsePositives / EXPECTED_INSERTIONS;
+        assertThat(rate).isLessThan(FALSE_POSITIVE_RATE * 1.5);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(FALSE_POSITIVE_RATE * 0.5, FALSE_POSITIVE_RATE * 1.5);
+    }
+
+    @Test
+    @DisplayName("메모리 사용량과 DB 확인 결과 기준 오탐률을 메트릭으로 노출")
+    void metrics_ShouldExposeMemoryAndObservedFalsePositiveRate() {
+        // Given
+        filter.put("alpha");
+        filter.markReady();
+        filter.mightContain("bravo");
+        filter.recordPositive(false);
+        filter.recordPositive(true);
+
+        // When & Then: m = -n ln p / (ln 2)^2 ≈ 958,506 비트 ≈ 120KB
+        assertThat(meterRegistry.get("bang9.nickname.filter.memory").gauge().value())
+                .isBetween(115_000.0, 125_000.0);
+        assertThat(meterRegistry.get("bang9.nickname.filter.checks").tag("result", "false_positive").counter().count())
+                .isEqualTo(1);
+        // 사용 가능한 닉네임 2건(negative 1 + false positive 1) 중 1건 오탐
+        assertThat(meterRegistry.get("bang9.nickname.filter.observed.fpp").gauge().value()).isEqualTo(0.5);
+    }
+}
@@ -1,13 +1,21 @@
 package me.bang9.api.user.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import me.bang9.api.global.api.exception.Bang9Exception;
+import me.bang9.api.global.security.PasswordHasher;
+import me.bang9.api.user.dto.req.NicknameCursor;
 import me.bang9.api.user.dto.req.UserCreateRequest;
+import me.bang9.api.user.dto.req.UserCursor;
 import me.bang9.api.user.dto.req.UserUpdateRequest;
+import me.bang9.api.user.dto.res.NicknameAvailabilityResponse;
 import me.bang9.api.user.dto.res.UserResponse;
 import me.bang9.api.user.entity.UserEntity;
 import me.bang9.api.user.model.Provider;
 import me.bang9.api.user.model.UserRole;
 import me.bang9.api.user.repository.UserJpaRepository;
+import me.bang9.api.user.repository.projection.UpdatedUserView;
+import me.bang9.api.user.repository.projection.UserAgencyNameView;
+import me.bang9.api.user.repository.projection.UserSummaryView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,17 +23,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._TOO_MANY_REQUESTS;
 import static me.bang9.api.global.api.code.status.UserErrorStatus.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserAuthUseCase 서비스 테스트")
@@ -35,7 +54,11 @@ class UserAuthUseCaseTest {
     private UserJpaRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    private UserResponseCache userResponseCache;
+
+    private NicknameBloomFilter nicknameFilter;
 
     private UserAuthUseCase userAuthUseCase;
 
@@ -43,33 +66,24 @@ class UserAuthUseCaseTest {
     private UserCreateRequest createRequest;
     private UserUpdateRequest updateRequest;
 
-    // Helper method to create a deleted user for testing
-    private UserEntity createDeletedUser() {
-        UserEntity deletedUser = new UserEntity();
-        deletedUser.setId(UUID.randomUUID());
-        deletedUser.setEmail("deleted@example.com");
-        deletedUser.setPassword("password");
-        deletedUser.setNickname("deleteduser");
-        deletedUser.setRole(UserRole.USER);
-        deletedUser.setProvider(Provider.EMAIL);
-        return deletedUser;
-    }
-    
-    // Helper method to simulate deleted state using reflection
-    private void markAsDeleted(UserEntity entity) {
-        try {
-            var statusField = entity.getClass().getSuperclass().getDeclaredField("status");
-            statusField.setAccessible(true);
-            statusField.set(entity, Boolean.FALSE);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to mark entity as deleted", e);
-        }
+    // Helper method to create the state of testUser after a nickname update
+    private UserEntity createUpdatedUser() {
+        UserEntity updatedUser = new UserEntity();
+        updatedUser.setId(testUser.getId());
+        updatedUser.setEmail(testUser.getEmail());
+        updatedUser.setPassword(testUser.getPassword());
+        updatedUser.setNickname(updateRequest.nickname());
+        updatedUser.setRole(UserRole.USER);
+        updatedUser.setProvider(Provider.EMAIL);
+        return updatedUser;
     }
 
     @BeforeEach
     void setUp() {
         // Inject the actual service implementation with mocked dependencies
-        userAuthUseCase = new UserAuthService(userRepository, passwordEncoder);
+        userResponseCache = new UserResponseCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+        nicknameFilter = new NicknameBloomFilter(new SimpleMeterRegistry(), 1_000, 0.01);
+        userAuthUseCase = new UserAuthService(userRepository, passwordHasher, userResponseCache, nicknameFilter);
 
         // Test data setup
         testUser = new UserEntity();
@@ -98,8 +112,7 @@ class UserAuthUseCaseTest {
         @DisplayName("새 사용자 생성 성공")
         void createUser_Success() {
             // Given
-            given(userRepository.existsByEmail(createRequest.email())).willReturn(false);
-            given(passwordEncoder.encode(createRequest.password())).willReturn("encodedPassword");
+            given(passwordHasher.hash(createRequest.password())).willReturn("encodedPassword");
             given(userRepository.save(any(UserEntity.class))).willReturn(testUser);
 
             // When
@@ -112,55 +125,198 @@ class UserAuthUseCaseTest {
         }
 
         @Test
-        @DisplayName("이메일 중복으로 인한 사용자 생성 실패")
-        void createUser_ShouldFail_WhenEmailAlreadyExists() {
+        @DisplayName("해싱 스레드 풀 포화 시 사용자 생성 실패 (저장하지 않음)")
+        void createUser_ShouldFail_WhenHashingPoolSaturated() {
             // Given
-            given(userRepository.existsByEmail(createRequest.email())).willReturn(true);
+            given(passwordHasher.hash(createRequest.password())).willThrow(new Bang9Exception(_TOO_MANY_REQUESTS));
 
             // When & Then
             assertThatThrownBy(() -> userAuthUseCase.createUser(createRequest))
                     .isInstanceOf(Bang9Exception.class);
+            verify(userRepository, never()).save(any(UserEntity.class));
+        }
+
+        @Test
+        @DisplayName("이메일 중복으로 인한 사용자 생성 실패")
+        void createUser_ShouldFail_WhenEmailAlreadyExists() {
+            // Given: 중복 여부는 사전 조회 없이 unique 제약 조건으로 감지
+            given(passwordHasher.hash(createRequest.password())).willReturn("encodedPassword");
+            given(userRepository.save(any(UserEntity.class)))
+                    .willThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint \"uc_user_email\""));
+
+            // When & Then
+            assertThatThrownBy(() -> userAuthUseCase.createUser(createRequest))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            verify(userRepository, never()).existsByEmail(any());
         }
     }
 
     @Nested
-    @DisplayName("모든 사용자 조회 테스트")
-    class GetAllUsersTest {
+    @DisplayName("사용자 목록 조회 테스트")
+    class GetUsersTest {
+
+        private UserEntity createUser(String nickname) {
+            UserEntity user = new UserEntity();
+            user.setId(UUID.randomUUID());
+            user.setEmail(nickname + "@example.com");
+            user.setPassword("password");
+            user.setNickname(nickname);
+            user.setRole(UserRole.USER);
+            user.setProvider(Provider.EMAIL);
+            return user;
+        }
 
         @Test
-        @DisplayName("모든 사용자 조회 성공")
-        void getAllUsers_Success() {
+        @DisplayName("첫 페이지 조회 성공 - 다음 페이지 없음")
+        void getUsers_Success() {
             // Given
-            UserEntity user2 = new UserEntity();
-            user2.setId(UUID.randomUUID());
-            user2.setEmail("user2@example.com");
-            user2.setPassword("password");
-            user2.setNickname("user2");
-            user2.setRole(UserRole.USER);
-            user2.setProvider(Provider.EMAIL);
+            UserEntity user2 = createUser("user2");
+            given(userRepository.findActiveUsers(any(Pageable.class))).willReturn(Arrays.asList(testUser, user2));
 
-            given(userRepository.findAll()).willReturn(Arrays.asList(testUser, user2));
+            // When
+            var result = userAuthUseCase.getUsers(null, 20);
+
+            // Then
+            assertThat(result.content()).hasSize(2);
+            assertThat(result.content().get(0).email()).isEqualTo(testUser.getEmail());
+            assertThat(result.content().get(1).email()).isEqualTo(user2.getEmail());
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("소속 기관명을 일괄 조회 결과로 매핑")
+        void getUsers_ShouldMapAgencyNamesFromBatchQuery() {
+            // Given
+            UserAgencyNameView membership = new UserAgencyNameView() {
+                @Override
+                public UUID getUserId() {
+                    return testUser.getId();
+                }
+
+                @Override
+                public String getAgencyName() {
+                    return "테스트 기관";
+                }
+            };
+            given(userRepository.findActiveUsers(any(Pageable.class))).willReturn(Collections.singletonList(testUser));
+            given(userRepository.findAgencyNamesByUserIds(List.of(testUser.getId()))).willReturn(List.of(membership));
 
             // When
-            var result = userAuthUseCase.getAllUsers();
+            var result = userAuthUseCase.getUsers(null, 20);
 
             // Then
-            assertThat(result).hasSize(2);
-            assertThat(result.get(0).email()).isEqualTo(testUser.getEmail());
-            assertThat(result.get(1).email()).isEqualTo(user2.getEmail());
+            assertThat(result.content().get(0).agency()).containsExactly("테스트 기관");
         }
 
         @Test
-        @DisplayName("사용자가 없는 경우 빈 리스트 반환")
-        void getAllUsers_ShouldReturnEmptyList_WhenNoUsers() {
+        @DisplayName("페이지 크기보다 많은 결과가 있으면 다음 커서 반환")
+        void getUsers_ShouldReturnNextCursor_WhenMoreUsersExist() {
             // Given
-            given(userRepository.findAll()).willReturn(Collections.emptyList());
+            UserEntity user2 = createUser("user2");
+            UserEntity user3 = createUser("user3");
+            given(userRepository.findActiveUsers(any(Pageable.class))).willReturn(Arrays.asList(testUser, user2, user3));
 
             // When
-            var result = userAuthUseCase.getAllUsers();
+            var result = userAuthUseCase.getUsers(null, 2);
 
             // Then
-            assertThat(result).isEmpty();
+            assertThat(result.content()).hasSize(2);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(UserCursor.decode(result.nextCursor()))
+                    .isEqualTo(new UserCursor(user2.getCreatedAt(), user2.getId()));
+        }
+
+        @Test
+        @DisplayName("커서 이후 페이지 조회")
+        void getUsers_ShouldQueryAfterCursor_WhenCursorGiven() {
+            // Given
+            UserCursor cursor = UserCursor.from(testUser);
+            UserEntity user2 = createUser("user2");
+            given(userRepository.findActiveUsersAfter(eq(cursor.createdAt()), eq(cursor.id()), any(Pageable.class)))
+                    .willReturn(Collections.singletonList(user2));
+
+            // When
+            var result = userAuthUseCase.getUsers(cursor.encode(), 20);
+
+            // Then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.content().get(0).email()).isEqualTo(user2.getEmail());
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("사용자가 없는 경우 빈 페이지 반환")
+        void getUsers_ShouldReturnEmptyPage_WhenNoUsers() {
+            // Given
+            given(userRepository.findActiveUsers(any(Pageable.class))).willReturn(Collections.emptyList());
+
+            // When
+            var result = userAuthUseCase.getUsers(null, 20);
+
+            // Then
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서로 조회 실패")
+        void getUsers_ShouldFail_WhenCursorIsInvalid() {
+            // When & Then
+            assertThatThrownBy(() -> userAuthUseCase.getUsers("not-a-cursor", 20))
+                    .isInstanceOf(Bang9Exception.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("같은 기관 멤버 목록 조회 테스트")
+    class GetCoMembersTest {
+
+        @Test
+        @DisplayName("첫 페이지 조회 - 페이지 크기보다 1건 더 조회하여 다음 페이지 커서 생성")
+        void getCoMembers_ShouldReturnFirstPageWithNextCursor() {
+            // Given
+            given(userRepository.existsByIdAndStatusTrue(testUser.getId())).willReturn(true);
+            given(userRepository.findCoMembers(testUser.getId(), 3)).willReturn(List.of(
+                    summaryView("alpha"), summaryView("bravo"), summaryView("charlie")));
+
+            // When
+            var result = userAuthUseCase.getCoMembers(testUser.getId(), null, 2);
+
+            // Then
+            assertThat(result.content()).extracting("nickname").containsExactly("alpha", "bravo");
+            assertThat(result.hasNext()).isTrue();
+            assertThat(NicknameCursor.decode(result.nextCursor()).nickname()).isEqualTo("bravo");
+        }
+
+        @Test
+        @DisplayName("커서 이후 페이지 조회")
+        void getCoMembers_ShouldReturnPageAfterCursor() {
+            // Given
+            given(userRepository.existsByIdAndStatusTrue(testUser.getId())).willReturn(true);
+            given(userRepository.findCoMembersAfter(testUser.getId(), "bravo", 3))
+                    .willReturn(List.of(summaryView("charlie")));
+
+            // When
+            var result = userAuthUseCase.getCoMembers(testUser.getId(), new NicknameCursor("bravo").encode(), 2);
+
+            // Then
+            assertThat(result.content()).extracting("nickname").containsExactly("charlie");
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 사용자이면 USER_NOT_FOUND")
+        void getCoMembers_ShouldFail_WhenUserNotFound() {
+            // Given
+            given(userRepository.existsByIdAndStatusTrue(testUser.getId())).willReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> userAuthUseCase.getCoMembers(testUser.getId(), null, 20))
+                    .isInstanceOf(Bang9Exception.class)
+                    .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", USER_NOT_FOUND.getCode());
+            verify(userRepository, never()).findCoMembers(any(), eq(21));
         }
     }
 
@@ -173,7 +329,7 @@ class UserAuthUseCaseTest {
         void getUserById_Success() {
             // Given
             UUID userId = testUser.getId();
-            given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
+            given(userRepository.findByIdAndStatusTrue(userId)).willReturn(Optional.of(testUser));
 
             // When
             UserResponse result = userAuthUseCase.getUserById(userId);
@@ -189,7 +345,7 @@ class UserAuthUseCaseTest {
         void getUserById_ShouldFail_WhenUserNotFound() {
             // Given
             UUID userId = UUID.randomUUID();
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
+            given(userRepository.findByIdAndStatusTrue(userId)).willReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> userAuthUseCase.getUserById(userId))
@@ -199,13 +355,80 @@ class UserAuthUseCaseTest {
         @Test
         @DisplayName("삭제된 사용자 조회 실패")
         void getUserById_ShouldFail_WhenUserIsDeleted() {
+            // Given: 삭제된 사용자는 활성 사용자 조회 결과에 포함되지 않음
+            UUID userId = testUser.getId();
+            given(userRepository.findByIdAndStatusTrue(userId)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> userAuthUseCase.getUserById(userId))
+                    .isInstanceOf(Bang9Exception.class);
+        }
+
+        @Test
+        @DisplayName("반복 조회 시 캐시에서 응답")
+        void getUserById_ShouldHitCache_OnRepeatedCalls() {
             // Given
             UUID userId = testUser.getId();
-            UserEntity deletedUser = createDeletedUser();
-            markAsDeleted(deletedUser); // Actually mark as deleted
-            given(userRepository.findById(userId)).willReturn(Optional.of(deletedUser));
+            given(userRepository.findByIdAndStatusTrue(userId)).willReturn(Optional.of(testUser));
+
+            // When
+            userAuthUseCase.getUserById(userId);
+            UserResponse result = userAuthUseCase.getUserById(userId);
+
+            // Then
+            assertThat(result.email()).isEqualTo(testUser.getEmail());
+            verify(userRepository, times(1)).findByIdAndStatusTrue(userId);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 사용자도 캐싱 (negative caching)")
+        void getUserById_ShouldCacheNotFound() {
+            // Given
+            UUID userId = UUID.randomUUID();
+            given(userRepository.findByIdAndStatusTrue(userId)).willReturn(Optional.empty());
 
             // When & Then
+            assertThatThrownBy(() -> userAuthUseCase.getUserById(userId)).isInstanceOf(Bang9Exception.class);
+            assertThatThrownBy(() -> userAuthUseCase.getUserById(userId)).isInstanceOf(Bang9Exception.class);
+            verify(userRepository, times(1)).findByIdAndStatusTrue(userId);
+        }
+
+        @Test
+        @DisplayName("수정 후 조회 시 캐시가 제거되어 다시 조회")
+        void getUserById_ShouldReload_AfterUpdate() {
+            // Given
+            UUID userId = testUser.getId();
+            given(userRepository.findByIdAndStatusTrue(userId))
+                    .willReturn(Optional.of(testUser))
+                    .willReturn(Optional.of(createUpdatedUser()));
+            given(userRepository.updateNicknameIfActive(eq(userId), eq(updateRequest.nickname()), any(LocalDateTime.class)))
+                    .willReturn(List.of(updatedView(null)));
+            userAuthUseCase.getUserById(userId);
+
+            // When
+            userAuthUseCase.updateUser(userId, updateRequest);
+            UserResponse result = userAuthUseCase.getUserById(userId);
+
+            // Then
+            assertThat(result.nickname()).isEqualTo(updateRequest.nickname());
+            verify(userRepository, times(2)).findByIdAndStatusTrue(userId);
+        }
+
+        @Test
+        @DisplayName("삭제 후 조회 시 캐시가 제거되어 조회 실패")
+        void getUserById_ShouldFail_AfterSoftDelete() {
+            // Given
+            UUID userId = testUser.getId();
+            given(userRepository.findByIdAndStatusTrue(userId))
+                    .willReturn(Optional.of(testUser))
+                    .willReturn(Optional.empty());
+            given(userRepository.softDeleteIfActive(eq(userId), any(LocalDateTime.class))).willReturn(1);
+            userAuthUseCase.getUserById(userId);
+
+            // When
+            userAuthUseCase.softDeleteUser(userId);
+
+            // Then
             assertThatThrownBy(() -> userAuthUseCase.getUserById(userId))
                     .isInstanceOf(Bang9Exception.class);
         }
@@ -216,27 +439,33 @@ class UserAuthUseCaseTest {
     class UpdateUserTest {
 
         @Test
-        @DisplayName("사용자 닉네임 수정 성공")
+        @DisplayName("사용자 닉네임 수정 성공 - 수정 결과로 응답을 만들어 추가 조회 없음")
         void updateUser_Success() {
-            // Given
+            // Given: 소속 기관 2곳
             UUID userId = testUser.getId();
-            given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userRepository.save(any(UserEntity.class))).willReturn(testUser);
+            given(userRepository.updateNicknameIfActive(eq(userId), eq(updateRequest.nickname()), any(LocalDateTime.class)))
+                    .willReturn(List.of(updatedView("가 기관"), updatedView("나 기관")));
 
             // When
             UserResponse result = userAuthUseCase.updateUser(userId, updateRequest);
 
             // Then
-            assertThat(result).isNotNull();
+            assertThat(result.id()).isEqualTo(userId);
             assertThat(result.nickname()).isEqualTo(updateRequest.nickname());
+            assertThat(result.agency()).containsExactlyInAnyOrder("가 기관", "나 기관");
+            verify(userRepository, never()).findByIdAndStatusTrue(any());
+            verify(userRepository, never()).findAgencyNamesByUserIds(any());
+            verify(userRepository, never()).findById(any());
+            verify(userRepository, never()).save(any(UserEntity.class));
         }
 
         @Test
         @DisplayName("존재하지 않는 사용자 수정 실패")
         void updateUser_ShouldFail_WhenUserNotFound() {
-            // Given
+            // Given: 수정된 행 없음
             UUID userId = UUID.randomUUID();
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
+            given(userRepository.updateNicknameIfActive(eq(userId), eq(updateRequest.nickname()), any(LocalDateTime.class)))
+                    .willReturn(List.of());
 
             // When & Then
             assertThatThrownBy(() -> userAuthUseCase.updateUser(userId, updateRequest))
@@ -246,15 +475,15 @@ class UserAuthUseCaseTest {
         @Test
         @DisplayName("삭제된 사용자 수정 실패")
         void updateUser_ShouldFail_WhenUserIsDeleted() {
-            // Given
+            // Given: status = false 인 사용자는 UPDATE 조건에 걸리지 않음
             UUID userId = testUser.getId();
-            UserEntity deletedUser = createDeletedUser();
-            markAsDeleted(deletedUser); // Actually mark as deleted
-            given(userRepository.findById(userId)).willReturn(Optional.of(deletedUser));
+            given(userRepository.updateNicknameIfActive(eq(userId), eq(updateRequest.nickname()), any(LocalDateTime.class)))
+                    .willReturn(List.of());
 
             // When & Then
             assertThatThrownBy(() -> userAuthUseCase.updateUser(userId, updateRequest))
                     .isInstanceOf(Bang9Exception.class);
+            verify(userRepository, never()).findByIdAndStatusTrue(userId);
         }
     }
 
@@ -267,11 +496,13 @@ class UserAuthUseCaseTest {
         void softDeleteUser_Success() {
             // Given
             UUID userId = testUser.getId();
-            given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
+            given(userRepository.softDeleteIfActive(eq(userId), any(LocalDateTime.class))).willReturn(1);
 
             // When & Then
             assertThatCode(() -> userAuthUseCase.softDeleteUser(userId))
                     .doesNotThrowAnyException();
+            verify(userRepository, never()).findById(any());
+            verify(userRepository, never()).save(any(UserEntity.class));
         }
 
         @Test
@@ -279,7 +510,7 @@ class UserAuthUseCaseTest {
         void softDeleteUser_ShouldFail_WhenUserNotFound() {
             // Given
             UUID userId = UUID.randomUUID();
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
+            given(userRepository.softDeleteIfActive(eq(userId), any(LocalDateTime.class))).willReturn(0);
 
             // When & Then
             assertThatThrownBy(() -> userAuthUseCase.softDeleteUser(userId))
@@ -289,15 +520,190 @@ class UserAuthUseCaseTest {
         @Test
         @DisplayName("이미 삭제된 사용자 삭제 실패")
         void softDeleteUser_ShouldFail_WhenUserAlreadyDeleted() {
-            // Given
+            // Given: status = false 인 사용자는 UPDATE 조건에 걸리지 않음
             UUID userId = testUser.getId();
-            UserEntity deletedUser = createDeletedUser();
-            markAsDeleted(deletedUser); // Actually mark as deleted first
-            given(userRepository.findById(userId)).willReturn(Optional.of(deletedUser));
+            given(userRepository.softDeleteIfActive(eq(userId), any(LocalDateTime.class))).willReturn(0);
 
             // When & Then
             assertThatThrownBy(() -> userAuthUseCase.softDeleteUser(userId))
                     .isInstanceOf(Bang9Exception.class);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("닉네임 사용 가능 여부 조회 테스트")
+    class CheckNicknameAvailabilityTest {
+
+        @Test
+        @DisplayName("시작 시 기존 닉네임을 적재한 후 filter 에 없는 닉네임은 DB 조회 없이 사용 가능")
+        void checkNicknameAvailability_ShouldSkipDatabase_WhenFilterMisses() {
+            // Given
+            given(userRepository.streamAllNicknames()).willReturn(Stream.of("alpha", "bravo"));
+            ((UserAuthService) userAuthUseCase).loadTakenNicknames();
+
+            // When
+            NicknameAvailabilityResponse result = userAuthUseCase.checkNicknameAvailability("charlie");
+
+            // Then
+            assertThat(result.nickname()).isEqualTo("charlie");
+            assertThat(result.available()).isTrue();
+            verify(userRepository, never()).existsByNickname(anyString());
+        }
+
+        @Test
+        @DisplayName("filter 에 있는 닉네임은 DB 로 확인하여 사용 중으로 응답")
+        void checkNicknameAvailability_ShouldConfirmWithDatabase_WhenFilterHits() {
+            // Given
+            given(userRepository.streamAllNicknames()).willReturn(Stream.of("alpha"));
+            given(userRepository.existsByNickname("alpha")).willReturn(true);
+            ((UserAuthService) userAuthUseCase).loadTakenNicknames();
+
+            // When
+            NicknameAvailabilityResponse result = userAuthUseCase.checkNicknameAvailability("alpha");
+
+            // Then
+            assertThat(result.available()).isFalse();
+            verify(userRepository, times(1)).existsByNickname("alpha");
+        }
+
+        @Test
+        @DisplayName("생성/수정된 닉네임은 filter 에 추가되어 DB 로 확인")
+        void checkNicknameAvailability_ShouldIncludeCreatedAndUpdatedNicknames() {
+            // Given
+            given(userRepository.streamAllNicknames()).willReturn(Stream.empty());
+            ((UserAuthService) userAuthUseCase).loadTakenNicknames();
+            given(passwordHasher.hash(createRequest.password())).willReturn("encodedPassword");
+            given(userRepository.save(any(UserEntity.class))).willReturn(testUser);
+            given(userRepository.updateNicknameIfActive(eq(testUser.getId()), eq(updateRequest.nickname()), any(LocalDateTime.class)))
+                    .willReturn(List.of(updatedView(null)));
+            given(userRepository.existsByNickname(anyString())).willReturn(true);
+
+            // When
+            userAuthUseCase.createUser(createRequest);
+            userAuthUseCase.updateUser(testUser.getId(), updateRequest);
+
+            // Then
+            assertThat(userAuthUseCase.checkNicknameAvailability(testUser.getNickname()).available()).isFalse();
+            assertThat(userAuthUseCase.checkNicknameAvailability(updateRequest.nickname()).available()).isFalse();
+            verify(userRepository, times(2)).existsByNickname(anyString());
+        }
+
+        @Test
+        @DisplayName("기존 닉네임 적재 전에는 항상 DB 로 확인")
+        void checkNicknameAvailability_ShouldUseDatabase_BeforeFilterIsLoaded() {
+            // Given
+            given(userRepository.existsByNickname("charlie")).willReturn(false);
+
+            // When
+            NicknameAvailabilityResponse result = userAuthUseCase.checkNicknameAvailability("charlie");
+
+            // Then
+            assertThat(result.available()).isTrue();
+            verify(userRepository, times(1)).existsByNickname("charlie");
+        }
+
+        @Test
+        @DisplayName("닉네임 형식이 올바르지 않으면 INVALID_NICKNAME")
+        void checkNicknameAvailability_ShouldFail_WhenNicknameInvalid() {
+            // When & Then
+            assertThatThrownBy(() -> userAuthUseCase.checkNicknameAvailability("1invalid"))
+                    .isInstanceOf(Bang9Exception.class)
+                    .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", INVALID_NICKNAME.getCode());
+            verify(userRepository, never()).existsByNickname(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("닉네임 자동완성 테스트")
+    class AutocompleteNicknamesTest {
+
+        @Test
+        @DisplayName("접두사를 [prefix, 마지막 글자 + 1) 범위로 변환하여 조회")
+        void autocompleteNicknames_ShouldQueryPrefixRange() {
+            // Given
+            given(userRepository.autocompleteNicknames("ban", "bao", 10))
+                    .willReturn(List.of(summaryView("bang9"), summaryView("banana")));
+
+            // When
+            var result = userAuthUseCase.autocompleteNicknames("ban", 10);
+
+            // Then
+            assertThat(result).extracting("nickname").containsExactly("bang9", "banana");
+        }
+
+        @Test
+        @DisplayName("결과 수는 최대 20으로 제한")
+        void autocompleteNicknames_ShouldClampSize() {
+            // Given
+            given(userRepository.autocompleteNicknames("a", "b", 20)).willReturn(List.of());
+
+            // When
+            var result = userAuthUseCase.autocompleteNicknames("a", 1_000);
+
+            // Then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("닉네임 형식에 맞지 않는 접두사는 INVALID_NICKNAME (조회하지 않음)")
+        void autocompleteNicknames_ShouldFail_WhenPrefixInvalid() {
+            // When & Then
+            assertThatThrownBy(() -> userAuthUseCase.autocompleteNicknames("a%", 10))
+                    .isInstanceOf(Bang9Exception.class)
+                    .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", INVALID_NICKNAME.getCode());
+            verify(userRepository, never()).autocompleteNicknames(any(), any(), eq(10));
+        }
+    }
+
+    private UpdatedUserView updatedView(String agencyName) {
+        UUID id = testUser.getId();
+        String email = testUser.getEmail();
+        String nickname = updateRequest.nickname();
+        return new UpdatedUserView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+
+            @Override
+            public String getRole() {
+                return UserRole.USER.name();
+            }
+
+            @Override
+            public String getProvider() {
+                return Provider.EMAIL.name();
+            }
+
+            @Override
+            public String getAgencyName() {
+                return agencyName;
+            }
+        };
+    }
+
+    private static UserSummaryView summaryView(String nickname) {
+        UUID id = UUID.randomUUID();
+        return new UserSummaryView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+        };
+    }
+}
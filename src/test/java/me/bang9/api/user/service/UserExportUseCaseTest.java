@@ -0,0 +1,120 @@
+package me.bang9.api.user.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.bang9.api.user.repository.UserExportRepository;
+import me.bang9.api.user.repository.projection.UserExportView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserExportUseCase 서비스 테스트")
+class UserExportUseCaseTest {
+
+    @Mock
+    private UserExportRepository userExportRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserExportUseCase userExportUseCase;
+
+    @BeforeEach
+    void setUp() {
+        userExportUseCase = new UserExportService(userExportRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("조회된 사용자를 한 행에 하나씩 NDJSON 으로 출력")
+    void exportUsers_ShouldWriteOneJsonPerLine() throws Exception {
+        // Given
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        givenUsers(
+                new UserExportView(firstId, "a@example.com", "alpha", "USER", "EMAIL", List.of("가 기관", "나 기관")),
+                new UserExportView(secondId, "b@example.com", "bravo", "USER", "EMAIL", List.of())
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        userExportUseCase.exportUsers(out);
+
+        // Then
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2).allSatisfy(line -> assertThat(line).startsWith("{"));
+
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asText()).isEqualTo(firstId.toString());
+        assertThat(first.get("nickname").asText()).isEqualTo("alpha");
+        assertThat(first.get("agency")).extracting(JsonNode::asText).containsExactly("가 기관", "나 기관");
+        assertThat(objectMapper.readTree(lines.get(1)).get("id").asText()).isEqualTo(secondId.toString());
+    }
+
+    @Test
+    @DisplayName("활성 사용자가 없으면 빈 본문")
+    void exportUsers_ShouldWriteNothing_WhenNoUsers() throws Exception {
+        // Given
+        givenUsers();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        userExportUseCase.exportUsers(out);
+
+        // Then
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("출력 중 연결이 끊기면 IOException 을 그대로 전달")
+    void exportUsers_ShouldPropagateIOException_WhenClientDisconnects() {
+        // Given: 출력 버퍼(약 8KB)를 넘겨 행 기록 도중 전송이 일어나도록 충분한 행 수
+        givenUsers(IntStream.range(0, 1000)
+                .mapToObj(i -> new UserExportView(UUID.randomUUID(), "user" + i + "@example.com", "user" + i, "USER", "EMAIL", List.of()))
+                .toArray(UserExportView[]::new));
+        OutputStream brokenOut = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> userExportUseCase.exportUsers(brokenOut))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+    }
+
+    private void givenUsers(UserExportView... users) {
+        willAnswer(invocation -> {
+            Consumer<UserExportView> consumer = invocation.getArgument(0);
+            for (UserExportView user : users) {
+                consumer.accept(user);
+            }
+            return null;
+        }).given(userExportRepository).streamActiveUsers(any());
+    }
+}
@@ -0,0 +1,118 @@
+package me.bang9.api.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.bang9.api.global.api.exception.Bang9Exception;
+import me.bang9.api.user.model.Provider;
+import me.bang9.api.user.model.UserImportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import static me.bang9.api.global.api.code.status.UserErrorStatus.INVALID_IMPORT_ROW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UserImportReader 테스트")
+class UserImportReaderTest {
+
+    @Test
+    @DisplayName("NDJSON - 형식이 잘못된 행은 오류로 반환하고 다음 행을 계속 읽음")
+    void read_Ndjson_ShouldContinueAfterMalformedRow() throws Exception {
+        // Given
+        UserImportReader reader = reader(UserImportFormat.NDJSON, """
+                {"email": "a@example.com", "password": "password123!", "nickname": "alpha", "provider": "EMAIL"}
+                {"email": "broken"
+
+                {"email": "b@example.com", "password": "password123!", "nickname": "bravo", "provider": "EMAIL"}
+                """);
+
+        // When
+        List<UserImportReader.Row> rows = reader.read(10);
+
+        // Then
+        assertThat(rows).extracting(UserImportReader.Row::line).containsExactly(1, 2, 4);
+        assertThat(rows.get(0).request().nickname()).isEqualTo("alpha");
+        assertThat(rows.get(1).request()).isNull();
+        assertThat(rows.get(1).error()).isEqualTo("Malformed JSON");
+        assertThat(rows.get(2).request().email()).isEqualTo("b@example.com");
+        assertThat(reader.read(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더 순서와 무관하게 매핑하고 따옴표 필드의 쉼표와 \"\" 이스케이프 처리")
+    void read_Csv_ShouldMapColumnsByHeaderAndHandleQuotes() throws Exception {
+        // Given
+        UserImportReader reader = reader(UserImportFormat.CSV, """
+                \uFEFFnickname,email,provider,password
+                alpha,a@example.com,email,"pass,word""1"
+                """);
+
+        // When
+        List<UserImportReader.Row> rows = reader.read(10);
+
+        // Then
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.line()).isEqualTo(2);
+            assertThat(row.request().email()).isEqualTo("a@example.com");
+            assertThat(row.request().nickname()).isEqualTo("alpha");
+            assertThat(row.request().password()).isEqualTo("pass,word\"1");
+            assertThat(row.request().provider()).isEqualTo(Provider.EMAIL);
+        });
+    }
+
+    @Test
+    @DisplayName("CSV - 닫히지 않은 따옴표와 알 수 없는 provider 는 행 오류")
+    void read_Csv_ShouldReportMalformedRows() throws Exception {
+        // Given
+        UserImportReader reader = reader(UserImportFormat.CSV, """
+                email,password,nickname,provider
+                a@example.com,"password123!,alpha,EMAIL
+                b@example.com,password123!,bravo,UNKNOWN
+                """);
+
+        // When
+        List<UserImportReader.Row> rows = reader.read(10);
+
+        // Then
+        assertThat(rows).extracting(UserImportReader.Row::error).containsExactly("Malformed CSV", "Unknown provider");
+    }
+
+    @Test
+    @DisplayName("CSV - 필수 헤더가 없으면 INVALID_IMPORT_ROW")
+    void read_Csv_ShouldFail_WhenHeaderMissingColumns() {
+        // Given
+        UserImportReader reader = reader(UserImportFormat.CSV, """
+                email,password
+                a@example.com,password123!
+                """);
+
+        // When & Then
+        assertThatThrownBy(() -> reader.read(10))
+                .isInstanceOf(Bang9Exception.class)
+                .hasFieldOrPropertyWithValue("errorReasonHttpStatus.code", INVALID_IMPORT_ROW.getCode());
+    }
+
+    @Test
+    @DisplayName("최대 행 수만큼 나누어 읽음")
+    void read_ShouldReturnAtMostMaxRows() throws Exception {
+        // Given
+        UserImportReader reader = reader(UserImportFormat.CSV, """
+                email,password,nickname,provider
+                a@example.com,password123!,alpha,EMAIL
+                b@example.com,password123!,bravo,EMAIL
+                c@example.com,password123!,charlie,EMAIL
+                """);
+
+        // When & Then
+        assertThat(reader.read(2)).extracting(UserImportReader.Row::line).containsExactly(2, 3);
+        assertThat(reader.read(2)).extracting(UserImportReader.Row::line).containsExactly(4);
+        assertThat(reader.read(2)).isEmpty();
+    }
+
+    private static UserImportReader reader(UserImportFormat format, String body) {
+        return new UserImportReader(new BufferedReader(new StringReader(body)), format, new ObjectMapper());
+    }
+}
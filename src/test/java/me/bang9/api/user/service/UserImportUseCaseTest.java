@@ -0,0 +1,257 @@
+package me.bang9.api.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import me.bang9.api.global.api.exception.Bang9Exception;
+import me.bang9.api.global.security.PasswordHasher;
+import me.bang9.api.user.dto.res.UserImportResponse;
+import me.bang9.api.user.dto.res.UserImportResult;
+import me.bang9.api.user.entity.UserEntity;
+import me.bang9.api.user.model.UserImportFormat;
+import me.bang9.api.user.repository.UserJpaRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static me.bang9.api.global.api.code.status.CommonErrorStatus._SERVICE_UNAVAILABLE;
+import static me.bang9.api.global.api.code.status.CommonSuccessStatus._CREATED;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_EMAIL;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.DUPLICATE_NICKNAME;
+import static me.bang9.api.global.api.code.status.UserErrorStatus.INVALID_IMPORT_ROW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserImportUseCase 서비스 테스트")
+class UserImportUseCaseTest {
+
+    private static final String CSV_HEADER = "email,password,nickname,provider\n";
+
+    @Mock
+    private UserJpaRepository userRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    private UserImportUseCase userImportUseCase;
+
+    @BeforeEach
+    void setUp() {
+        userImportUseCase = new UserImportService(
+                userRepository,
+                passwordHasher,
+                new UserResponseCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5), Duration.ofSeconds(30)),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new ObjectMapper(),
+                new NicknameBloomFilter(new SimpleMeterRegistry(), 1_000, 0.01)
+        );
+    }
+
+    @Test
+    @DisplayName("유효한 행은 한 번에 해싱하고 saveAll 1회로 저장")
+    void importUsers_ShouldBatchValidRows() {
+        // Given
+        given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+        given(userRepository.findExistingNicknames(anyCollection())).willReturn(List.of());
+        given(passwordHasher.hashAll(List.of("password123!", "password456!"))).willReturn(List.of("hash1", "hash2"));
+        given(userRepository.saveAll(anyIterable())).willAnswer(UserImportUseCaseTest::assignIds);
+
+        // When
+        UserImportResponse response = userImportUseCase.importUsers(new StringReader(CSV_HEADER + """
+                a@example.com,password123!,alpha,EMAIL
+                b@example.com,password456!,bravo,EMAIL
+                """), UserImportFormat.CSV);
+
+        // Then
+        assertThat(response.total()).isEqualTo(2);
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.results()).allSatisfy(result -> {
+            assertThat(result.success()).isTrue();
+            assertThat(result.code()).isEqualTo(_CREATED.getCode());
+            assertThat(result.userId()).isNotNull();
+        });
+        verify(userRepository, times(1)).saveAll(anyIterable());
+        verify(userRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("검증 실패, 본문 내 중복, 이미 가입된 이메일/닉네임은 해당 행만 실패")
+    void importUsers_ShouldReportInvalidAndDuplicateRows() {
+        // Given
+        given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of("taken@example.com"));
+        given(userRepository.findExistingNicknames(anyCollection())).willReturn(List.of("takenNick"));
+        given(passwordHasher.hashAll(List.of("password123!"))).willReturn(List.of("hash"));
+        given(userRepository.saveAll(anyIterable())).willAnswer(UserImportUseCaseTest::assignIds);
+
+        // When
+        UserImportResponse response = userImportUseCase.importUsers(new StringReader(CSV_HEADER + """
+                a@example.com,password123!,alpha,EMAIL
+                not-an-email,password123!,bravo,EMAIL
+                a@example.com,password123!,charlie,EMAIL
+                c@example.com,password123!,alpha,EMAIL
+                taken@example.com,password123!,delta,EMAIL
+                d@example.com,password123!,takenNick,EMAIL
+                """), UserImportFormat.CSV);
+
+        // Then
+        assertThat(response.total()).isEqualTo(6);
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(5);
+        assertThat(response.results()).extracting(UserImportResult::line).containsExactly(2, 3, 4, 5, 6, 7);
+        assertThat(response.results()).extracting(UserImportResult::code).containsExactly(
+                _CREATED.getCode(),
+                INVALID_IMPORT_ROW.getCode(),
+                DUPLICATE_EMAIL.getCode(),
+                DUPLICATE_NICKNAME.getCode(),
+                DUPLICATE_EMAIL.getCode(),
+                DUPLICATE_NICKNAME.getCode()
+        );
+        assertThat(response.results().get(1).message()).isEqualTo("Invalid email format");
+    }
+
+    @Test
+    @DisplayName("배치 저장이 제약 조건 위반으로 실패하면 행 단위로 다시 저장하여 충돌한 행만 실패")
+    void importUsers_ShouldFallBackToRowByRow_WhenBatchConflicts() {
+        // Given
+        given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+        given(userRepository.findExistingNicknames(anyCollection())).willReturn(List.of());
+        given(passwordHasher.hashAll(anyList())).willReturn(List.of("hash1", "hash2"));
+        DataIntegrityViolationException conflict = new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException("duplicate key", "23505"), "uc_user_email"));
+        given(userRepository.saveAll(anyIterable())).willThrow(conflict);
+        given(userRepository.saveAndFlush(any(UserEntity.class))).willAnswer(invocation -> {
+            UserEntity user = invocation.getArgument(0);
+            if (user.getEmail().equals("raced@example.com")) {
+                throw conflict;
+            }
+            user.setId(UUID.randomUUID());
+            return user;
+        });
+
+        // When
+        UserImportResponse response = userImportUseCase.importUsers(new StringReader("""
+                {"email": "raced@example.com", "password": "password123!", "nickname": "raced", "provider": "EMAIL"}
+                {"email": "ok@example.com", "password": "password123!", "nickname": "okay", "provider": "EMAIL"}
+                """), UserImportFormat.NDJSON);
+
+        // Then
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.results()).extracting(UserImportResult::code)
+                .containsExactly(DUPLICATE_EMAIL.getCode(), _CREATED.getCode());
+        verify(userRepository, times(2)).saveAndFlush(any(UserEntity.class));
+    }
+
+    @Test
+    @DisplayName("형식 오류 행만 있으면 DB 조회/해싱 없이 결과 반환")
+    void importUsers_ShouldSkipDatabase_WhenNoValidRows() {
+        // When
+        UserImportResponse response = userImportUseCase.importUsers(
+                new StringReader("{\"email\": \"broken\"\n"), UserImportFormat.NDJSON);
+
+        // Then
+        assertThat(response.total()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(1);
+        assertThat(response.results().getFirst().message()).isEqualTo("Malformed JSON");
+        verify(passwordHasher, never()).hashAll(anyList());
+        verify(userRepository, never()).findExistingEmails(any());
+    }
+
+    @Test
+    @DisplayName("두 번째 청크의 해싱이 503으로 실패하면 중단하고 첫 청크 결과를 포함한 부분 결과 반환")
+    void importUsers_ShouldReturnPartialResult_WhenHashingFailsAfterFirstChunk() {
+        // Given: 청크 크기(500)보다 많은 600행
+        given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+        given(userRepository.findExistingNicknames(anyCollection())).willReturn(List.of());
+        given(passwordHasher.hashAll(anyList()))
+                .willAnswer(UserImportUseCaseTest::hashes)
+                .willThrow(new Bang9Exception(_SERVICE_UNAVAILABLE));
+        given(userRepository.saveAll(anyIterable())).willAnswer(UserImportUseCaseTest::assignIds);
+
+        // When
+        UserImportResponse response = userImportUseCase.importUsers(new StringReader(csvRows(600)), UserImportFormat.CSV);
+
+        // Then
+        assertThat(response.aborted()).isTrue();
+        assertThat(response.total()).isEqualTo(600);
+        assertThat(response.created()).isEqualTo(500);
+        assertThat(response.results().subList(500, 600)).allSatisfy(result -> {
+            assertThat(result.success()).isFalse();
+            assertThat(result.code()).isEqualTo(_SERVICE_UNAVAILABLE.getCode());
+        });
+        verify(userRepository, times(1)).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("첫 청크 이후 본문 읽기가 실패하면 중단하고 읽은 행까지의 부분 결과 반환")
+    void importUsers_ShouldReturnPartialResult_WhenBodyReadFailsAfterFirstChunk() {
+        // Given: 본문 끝에서 연결이 끊기는 요청
+        given(userRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+        given(userRepository.findExistingNicknames(anyCollection())).willReturn(List.of());
+        given(passwordHasher.hashAll(anyList())).willAnswer(UserImportUseCaseTest::hashes);
+        given(userRepository.saveAll(anyIterable())).willAnswer(UserImportUseCaseTest::assignIds);
+        Reader body = new FilterReader(new StringReader(csvRows(600))) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read < 0) {
+                    throw new IOException("Connection reset");
+                }
+                return read;
+            }
+        };
+
+        // When
+        UserImportResponse response = userImportUseCase.importUsers(body, UserImportFormat.CSV);
+
+        // Then
+        assertThat(response.aborted()).isTrue();
+        assertThat(response.total()).isEqualTo(500);
+        assertThat(response.created()).isEqualTo(500);
+    }
+
+    private static String csvRows(int count) {
+        StringBuilder csv = new StringBuilder(CSV_HEADER);
+        for (int i = 0; i < count; i++) {
+            csv.append("user").append(i).append("@example.com,password123!,nick").append(i).append(",EMAIL\n");
+        }
+        return csv.toString();
+    }
+
+    private static List<String> hashes(InvocationOnMock invocation) {
+        List<String> rawPasswords = invocation.getArgument(0);
+        return rawPasswords.stream().map(rawPassword -> "hash").toList();
+    }
+
+    private static List<UserEntity> assignIds(InvocationOnMock invocation) {
+        List<UserEntity> users = invocation.getArgument(0);
+        users.forEach(user -> user.setId(UUID.randomUUID()));
+        return users;
+    }
+}